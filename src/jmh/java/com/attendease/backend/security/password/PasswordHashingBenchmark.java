@@ -0,0 +1,49 @@
+package com.attendease.backend.security.password;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares BCrypt throughput across cost factors, on one thread and on every core.
+ * <p>
+ * Run with {@code ./gradlew jmh}. The per-core score multiplied by the hashing pool parallelism
+ * approximates how many accounts per second a CSV import can create at that strength.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordHashingBenchmark {
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String hashSingleThread() {
+        return passwordEncoder.encode("Student#2025");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String hashAllCores() {
+        return passwordEncoder.encode("Student#2025");
+    }
+}
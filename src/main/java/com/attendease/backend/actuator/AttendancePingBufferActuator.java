@@ -0,0 +1,27 @@
+package com.attendease.backend.actuator;
+
+import com.attendease.backend.student.service.location.tracking.buffer.AttendancePingWriteBehindBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "attendance-ping-buffer")
+@RequiredArgsConstructor
+public class AttendancePingBufferActuator {
+
+	private final AttendancePingWriteBehindBuffer attendancePingWriteBehindBuffer;
+
+	@ReadOperation
+	public Map<String, Object> pingBufferStatus() {
+		Map<String, Object> result = new HashMap<>();
+		result.put("queued", attendancePingWriteBehindBuffer.getQueuedCount());
+		result.put("retried", attendancePingWriteBehindBuffer.getRetriedCount());
+		result.put("dropped", attendancePingWriteBehindBuffer.getDroppedCount());
+		return result;
+	}
+}
@@ -1,5 +1,8 @@
 package com.attendease.backend.actuator;
 
+import com.attendease.backend.client.biometrics.breaker.FacialServiceCircuitBreaker;
+import com.attendease.backend.client.biometrics.bulkhead.FacialServiceBulkhead;
+import com.attendease.backend.repository.biometrics.PendingFaceVerificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +21,9 @@ import java.util.Map;
 public class FacialServiceHealthActuator {
 
 	private final RestTemplate restTemplate;
+	private final FacialServiceCircuitBreaker circuitBreaker;
+	private final FacialServiceBulkhead bulkhead;
+	private final PendingFaceVerificationRepository pendingFaceVerificationRepository;
 
 	@Value("${extract.multiple.facial.encoding.endpoint}")
 	private String facialServiceEndpoint;
@@ -42,6 +48,12 @@ public class FacialServiceHealthActuator {
 			result.put("error", e.getMessage());
 		}
 
+		result.put("circuit_breaker", circuitBreaker.snapshot());
+		result.put("bulkhead", Map.of(
+				"available_permits", bulkhead.getAvailablePermits(),
+				"max_concurrent_calls", bulkhead.getMaxConcurrentCalls()));
+		result.put("pending_verifications", pendingFaceVerificationRepository.count());
+
 		return result;
 	}
 }
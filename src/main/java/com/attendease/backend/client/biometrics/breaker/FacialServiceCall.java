@@ -0,0 +1,10 @@
+package com.attendease.backend.client.biometrics.breaker;
+
+/**
+ * The facial service endpoints called through the bulkhead, each with its own slow-call threshold.
+ */
+public enum FacialServiceCall {
+    EXTRACT_SINGLE,
+    VERIFY,
+    EXTRACT_MULTIPLE
+}
@@ -0,0 +1,278 @@
+package com.attendease.backend.client.biometrics.breaker;
+
+import com.attendease.backend.exceptions.domain.Biometrics.FacialRecognitionServiceException;
+import com.attendease.backend.exceptions.domain.Biometrics.FacialServiceCircuitOpenException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker around the calls to the facial recognition service.
+ * <p>
+ * The outcome of the last {@code window-size} calls is kept in a ring buffer. Once at least {@code minimum-calls}
+ * are recorded, the breaker opens when the share of failed calls reaches {@code failure-rate-threshold} percent or
+ * the share of slow calls reaches {@code slow-call-rate-threshold} percent. A call is slow when it takes at least the
+ * {@code slow-call-duration} threshold of its {@link FacialServiceCall}: check-in extractions and verifications are
+ * held to a few seconds, while multi-image enrolment, whose normal latency is much higher, has its own threshold.
+ * A failure is a {@link FacialRecognitionServiceException} other than a 4xx answer: the service being unreachable,
+ * timing out or failing with 5xx.
+ * </p>
+ * <p>
+ * While open, calls are rejected at once with {@link FacialServiceCircuitOpenException} instead of waiting on a
+ * socket. After {@code open-duration-ms} the breaker lets {@code half-open-calls} trial calls through: it closes
+ * once all of them succeed in time and opens again on the first failed or slow one.
+ * </p>
+ * <p>
+ * Every permission is tagged with the state period it was granted in, and an outcome only counts in that same
+ * period: a call still in flight when the breaker opened is not taken as a trial call, nor does it count towards
+ * the window after the breaker closed again.
+ * </p>
+ */
+@Slf4j
+@Component
+public class FacialServiceCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Permission to make one call, tagged with the state period it was granted in.
+     */
+    public record Permission(long period, FacialServiceCall call) {
+    }
+
+    @Value("${facial.client.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${facial.client.circuit-breaker.slow-call-rate-threshold:80}")
+    private int slowCallRateThreshold;
+
+    @Value("${facial.client.circuit-breaker.slow-call-duration.extract-single-ms:3000}")
+    private long extractSingleSlowCallMs;
+
+    @Value("${facial.client.circuit-breaker.slow-call-duration.verify-ms:1500}")
+    private long verifySlowCallMs;
+
+    @Value("${facial.client.circuit-breaker.slow-call-duration.extract-multiple-ms:45000}")
+    private long extractMultipleSlowCallMs;
+
+    @Value("${facial.client.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${facial.client.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${facial.client.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${facial.client.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private long period;
+    private long openedAtMillis;
+    private long stateChangedAtMillis = System.currentTimeMillis();
+
+    private boolean[] failedCalls;
+    private boolean[] slowCalls;
+    private int next;
+    private int recordedCalls;
+    private int failureCount;
+    private int slowCount;
+
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    @PostConstruct
+    public void start() {
+        failedCalls = new boolean[windowSize];
+        slowCalls = new boolean[windowSize];
+        log.info("Facial service circuit breaker started (window: {}, failure rate: {}%, slow call rate: {}% over {}, open for {} ms)",
+                windowSize, failureRateThreshold, slowCallRateThreshold, slowCallDurations(), openDurationMs);
+    }
+
+    /**
+     * Lets a call through, or rejects it while the breaker is open or all trial calls are taken.
+     *
+     * @return the permission to pass back with the outcome of the call
+     * @throws FacialServiceCircuitOpenException if the call is not permitted
+     */
+    public synchronized Permission acquirePermission(FacialServiceCall call) {
+        if (state == State.OPEN) {
+            long remainingMs = openedAtMillis + openDurationMs - System.currentTimeMillis();
+            if (remainingMs > 0) {
+                throw openException(remainingMs);
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                throw openException(openDurationMs);
+            }
+            halfOpenPermits--;
+        }
+        return new Permission(period, call);
+    }
+
+    /**
+     * Gives back a permission whose call never reached the service, e.g. because the bulkhead was full.
+     */
+    public synchronized void releasePermission(Permission permission) {
+        if (state == State.HALF_OPEN && permission.period() == period) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * Records the outcome of a permitted call; {@code error} is {@code null} if the call succeeded.
+     * Outcomes of calls permitted before the last state change are ignored.
+     */
+    public synchronized void record(Permission permission, long durationNanos, Throwable error) {
+        if (permission.period() != period) {
+            log.debug("Ignoring outcome of a facial service call permitted before the circuit breaker became {}", state);
+            return;
+        }
+        boolean failed = isServiceFailure(error);
+        boolean slow = TimeUnit.NANOSECONDS.toMillis(durationNanos) >= slowCallDurationMs(permission.call());
+
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                log.warn("Facial service trial call {}, reopening circuit breaker", failed ? "failed" : "was slow");
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (recordedCalls == windowSize) {
+            failureCount -= failedCalls[next] ? 1 : 0;
+            slowCount -= slowCalls[next] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        failedCalls[next] = failed;
+        slowCalls[next] = slow;
+        failureCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        next = (next + 1) % windowSize;
+
+        if (recordedCalls >= minimumCalls
+                && (failureRate() >= failureRateThreshold || slowCallRate() >= slowCallRateThreshold)) {
+            log.warn("Opening facial service circuit breaker (failure rate: {}%, slow call rate: {}% over {} calls)",
+                    failureRate(), slowCallRate(), recordedCalls);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Tells whether a call would currently be let through, without taking a permission.
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> System.currentTimeMillis() - openedAtMillis >= openDurationMs;
+            case HALF_OPEN -> halfOpenPermits > 0;
+        };
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Current state and window metrics, as exposed on the {@code facial-service} actuator endpoint.
+     */
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("state", state);
+        snapshot.put("since", Instant.ofEpochMilli(stateChangedAtMillis));
+        snapshot.put("bufferedCalls", recordedCalls);
+        snapshot.put("failureRatePercent", failureRate());
+        snapshot.put("slowCallRatePercent", slowCallRate());
+        snapshot.put("failureRateThresholdPercent", failureRateThreshold);
+        snapshot.put("slowCallRateThresholdPercent", slowCallRateThreshold);
+        snapshot.put("slowCallDurationMs", slowCallDurations());
+        if (state == State.OPEN) {
+            snapshot.put("retryAt", Instant.ofEpochMilli(openedAtMillis + openDurationMs));
+        }
+        return snapshot;
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private long slowCallDurationMs(FacialServiceCall call) {
+        return switch (call) {
+            case EXTRACT_SINGLE -> extractSingleSlowCallMs;
+            case VERIFY -> verifySlowCallMs;
+            case EXTRACT_MULTIPLE -> extractMultipleSlowCallMs;
+        };
+    }
+
+    private Map<FacialServiceCall, Long> slowCallDurations() {
+        Map<FacialServiceCall, Long> durations = new EnumMap<>(FacialServiceCall.class);
+        for (FacialServiceCall call : FacialServiceCall.values()) {
+            durations.put(call, slowCallDurationMs(call));
+        }
+        return durations;
+    }
+
+    private boolean isServiceFailure(Throwable error) {
+        return error instanceof FacialRecognitionServiceException && !(error.getCause() instanceof HttpClientErrorException);
+    }
+
+    private int failureRate() {
+        return recordedCalls == 0 ? 0 : failureCount * 100 / recordedCalls;
+    }
+
+    private int slowCallRate() {
+        return recordedCalls == 0 ? 0 : slowCount * 100 / recordedCalls;
+    }
+
+    private void transitionTo(State newState) {
+        log.info("Facial service circuit breaker {} -> {}", state, newState);
+        state = newState;
+        period++;
+        stateChangedAtMillis = System.currentTimeMillis();
+        switch (newState) {
+            case OPEN -> openedAtMillis = stateChangedAtMillis;
+            case HALF_OPEN -> {
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        Arrays.fill(failedCalls, false);
+        Arrays.fill(slowCalls, false);
+        next = 0;
+        recordedCalls = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+
+    private FacialServiceCircuitOpenException openException(long retryAfterMs) {
+        return new FacialServiceCircuitOpenException(
+                "Facial recognition service is temporarily unavailable. Please try again later.",
+                Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMs)));
+    }
+}
@@ -0,0 +1,144 @@
+package com.attendease.backend.client.biometrics.bulkhead;
+
+import com.attendease.backend.client.biometrics.breaker.FacialServiceCall;
+import com.attendease.backend.client.biometrics.breaker.FacialServiceCircuitBreaker;
+import com.attendease.backend.exceptions.domain.Biometrics.FacialServiceBusyException;
+import com.attendease.backend.exceptions.domain.Biometrics.FacialServiceCircuitOpenException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of concurrent calls to the facial recognition service.
+ * <p>
+ * A call takes one of {@code max-concurrent-calls} permits, waiting at most {@code max-wait-ms} for one, and is
+ * rejected with {@link FacialServiceBusyException} (HTTP 503) otherwise. When the service slows down, excess
+ * check-ins fail fast instead of piling up on request threads until Tomcat runs out of them.
+ * </p>
+ * <p>
+ * Asynchronous calls run on a pool with one thread per permit; the permit is taken by the caller before the call
+ * is handed to the pool, so queued work is bounded by the same limit.
+ * </p>
+ * <p>
+ * Every call first asks the {@link FacialServiceCircuitBreaker} for permission and reports its outcome and
+ * duration back to it, so an unhealthy service is not called at all until it had time to recover.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FacialServiceBulkhead {
+
+    private final FacialServiceCircuitBreaker circuitBreaker;
+
+    @Value("${facial.client.bulkhead.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+
+    @Value("${facial.client.bulkhead.max-wait-ms:500}")
+    private long maxWaitMs;
+
+    private Semaphore permits;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        permits = new Semaphore(maxConcurrentCalls, true);
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(maxConcurrentCalls, runnable -> {
+            Thread thread = new Thread(runnable, "facial-client-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Facial service bulkhead started (max concurrent calls: {}, max wait: {} ms)", maxConcurrentCalls, maxWaitMs);
+    }
+
+    /**
+     * Runs the call on the current thread once a permit is available.
+     *
+     * @throws FacialServiceCircuitOpenException if the circuit breaker does not permit the call
+     * @throws FacialServiceBusyException if no permit became available within {@code max-wait-ms}
+     */
+    public <T> T execute(FacialServiceCall endpoint, Supplier<T> call) {
+        FacialServiceCircuitBreaker.Permission permission = acquire(endpoint);
+        try {
+            return measured(permission, call);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Takes a permit on the current thread and runs the call on the bulkhead's pool.
+     *
+     * @throws FacialServiceCircuitOpenException if the circuit breaker does not permit the call
+     * @throws FacialServiceBusyException if no permit became available within {@code max-wait-ms}
+     */
+    public <T> CompletableFuture<T> submit(FacialServiceCall endpoint, Supplier<T> call) {
+        FacialServiceCircuitBreaker.Permission permission = acquire(endpoint);
+        try {
+            return CompletableFuture.supplyAsync(() -> measured(permission, call), executor)
+                    .whenComplete((result, error) -> permits.release());
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            circuitBreaker.releasePermission(permission);
+            throw new FacialServiceBusyException("Facial recognition is shutting down. Please try again later.");
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private FacialServiceCircuitBreaker.Permission acquire(FacialServiceCall endpoint) {
+        FacialServiceCircuitBreaker.Permission permission = circuitBreaker.acquirePermission(endpoint);
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                circuitBreaker.releasePermission(permission);
+                log.warn("Facial service bulkhead full ({} concurrent calls), rejecting call", maxConcurrentCalls);
+                throw new FacialServiceBusyException("Facial recognition is busy. Please try again in a few seconds.");
+            }
+            return permission;
+        } catch (InterruptedException e) {
+            circuitBreaker.releasePermission(permission);
+            Thread.currentThread().interrupt();
+            throw new FacialServiceBusyException("Interrupted while waiting for the facial recognition service.");
+        }
+    }
+
+    private <T> T measured(FacialServiceCircuitBreaker.Permission permission, Supplier<T> call) {
+        long started = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.record(permission, System.nanoTime() - started, null);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.record(permission, System.nanoTime() - started, e);
+            throw e;
+        }
+    }
+}
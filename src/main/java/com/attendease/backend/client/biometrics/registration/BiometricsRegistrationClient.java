@@ -2,7 +2,10 @@ package com.attendease.backend.client.biometrics.registration;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import com.attendease.backend.client.biometrics.breaker.FacialServiceCall;
+import com.attendease.backend.client.biometrics.bulkhead.FacialServiceBulkhead;
 import com.attendease.backend.exceptions.domain.Biometrics.FacialRecognitionServiceException;
 import com.attendease.backend.exceptions.domain.Biometrics.Registration.BiometricProcessingException;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +32,7 @@ import com.attendease.backend.domain.biometrics.Registration.Response.Biometrics
 public class BiometricsRegistrationClient {
 
     private final RestTemplate restTemplate;
+    private final FacialServiceBulkhead facialServiceBulkhead;
 
     /**
      * Endpoint URL for extracting multiple facial encodings from images.
@@ -47,6 +51,19 @@ public class BiometricsRegistrationClient {
         log.info("Total upload size: {} MB ({} bytes)", totalSize / (1024 * 1024), totalSize);
         MultiValueMap<String, Object> body = buildMultipartBody(images);
         HttpEntity<MultiValueMap<String, Object>> requestEntity = createRequestEntity(body);
+        return facialServiceBulkhead.execute(FacialServiceCall.EXTRACT_MULTIPLE, () -> requestFacialEncodings(requestEntity));
+    }
+
+    /**
+     * Asynchronous variant of {@link #extractFacialEncodings(List)}. The images are read on the calling thread,
+     * since the uploads may be cleaned up once the request ends; the call itself runs on the bulkhead's pool.
+     */
+    public CompletableFuture<BiometricsRegistrationResponse> extractFacialEncodingsAsync(List<MultipartFile> images) throws IOException {
+        HttpEntity<MultiValueMap<String, Object>> requestEntity = createRequestEntity(buildMultipartBody(images));
+        return facialServiceBulkhead.submit(FacialServiceCall.EXTRACT_MULTIPLE, () -> requestFacialEncodings(requestEntity));
+    }
+
+    private BiometricsRegistrationResponse requestFacialEncodings(HttpEntity<MultiValueMap<String, Object>> requestEntity) {
         try {
             log.info("Sending request to facial service...");
             ResponseEntity<BiometricsRegistrationResponse> response = restTemplate.postForEntity(
@@ -64,7 +81,7 @@ public class BiometricsRegistrationClient {
         } catch (HttpClientErrorException e) {
             log.error("Facial recognition service returned client error ({}): ", e.getStatusCode());
             log.error("CLIENT ERROR Target URL was: {}", extractMultipleFacialEncoding);
-            throw new FacialRecognitionServiceException(e.getResponseBodyAsString());
+            throw new FacialRecognitionServiceException(e.getResponseBodyAsString(), e);
         } catch (HttpServerErrorException e) {
             log.error("Facial recognition service returned server error ({}): ", e.getStatusCode());
             log.error("SERVICE ERROR Target URL was: {}", extractMultipleFacialEncoding);
@@ -1,12 +1,15 @@
 package com.attendease.backend.client.biometrics.verification;
 
+import com.attendease.backend.client.biometrics.breaker.FacialServiceCall;
+import com.attendease.backend.client.biometrics.bulkhead.FacialServiceBulkhead;
 import com.attendease.backend.domain.biometrics.Verification.Response.BiometricsVerificationResponse;
 import com.attendease.backend.domain.biometrics.Verification.Response.EventRegistrationBiometricsVerificationResponse;
 import com.attendease.backend.domain.biometrics.Verification.Request.BiometricsVerificationRequest;
 import com.attendease.backend.exceptions.domain.Biometrics.FacialRecognitionServiceException;
+import com.attendease.backend.exceptions.domain.Biometrics.FacialServiceBusyException;
 import com.attendease.backend.exceptions.domain.Biometrics.Registration.BiometricProcessingException;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +35,7 @@ import java.io.IOException;
 public class BiometricsVerificationClient {
 
     private final RestTemplate restTemplate;
+    private final FacialServiceBulkhead facialServiceBulkhead;
 
     /**
      * Endpoint used to extract a single facial encoding from an uploaded image file.
@@ -54,20 +58,85 @@ public class BiometricsVerificationClient {
      * @return EventRegistrationBiometricsVerificationResponse containing the facial encoding
      * @throws BiometricProcessingException if face detection fails
      * @throws FacialRecognitionServiceException if the external service is unavailable
+     * @throws FacialServiceBusyException if all call slots to the facial service are taken
      */
     public EventRegistrationBiometricsVerificationResponse extractFaceEncoding(MultipartFile imageFile) {
+        byte[] image = readImage(imageFile);
+        return facialServiceBulkhead.execute(FacialServiceCall.EXTRACT_SINGLE, () -> requestFaceEncoding(image, imageFile.getOriginalFilename()));
+    }
+
+    /**
+     * Extracts facial encoding from an image that was already read, e.g. one queued for deferred verification.
+     *
+     * @param image the image bytes
+     * @param fileName the original file name of the image
+     * @return EventRegistrationBiometricsVerificationResponse containing the facial encoding
+     * @throws BiometricProcessingException if face detection fails
+     * @throws FacialRecognitionServiceException if the external service is unavailable
+     */
+    public EventRegistrationBiometricsVerificationResponse extractFaceEncoding(byte[] image, String fileName) {
+        return facialServiceBulkhead.execute(FacialServiceCall.EXTRACT_SINGLE, () -> requestFaceEncoding(image, fileName));
+    }
+
+    /**
+     * Asynchronous variant of {@link #extractFaceEncoding(MultipartFile)}. The image is read on the calling thread,
+     * since the upload may be cleaned up once the request ends; the call itself runs on the bulkhead's pool.
+     *
+     * @throws FacialServiceBusyException if all call slots to the facial service are taken
+     */
+    public CompletableFuture<EventRegistrationBiometricsVerificationResponse> extractFaceEncodingAsync(MultipartFile imageFile) {
+        byte[] image = readImage(imageFile);
+        return facialServiceBulkhead.submit(FacialServiceCall.EXTRACT_SINGLE, () -> requestFaceEncoding(image, imageFile.getOriginalFilename()));
+    }
+
+    /**
+     * Verifies two facial encodings to determine whether they match.
+     *
+     * @param uploadedEncoding the facial encoding from the uploaded image
+     * @param referenceEncoding the reference facial encoding from the database
+     * @return BiometricsVerificationResponse containing verification result
+     * @throws BiometricProcessingException if verification fails
+     * @throws FacialRecognitionServiceException if the external service is unavailable
+     */
+    public BiometricsVerificationResponse verifyFace(float[] uploadedEncoding, float[] referenceEncoding) {
+        return facialServiceBulkhead.execute(FacialServiceCall.VERIFY, () -> requestVerification(uploadedEncoding, referenceEncoding));
+    }
+
+    /**
+     * Asynchronous variant of {@link #verifyFace(float[], float[])}, run on the bulkhead's pool.
+     *
+     * @throws FacialServiceBusyException if all call slots to the facial service are taken
+     */
+    public CompletableFuture<BiometricsVerificationResponse> verifyFaceAsync(float[] uploadedEncoding, float[] referenceEncoding) {
+        return facialServiceBulkhead.submit(FacialServiceCall.VERIFY, () -> requestVerification(uploadedEncoding, referenceEncoding));
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private byte[] readImage(MultipartFile imageFile) {
+        try {
+            return imageFile.getBytes();
+        } catch (IOException e) {
+            log.error("Failed to read image file: {}", e.getMessage());
+            throw new BiometricProcessingException("Failed to read uploaded image file");
+        }
+    }
+
+    private EventRegistrationBiometricsVerificationResponse requestFaceEncoding(byte[] image, String fileName) {
         try {
-            log.info("Extracting face encoding from uploaded file: {}", imageFile.getOriginalFilename());
+            log.info("Extracting face encoding from uploaded file: {}", fileName);
             log.debug("Target URL extractSingleFaceEncoding: {}", extractSingleFaceEncoding);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            ByteArrayResource fileResource = new ByteArrayResource(imageFile.getBytes()) {
+            ByteArrayResource fileResource = new ByteArrayResource(image) {
                 @Override
                 public String getFilename() {
-                    return imageFile.getOriginalFilename();
+                    return fileName;
                 }
             };
             body.add("file", fileResource);
@@ -90,10 +159,6 @@ public class BiometricsVerificationClient {
             log.error("Failed to extract face encoding - Status: {}", response.getStatusCode());
             throw new BiometricProcessingException("Failed to extract face encoding from image");
 
-        } catch (IOException e) {
-            log.error("Failed to read image file: {}", e.getMessage());
-            throw new BiometricProcessingException("Failed to read uploaded image file");
-
         } catch (HttpClientErrorException e) {
             log.error("Client error while extracting face encoding: Status {}, Body: {}",
                     e.getStatusCode(), e.getResponseBodyAsString());
@@ -120,16 +185,7 @@ public class BiometricsVerificationClient {
         }
     }
 
-    /**
-     * Verifies two facial encodings to determine whether they match.
-     *
-     * @param uploadedEncoding the facial encoding from the uploaded image
-     * @param referenceEncoding the reference facial encoding from the database
-     * @return BiometricsVerificationResponse containing verification result
-     * @throws BiometricProcessingException if verification fails
-     * @throws FacialRecognitionServiceException if the external service is unavailable
-     */
-    public BiometricsVerificationResponse verifyFace(List<Float> uploadedEncoding, List<Float> referenceEncoding) {
+    private BiometricsVerificationResponse requestVerification(float[] uploadedEncoding, float[] referenceEncoding) {
         try {
             log.info("Verifying face encodings");
             log.debug("Target URL verifyFacialAuthentication: {}", verifyFacialAuthentication);
@@ -185,7 +241,6 @@ public class BiometricsVerificationClient {
         }
     }
 
-
     private String parseErrorMessage(String responseBody) {
         try {
             if (responseBody != null && responseBody.contains("detail")) {
@@ -1,9 +1,12 @@
 package com.attendease.backend.configurations;
 
+import com.attendease.backend.configurations.jackson.LazyLoadingProxySerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
 
 @Configuration
 public class JacksonConfig {
@@ -12,6 +15,7 @@ public class JacksonConfig {
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new SimpleModule("LazyReferences").addSerializer(LazyLoadingProxy.class, new LazyLoadingProxySerializer()));
         return mapper;
     }
 }
@@ -1,14 +1,126 @@
 package com.attendease.backend.configurations;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * HTTP client used to call the facial recognition service.
+ * <p>
+ * Requests share a pool of kept-alive connections instead of opening a new TCP connection per call. Every
+ * facial endpoint has its own read timeout, so a slow extraction cannot hold a request thread longer than that
+ * endpoint needs; other URLs use {@code default-read-timeout-ms}.
+ * </p>
+ */
+@Slf4j
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${facial.client.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${facial.client.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${facial.client.http.connection-request-timeout-ms:1000}")
+    private long connectionRequestTimeoutMs;
+
+    @Value("${facial.client.http.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Value("${facial.client.http.default-read-timeout-ms:10000}")
+    private long defaultReadTimeoutMs;
+
+    @Value("${extract.single.facial.encoding.endpoint}")
+    private String extractSingleFaceEncodingEndpoint;
+
+    @Value("${facial.client.timeouts.extract-single-ms:5000}")
+    private long extractSingleTimeoutMs;
+
+    @Value("${facial.verification.endpoint}")
+    private String verifyFaceEndpoint;
+
+    @Value("${facial.client.timeouts.verify-ms:3000}")
+    private long verifyTimeoutMs;
+
+    @Value("${extract.multiple.facial.encoding.endpoint}")
+    private String extractMultipleFaceEncodingsEndpoint;
+
+    @Value("${facial.client.timeouts.extract-multiple-ms:60000}")
+    private long extractMultipleTimeoutMs;
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+        Map<String, Timeout> readTimeouts = Map.of(
+                pathOf(extractSingleFaceEncodingEndpoint), Timeout.ofMilliseconds(extractSingleTimeoutMs),
+                pathOf(verifyFaceEndpoint), Timeout.ofMilliseconds(verifyTimeoutMs),
+                pathOf(extractMultipleFaceEncodingsEndpoint), Timeout.ofMilliseconds(extractMultipleTimeoutMs));
+        Timeout defaultReadTimeout = Timeout.ofMilliseconds(defaultReadTimeoutMs);
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((HttpMethod method, URI uri) ->
+                contextWithReadTimeout(readTimeouts.getOrDefault(uri.getPath(), defaultReadTimeout)));
+        log.info("Pooled REST client configured (max connections: {}, read timeouts: {})", maxConnections, readTimeouts);
+        return new RestTemplate(requestFactory);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(defaultReadTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(defaultReadTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private HttpContext contextWithReadTimeout(Timeout readTimeout) {
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                .setResponseTimeout(readTimeout)
+                .build());
+        return context;
+    }
+
+    private String pathOf(String endpoint) {
+        return URI.create(endpoint).getPath();
     }
 }
@@ -0,0 +1,24 @@
+package com.attendease.backend.configurations.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
+
+/**
+ * Serializes a lazy {@code @DBRef} proxy as the entity it points to, so that entities returned by the
+ * API keep the same JSON shape as when their references were loaded eagerly.
+ */
+public class LazyLoadingProxySerializer extends JsonSerializer<LazyLoadingProxy> {
+
+    @Override
+    public void serialize(LazyLoadingProxy proxy, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        Object target = proxy.getTarget();
+        if (target == null) {
+            provider.defaultSerializeNull(generator);
+        } else {
+            provider.defaultSerializeValue(target, generator);
+        }
+    }
+}
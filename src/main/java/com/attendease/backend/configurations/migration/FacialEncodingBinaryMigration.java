@@ -0,0 +1,83 @@
+package com.attendease.backend.configurations.migration;
+
+import com.attendease.backend.domain.biometrics.BiometricData;
+import com.attendease.backend.domain.biometrics.encoding.FacialEncodings;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBinarySubType;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Rewrites facial encodings stored as BSON arrays of doubles into the packed float32 {@link Binary} form.
+ * <p>
+ * Runs on startup, only reads documents whose encoding is still an array, writes them in bulk batches of
+ * {@code batch-size} and can be disabled with {@code attendance.migration.facial-encodings.enabled}.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class FacialEncodingBinaryMigration {
+
+    private static final String FIELD = "facialEncoding";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${attendance.migration.facial-encodings.enabled:true}")
+    private boolean enabled;
+
+    @Value("${attendance.migration.facial-encodings.batch-size:500}")
+    private int batchSize;
+
+    @PostConstruct
+    public void packFacialEncodings() {
+        if (!enabled) {
+            return;
+        }
+
+        String collection = mongoTemplate.getCollectionName(BiometricData.class);
+        Query query = Query.query(Criteria.where(FIELD).type(4));
+        query.fields().include(FIELD);
+        query.cursorBatchSize(batchSize);
+
+        long migrated = 0;
+        BulkOperations operations = null;
+        int pending = 0;
+        try (Stream<Document> stream = mongoTemplate.stream(query, Document.class, collection)) {
+            Iterator<Document> documents = stream.iterator();
+            while (documents.hasNext()) {
+                Document document = documents.next();
+                float[] encoding = FacialEncodings.fromNumbers(document.getList(FIELD, Number.class));
+                if (operations == null) {
+                    operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                }
+                operations.updateOne(
+                        Query.query(Criteria.where("_id").is(document.get("_id")).and(FIELD).type(4)),
+                        Update.update(FIELD, new Binary(BsonBinarySubType.BINARY, FacialEncodings.pack(encoding))));
+                if (++pending == batchSize) {
+                    migrated += operations.execute().getModifiedCount();
+                    operations = null;
+                    pending = 0;
+                }
+            }
+        }
+        if (operations != null) {
+            migrated += operations.execute().getModifiedCount();
+        }
+        if (migrated > 0) {
+            log.info("Packed {} facial encodings in {} into float32 binaries", migrated, collection);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.attendease.backend.configurations.migration;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import com.attendease.backend.domain.student.Students;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Backfills the denormalized reference IDs that let lazily referenced documents be queried and
+ * hydrated without resolving their {@code @DBRef}s.
+ * <p>
+ * Copies the {@code $id} of each reference into its ID field ({@code student.userId},
+ * {@code student.currentSectionId}, {@code attendance_records.eventLocationId} and
+ * {@code attendance_records.academicYearId}) wherever the field is missing. Runs on startup, only touches
+ * documents that still need it and can be disabled with {@code attendance.migration.reference-ids.enabled}.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ReferenceIdBackfillMigration {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${attendance.migration.reference-ids.enabled:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    public void backfillReferenceIds() {
+        if (!enabled) {
+            return;
+        }
+        backfill(Students.class, "user", "userId");
+        backfill(Students.class, "section", "currentSectionId");
+        backfill(AttendanceRecords.class, "location", "eventLocationId");
+        backfill(AttendanceRecords.class, "academicYear", "academicYearId");
+    }
+
+    private void backfill(Class<?> entityClass, String referenceField, String idField) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        Query query = Query.query(new Criteria().andOperator(
+                Criteria.where(referenceField).ne(null),
+                new Criteria().orOperator(Criteria.where(idField).exists(false), Criteria.where(idField).is(null))));
+
+        long updated = mongoTemplate.updateMulti(query, AggregationUpdate.update().set(idField).toValue(referenceId(referenceField)), collection)
+                .getModifiedCount();
+        if (updated > 0) {
+            log.info("Backfilled {} on {} {} documents", idField, updated, collection);
+        }
+    }
+
+    /**
+     * {@code $id} cannot be addressed with a field path, so it is read with {@code $getField}.
+     */
+    private AggregationExpression referenceId(String referenceField) {
+        return context -> new Document("$toString", new Document("$getField", new Document("field", new Document("$literal", "$id"))
+                .append("input", "$" + referenceField)));
+    }
+}
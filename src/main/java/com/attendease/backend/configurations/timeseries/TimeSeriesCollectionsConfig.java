@@ -0,0 +1,37 @@
+package com.attendease.backend.configurations.timeseries;
+
+import com.attendease.backend.domain.attendance.ping.AttendancePing;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Creates the time-series collections on startup.
+ * <p>
+ * MongoDB only creates a time-series collection when it is created explicitly, so the first insert
+ * must not be allowed to create a regular collection instead.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TimeSeriesCollectionsConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void createTimeSeriesCollections() {
+        if (!mongoTemplate.collectionExists(AttendancePing.class)) {
+            mongoTemplate.createCollection(AttendancePing.class);
+            log.info("Created time-series collection '{}'", mongoTemplate.getCollectionName(AttendancePing.class));
+        }
+        mongoTemplate.indexOps(AttendancePing.class).ensureIndex(new Index()
+                .on("meta.eventId", Sort.Direction.ASC)
+                .on("meta.studentId", Sort.Direction.ASC)
+                .on("timestamp", Sort.Direction.ASC));
+    }
+}
@@ -2,6 +2,7 @@ package com.attendease.backend.domain.attendance;
 
 import com.attendease.backend.domain.academic.Academic;
 import com.attendease.backend.domain.attendance.Tracking.Response.AttendanceTrackingResponse;
+import com.attendease.backend.domain.attendance.ping.AttendancePing;
 import com.attendease.backend.domain.enums.AttendanceStatus;
 import com.attendease.backend.domain.event.Event;
 import com.attendease.backend.domain.location.Location;
@@ -17,6 +18,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -37,8 +39,10 @@ import java.util.List;
  * Records are linked to the academic year and semester active at the time of the event.
  * This enables historical tracking and filtering of attendance data by academic period.
  * </p>
- * <p><b>Usage Notes:</b> Ping logs appended during ONGOING events. Use finalizer service after endDateTime.
+ * <p><b>Usage Notes:</b> Ping logs are appended to the {@link AttendancePing} time-series collection during
+ * ONGOING events, not to this document. Use finalizer service after endDateTime.
  * Indexes on student/event for efficient queries.</p>
+ * <p>All references are loaded lazily; read their IDs through {@code ReferenceIds} to avoid resolving them.</p>
  *
  * @author jakematthewviado204@gmail.com
  * @since 2025-Sep-16
@@ -49,30 +53,33 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Document(collection = "attendance_records")
-@CompoundIndex(def = "{'student': 1, 'event': 1}", unique = true) // prevents duplicate attendance
+@CompoundIndexes({
+        @CompoundIndex(def = "{'student': 1, 'event': 1}", unique = true), // prevents duplicate attendance
+        @CompoundIndex(name = "event_record_keyset", def = "{'event.$id': 1, '_id': 1}") // keyset pagination of attendees
+})
 public class AttendanceRecords {
 
     @Id
     private String recordId;
 
-    @DBRef
+    @DBRef(lazy = true)
     @NotNull(message = "Student reference is required")
     @Indexed
     private Students student;
 
-    @DBRef
+    @DBRef(lazy = true)
     @NotNull(message = "Event reference is required")
     @Indexed
     private Event event;
 
-    @DBRef
+    @DBRef(lazy = true)
     private Location location;
 
     @Field("eventLocationId")
     @Indexed
     private String eventLocationId;
 
-    @DBRef
+    @DBRef(lazy = true)
     @Indexed
     private Academic academicYear;
 
@@ -99,6 +106,9 @@ public class AttendanceRecords {
 
     private AttendanceStatus attendanceStatus;
 
+    /**
+     * Legacy embedded ping logs, only populated on records created before pings moved to {@link AttendancePing}.
+     */
     @Builder.Default
     private List<AttendanceTrackingResponse> attendancePingLogs = new ArrayList<>();
 
@@ -0,0 +1,22 @@
+package com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+import com.attendease.backend.domain.attendance.Monitoring.Records.Attendees.Response.AttendeesResponse;
+
+/**
+ * One page of the attendees of an event. Pass {@code nextCursor} as {@code after} to fetch the next page;
+ * it is {@code null} on the last page.
+ */
+@Data
+@Builder
+public class EventAttendeesPageResponse {
+    private String eventId;
+    private int size;
+    private String nextCursor;
+    private boolean hasMore;
+    private List<AttendeesResponse> attendees;
+}
@@ -0,0 +1,23 @@
+package com.attendease.backend.domain.attendance.Tracking.Request;
+
+import com.attendease.backend.domain.attendance.Tracking.Response.AttendanceTrackingResponse;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request DTO for sending several location pings of one event at once.
+ * <p>
+ * Used by clients that buffer pings while offline and send them after reconnecting.
+ * Each ping keeps the client-side {@code timestamp} at which it was captured; the
+ * {@code eventId} and {@code locationId} of the batch apply to every ping.
+ * </p>
+ */
+@Data
+public class AttendancePingBatchRequest {
+
+    private String eventId;
+    private String locationId;
+    private List<AttendanceTrackingResponse> pings = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.attendease.backend.domain.attendance.Tracking.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO returned after a batch of location pings was accepted for recording.
+ * <p>
+ * {@code rejected} counts pings whose timestamp fell outside the event window.
+ * {@code inside} reflects the most recent accepted ping, or {@code null} if none was accepted.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendancePingBatchResponse {
+
+    private int accepted;
+    private int rejected;
+    private Boolean inside;
+}
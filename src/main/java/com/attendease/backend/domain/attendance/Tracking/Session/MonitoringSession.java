@@ -0,0 +1,27 @@
+package com.attendease.backend.domain.attendance.Tracking.Session;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Identity of a registered student carried by a signed monitoring session token.
+ * <p>
+ * Issued at successful event registration, it lets location pings skip every identity and attendance record
+ * lookup: the token already says which student pings which event and venue location, until shortly after the event ends.
+ * </p>
+ */
+@Value
+@Builder
+public class MonitoringSession {
+
+    String userId;
+    String studentId;
+    String studentNumber;
+    String eventId;
+    String venueLocationId;
+    long expiresAtEpochMilli;
+
+    public boolean isExpired() {
+        return expiresAtEpochMilli < System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,15 @@
+package com.attendease.backend.domain.attendance.export;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Selects the attendance records of an export. Unset fields do not filter.
+ */
+@Value
+@Builder
+public class AttendanceExportFilter {
+    String eventId;
+    String academicYearId;
+    Integer semester;
+}
@@ -0,0 +1,37 @@
+package com.attendease.backend.domain.attendance.export;
+
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One exported attendance record, flattened with its event, student and academic hierarchy.
+ */
+@Data
+@Builder
+public class AttendanceExportRow {
+
+    private String attendanceRecordId;
+    private String eventId;
+    private String eventName;
+    private String academicYearName;
+    private String semesterName;
+    private String studentNumber;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private Integer yearLevel;
+    private String sectionName;
+    private String courseName;
+    private String clusterName;
+    private AttendanceStatus attendanceStatus;
+    private String reason;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime timeIn;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime timeOut;
+}
@@ -0,0 +1,49 @@
+package com.attendease.backend.domain.attendance.ping;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.time.Instant;
+
+/**
+ * Domain entity representing a single location ping sent by a student during an ongoing event.
+ * <p>
+ * Pings are stored in an append-only MongoDB time-series collection keyed by
+ * (eventId, studentId, timestamp) instead of being embedded in {@link AttendanceRecords}.
+ * Recording a ping is a single insert and never loads or rewrites the attendance record.
+ * </p>
+ *
+ * @see com.attendease.backend.schedulers.attendance.records.AttendanceRecordsFinalizer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@TimeSeries(collection = "attendance_pings", timeField = "timestamp", metaField = "meta", granularity = Granularity.SECONDS)
+public class AttendancePing {
+
+    @Id
+    private String pingId;
+
+    @Field("meta")
+    private AttendancePingMetadata meta;
+
+    @Field("timestamp")
+    private Instant timestamp;
+
+    @Field("locationId")
+    private String locationId;
+
+    private double latitude;
+
+    private double longitude;
+
+    private boolean inside;
+}
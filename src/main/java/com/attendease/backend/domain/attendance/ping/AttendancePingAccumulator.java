@@ -0,0 +1,97 @@
+package com.attendease.backend.domain.attendance.ping;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Running summary of a student's pings for one event, maintained as pings arrive.
+ * <p>
+ * Holds the last ping, the cumulative time spent inside the venue and the number of consecutive
+ * outside pings, so finalization reads a single number instead of replaying the ping history.
+ * The interval between two consecutive pings, clipped to the event window, counts as inside time
+ * when the earlier ping was inside. A ping older than the last accepted ping, e.g. from a late offline batch,
+ * cannot be folded in; it sets {@link #replayRequired} so finalization recomputes the summary from the stored pings.
+ * </p>
+ * <p>
+ * Instances live in memory while an event is ongoing and are checkpointed periodically to the
+ * {@code attendance_ping_accumulators} collection; they are not thread-safe on their own.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Document(collection = "attendance_ping_accumulators")
+public class AttendancePingAccumulator {
+
+    @Id
+    private String accumulatorId;
+
+    @Indexed
+    private String eventId;
+
+    private String studentId;
+
+    private long eventStart;
+
+    private long eventEnd;
+
+    private long pingCount;
+
+    private long lastPingTimestamp;
+
+    private boolean lastInside;
+
+    private long insideMillis;
+
+    private int consecutiveOutsideCount;
+
+    private boolean replayRequired;
+
+    private Instant checkpointedAt;
+
+    public static String idOf(String eventId, String studentId) {
+        return eventId + ":" + studentId;
+    }
+
+    public static AttendancePingAccumulator start(String eventId, String studentId, long eventStart, long eventEnd) {
+        return AttendancePingAccumulator.builder()
+                .accumulatorId(idOf(eventId, studentId))
+                .eventId(eventId)
+                .studentId(studentId)
+                .eventStart(eventStart)
+                .eventEnd(eventEnd)
+                .build();
+    }
+
+    /**
+     * Folds a ping into the summary.
+     *
+     * @param timestamp the ping timestamp in epoch millis
+     * @param inside whether the ping was inside the venue
+     * @return {@code false} if the ping is older than the last accepted ping and the summary must be replayed
+     */
+    public boolean accept(long timestamp, boolean inside) {
+        if (pingCount > 0 && timestamp < lastPingTimestamp) {
+            replayRequired = true;
+            return false;
+        }
+        if (pingCount > 0 && lastInside) {
+            long t1 = Math.max(lastPingTimestamp, eventStart);
+            long t2 = Math.min(timestamp, eventEnd);
+            insideMillis += (t2 - t1);
+        }
+        lastPingTimestamp = timestamp;
+        lastInside = inside;
+        consecutiveOutsideCount = inside ? 0 : consecutiveOutsideCount + 1;
+        pingCount++;
+        return true;
+    }
+}
@@ -0,0 +1,24 @@
+package com.attendease.backend.domain.attendance.ping;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Time-series meta field of an {@link AttendancePing}.
+ * <p>
+ * MongoDB buckets time-series measurements by their meta value, so every ping of the same
+ * student in the same event lands in the same bucket.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendancePingMetadata {
+
+    private String eventId;
+
+    private String studentId;
+}
@@ -0,0 +1,50 @@
+package com.attendease.backend.domain.attendance.stats;
+
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Materialized attendance status counts of one event.
+ * <p>
+ * The counts are kept in step with {@code attendance_records} by {@code $inc} updates whenever a record is created,
+ * changes status or is deleted, so monitoring and finalized summaries read a single document instead of counting records.
+ * They are recomputed from the records by the nightly rebuild job.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "event_attendance_stats")
+public class EventAttendanceStats {
+
+    @Id
+    private String eventId;
+
+    @Builder.Default
+    private Map<AttendanceStatus, Integer> statusCounts = new HashMap<>();
+
+    private Instant updatedAt;
+
+    private Instant rebuiltAt;
+
+    public static EventAttendanceStats empty(String eventId) {
+        return EventAttendanceStats.builder().eventId(eventId).build();
+    }
+
+    public int countOf(AttendanceStatus status) {
+        if (statusCounts == null) {
+            return 0;
+        }
+        return statusCounts.getOrDefault(status, 0);
+    }
+}
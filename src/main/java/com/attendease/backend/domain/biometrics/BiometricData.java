@@ -1,11 +1,11 @@
 package com.attendease.backend.domain.biometrics;
 
+import com.attendease.backend.domain.biometrics.encoding.FacialEncodingBinaryConverter;
 import com.attendease.backend.domain.enums.BiometricStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,12 +13,15 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.convert.ValueConverter;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * Domain entity representing biometric data for user (primarily student).
  * <p>
- * This entity stores facial recognition encodings (as a fixed-size vector of 128 floats) for secure authentication.
+ * This entity stores facial recognition encodings (as a fixed-size vector of 128 floats, persisted as a packed
+ * 512-byte float32 binary) for secure authentication.
  * It supports facial login during event registration and attendance verification. Status tracks enrollment/validation.
  * </p>
  *
@@ -37,8 +40,10 @@ public class BiometricData {
 
     @NotNull(message = "Facial encoding is required")
     @Size(min = 128, max = 128, message = "Facial encoding must have exactly 128 elements")
-    private List<Float> facialEncoding;
+    @ValueConverter(FacialEncodingBinaryConverter.class)
+    private float[] facialEncoding;
 
+    @Indexed
     private String studentNumber;
 
     @CreatedDate
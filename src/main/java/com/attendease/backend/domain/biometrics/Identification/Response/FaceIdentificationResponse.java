@@ -0,0 +1,31 @@
+package com.attendease.backend.domain.biometrics.Identification.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of identifying a student from a single face image among the eligible students of an event.
+ *
+ * <ul>
+ *     <li>{@code identified} — whether the closest encoding is within the identification tolerance</li>
+ *     <li>{@code studentNumber} — the student number of the identified student, {@code null} if none</li>
+ *     <li>{@code faceDistance} — Euclidean distance to the closest encoding (lower = more similar)</li>
+ *     <li>{@code confidence} — confidence score (1.0 - distance)</li>
+ *     <li>{@code candidates} — number of encodings searched</li>
+ * </ul>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FaceIdentificationResponse {
+
+    private boolean identified;
+    private String studentNumber;
+    private Double faceDistance;
+    private Double confidence;
+    private int candidates;
+    private String message;
+}
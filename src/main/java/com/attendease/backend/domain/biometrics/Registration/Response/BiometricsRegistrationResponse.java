@@ -24,7 +24,7 @@ public class BiometricsRegistrationResponse {
     private String message;
 
     @JsonProperty("facialEncoding")
-    private List<Float> facialEncoding;
+    private float[] facialEncoding;
 
     private String error;
 }
@@ -0,0 +1,55 @@
+package com.attendease.backend.domain.biometrics.Verification.Pending;
+
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A check-in face image queued while the facial recognition service was unavailable.
+ * <p>
+ * The attendance record it belongs to stays {@link AttendanceStatus#PENDING_VERIFICATION} until the image is
+ * verified, then takes {@link #resolvedStatus} and {@link #resolvedReason}, the status and reason it would have
+ * been created with. The document is deleted once the verification is decided or the event is finalized.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "pending_face_verifications")
+public class PendingFaceVerification {
+
+    @Id
+    private String verificationId;
+
+    private String recordId;
+
+    @Indexed
+    private String eventId;
+
+    private String studentNumber;
+
+    private byte[] image;
+
+    private String fileName;
+
+    private AttendanceStatus resolvedStatus;
+
+    private String resolvedReason;
+
+    private int attempts;
+
+    private String lastError;
+
+    @Indexed
+    private Instant createdAt;
+
+    private Instant lastAttemptAt;
+}
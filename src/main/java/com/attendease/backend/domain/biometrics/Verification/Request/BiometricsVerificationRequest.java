@@ -1,7 +1,5 @@
 package com.attendease.backend.domain.biometrics.Verification.Request;
 
-import java.util.List;
-
 import com.attendease.backend.client.biometrics.verification.BiometricsVerificationClient;
 import lombok.Data;
 
@@ -20,6 +18,6 @@ import lombok.Data;
 @Data
 public class BiometricsVerificationRequest {
 
-    private List<Float> uploaded_encoding;
-    private List<Float> reference_encoding;
+    private float[] uploaded_encoding;
+    private float[] reference_encoding;
 }
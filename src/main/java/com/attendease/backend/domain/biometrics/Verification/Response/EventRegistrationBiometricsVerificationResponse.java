@@ -13,7 +13,7 @@ import lombok.Data;
  * <p>This DTO contains:</p>
  * <ul>
  *     <li>{@code success} — whether the facial detection and encoding extraction succeeded</li>
- *     <li>{@code facialEncoding} — the extracted facial encoding represented as a list of floats</li>
+ *     <li>{@code facialEncoding} — the extracted facial encoding represented as an array of floats</li>
  * </ul>
  *
  * <p>Used primarily by {@link BiometricsVerificationClient}.</p>
@@ -24,7 +24,7 @@ public class EventRegistrationBiometricsVerificationResponse {
     private Boolean success;
 
     @JsonProperty("facialEncoding")
-    private java.util.List<Float> facialEncoding;
+    private float[] facialEncoding;
 
     private String message;
 
@@ -0,0 +1,37 @@
+package com.attendease.backend.domain.biometrics.encoding;
+
+import org.bson.BsonBinarySubType;
+import org.bson.types.Binary;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+
+import java.util.List;
+
+/**
+ * Stores a {@code float[]} facial encoding as a packed {@link Binary} (see {@link FacialEncodings}).
+ * <p>
+ * Encodings written before the binary format are BSON arrays of doubles; they are still read, until
+ * {@code FacialEncodingBinaryMigration} has rewritten them.
+ * </p>
+ */
+public class FacialEncodingBinaryConverter implements MongoValueConverter<float[], Object> {
+
+    @Override
+    public float[] read(Object value, MongoConversionContext context) {
+        if (value instanceof Binary binary) {
+            return FacialEncodings.unpack(binary.getData());
+        }
+        if (value instanceof byte[] bytes) {
+            return FacialEncodings.unpack(bytes);
+        }
+        if (value instanceof List<?> numbers) {
+            return FacialEncodings.fromNumbers(numbers);
+        }
+        throw new IllegalArgumentException("Unsupported facial encoding type: " + value.getClass().getName());
+    }
+
+    @Override
+    public Object write(float[] value, MongoConversionContext context) {
+        return new Binary(BsonBinarySubType.BINARY, FacialEncodings.pack(value));
+    }
+}
@@ -0,0 +1,50 @@
+package com.attendease.backend.domain.biometrics.encoding;
+
+import com.attendease.backend.exceptions.domain.Biometrics.InvalidFacialEncodingException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * Packs facial encodings into the binary form stored in {@code biometric_data.facialEncoding}: the 128
+ * dimensions as little-endian float32 values, 512 bytes in total.
+ */
+public final class FacialEncodings {
+
+    public static final int DIMENSIONS = 128;
+
+    public static final int BINARY_LENGTH = DIMENSIONS * Float.BYTES;
+
+    private FacialEncodings() {
+    }
+
+    public static byte[] pack(float[] encoding) {
+        ByteBuffer buffer = ByteBuffer.allocate(encoding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(encoding);
+        return buffer.array();
+    }
+
+    /**
+     * @throws InvalidFacialEncodingException if the length is not a whole number of float32 values
+     */
+    public static float[] unpack(byte[] packed) {
+        if (packed.length % Float.BYTES != 0) {
+            throw new InvalidFacialEncodingException("Packed facial encoding has an invalid length of " + packed.length + " bytes");
+        }
+        float[] encoding = new float[packed.length / Float.BYTES];
+        ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(encoding);
+        return encoding;
+    }
+
+    /**
+     * Reads an encoding still stored as a BSON array of numbers.
+     */
+    public static float[] fromNumbers(List<?> values) {
+        float[] encoding = new float[values.size()];
+        for (int i = 0; i < encoding.length; i++) {
+            encoding[i] = ((Number) values.get(i)).floatValue();
+        }
+        return encoding;
+    }
+}
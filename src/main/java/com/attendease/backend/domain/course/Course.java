@@ -40,7 +40,7 @@ public class Course {
     @Indexed(unique = true)
     private String courseName;
 
-    @DBRef
+    @DBRef(lazy = true)
     private Cluster cluster;
 
     @CreatedDate
@@ -11,4 +11,5 @@ public enum AttendanceStatus {
     IDLE,
     LATE,
     EXCUSED,
+    PENDING_VERIFICATION,
 }
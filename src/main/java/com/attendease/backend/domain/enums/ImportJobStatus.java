@@ -0,0 +1,17 @@
+package com.attendease.backend.domain.enums;
+
+/**
+ * Enum representing the state of a background CSV import job.
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    VALIDATING,
+    IMPORTING,
+    COMPLETED,
+    FAILED,
+    INTERRUPTED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == INTERRUPTED;
+    }
+}
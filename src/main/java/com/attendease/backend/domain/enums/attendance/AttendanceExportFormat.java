@@ -0,0 +1,16 @@
+package com.attendease.backend.domain.enums.attendance;
+
+/**
+ * Output formats of attendance record exports.
+ */
+public enum AttendanceExportFormat {
+	/**
+	 * Comma-separated values with a header row
+	 */
+	CSV,
+
+	/**
+	 * Newline-delimited JSON, one attendance record per line
+	 */
+	NDJSON
+}
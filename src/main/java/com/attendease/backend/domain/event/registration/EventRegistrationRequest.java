@@ -1,5 +1,6 @@
 package com.attendease.backend.domain.event.registration;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 @Data
@@ -9,4 +10,11 @@ public final class EventRegistrationRequest {
     private Double latitude;
     private Double longitude;
     private String faceImageBase64;
+
+    /**
+     * Signed monitoring session token returned after a successful registration to an event with location monitoring.
+     * Sent back in the {@code X-Monitoring-Session} header of location pings.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String monitoringSessionToken;
 }
@@ -44,7 +44,7 @@ public class Section {
 
     private Integer semester;
 
-    @DBRef
+    @DBRef(lazy = true)
     private Course course;
 
     @Builder.Default
@@ -26,6 +26,10 @@ import java.util.List;
  * Used as the core entity for attendance, events, and eligibility checks. Unique index
  * on {@code studentNumber} for institutional ID lookups.
  * </p>
+ * <p>
+ * The user, biometrics and section references are loaded lazily. {@code userId} and {@code currentSectionId}
+ * mirror the IDs of the user and section references for queries that must not resolve them.
+ * </p>
  *
  * @author jakematthewviado204@gmail.com
  * @since 2025-Sep-16
@@ -40,21 +44,21 @@ public class Students {
     @Id
     private String id;
 
-    @DBRef
+    @DBRef(lazy = true)
     @NotNull(message = "User reference is required")
     private User user;
 
     @Indexed
     private String userId;
 
-    @DBRef
+    @DBRef(lazy = true)
     private BiometricData facialData;
 
     @NotBlank(message = "Student number is required")
     @Indexed(unique = true)
     private String studentNumber;
 
-    @DBRef
+    @DBRef(lazy = true)
     private Section section;
 
     @Min(value = 1, message = "Year level must be between 1 and 4")
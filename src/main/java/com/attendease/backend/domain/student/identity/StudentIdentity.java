@@ -0,0 +1,58 @@
+package com.attendease.backend.domain.student.identity;
+
+import com.attendease.backend.domain.course.Course;
+import com.attendease.backend.domain.enums.AccountStatus;
+import com.attendease.backend.domain.section.Section;
+import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.domain.user.User;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Slim, immutable projection of an authenticated student.
+ * <p>
+ * Holds only the identifiers the student endpoints need, flattened out of the
+ * {@code User → Section → Course → Cluster} reference chain so that it can be cached per user
+ * and shared between request threads.
+ * </p>
+ */
+@Value
+@Builder
+public class StudentIdentity {
+
+    String userId;
+    String studentId;
+    String studentNumber;
+    String sectionId;
+    String courseId;
+    String clusterId;
+    Integer yearLevel;
+    AccountStatus accountStatus;
+
+    public static StudentIdentity of(User user, Students student) {
+        Section section = student.getSection();
+        Course course = section != null ? section.getCourse() : null;
+
+        return StudentIdentity.builder()
+                .userId(user.getUserId())
+                .studentId(student.getId())
+                .studentNumber(student.getStudentNumber())
+                .sectionId(section != null ? section.getId() : null)
+                .courseId(course != null ? course.getId() : null)
+                .clusterId(course != null && course.getCluster() != null ? course.getCluster().getClusterId() : null)
+                .yearLevel(section != null ? section.getYearLevel() : null)
+                .accountStatus(user.getAccountStatus())
+                .build();
+    }
+
+    /**
+     * Builds a reference-only {@link Students} carrying the student's ID, for use as a {@code @DBRef} value.
+     */
+    public Students toStudentReference() {
+        return Students.builder()
+                .id(studentId)
+                .userId(userId)
+                .studentNumber(studentNumber)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.attendease.backend.domain.student.login;
+
+import com.attendease.backend.domain.enums.UserType;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Login projection of a student: only what a login needs, read in a single aggregation instead of loading the
+ * student, its referenced user and its biometric data.
+ */
+@Value
+@Builder
+public class StudentLoginCredentials {
+
+    String userId;
+    String studentNumber;
+    String passwordHash;
+    UserType userType;
+    boolean biometricsRegistered;
+}
@@ -0,0 +1,68 @@
+package com.attendease.backend.domain.user.account.management.users.csv.job;
+
+import com.attendease.backend.domain.enums.ImportJobStatus;
+import com.attendease.backend.domain.exception.error.csv.CsvImportErrorResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persisted state of a background student CSV import.
+ * <p>
+ * The job is saved on every phase change and after every validated or inserted chunk, so its status
+ * endpoint keeps answering after a restart. Only the first {@code max-stored-errors} row errors are
+ * stored; {@link #errorCount} holds the full count.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "student_import_jobs")
+public class StudentImportJob {
+
+    @Id
+    private String jobId;
+
+    private String requestedBy;
+
+    private String fileName;
+
+    private ImportJobStatus status;
+
+    private int totalRows;
+
+    private int validatedRows;
+
+    private int importedRows;
+
+    private int errorCount;
+
+    @Builder.Default
+    private List<CsvImportErrorResponse.RowError> rowErrors = new ArrayList<>();
+
+    private String message;
+
+    private Instant createdAt;
+
+    private Instant startedAt;
+
+    private Instant updatedAt;
+
+    private Instant finishedAt;
+
+    /**
+     * Copies the job, including its row errors, so it can be handed out while the runner keeps updating the original.
+     */
+    public StudentImportJob snapshot() {
+        return new StudentImportJob(jobId, requestedBy, fileName, status, totalRows, validatedRows, importedRows, errorCount,
+                new ArrayList<>(rowErrors), message, createdAt, startedAt, updatedAt, finishedAt);
+    }
+}
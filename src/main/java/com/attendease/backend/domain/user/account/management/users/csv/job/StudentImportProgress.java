@@ -0,0 +1,56 @@
+package com.attendease.backend.domain.user.account.management.users.csv.job;
+
+import com.attendease.backend.domain.enums.ImportJobStatus;
+import com.attendease.backend.domain.exception.error.csv.CsvImportErrorResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress update of a {@link StudentImportJob}, sent to its requester on {@code /user/queue/import-progress}.
+ * <p>
+ * {@link #rowErrors} only holds the row errors found since the previous update.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentImportProgress {
+
+    private String jobId;
+
+    private ImportJobStatus status;
+
+    private int totalRows;
+
+    private int validatedRows;
+
+    private int importedRows;
+
+    private int errorCount;
+
+    private List<CsvImportErrorResponse.RowError> rowErrors;
+
+    private String message;
+
+    private Instant timestamp;
+
+    public static StudentImportProgress of(StudentImportJob job, List<CsvImportErrorResponse.RowError> rowErrors) {
+        return StudentImportProgress.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .totalRows(job.getTotalRows())
+                .validatedRows(job.getValidatedRows())
+                .importedRows(job.getImportedRows())
+                .errorCount(job.getErrorCount())
+                .rowErrors(rowErrors)
+                .message(job.getMessage())
+                .timestamp(job.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.attendease.backend.exceptions.domain.Attendance;
+
+/**
+ * Thrown when the attendance ping write-behind buffer has no room left for a batch.
+ * Clients should keep their pings and retry later.
+ */
+public class PingBufferFullException extends RuntimeException {
+	public PingBufferFullException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,10 @@
+package com.attendease.backend.exceptions.domain.Biometrics;
+
+/**
+ * Thrown when every call slot to the facial recognition service is taken and none freed up in time.
+ */
+public class FacialServiceBusyException extends FacialRecognitionServiceException {
+	public FacialServiceBusyException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,18 @@
+package com.attendease.backend.exceptions.domain.Biometrics;
+
+/**
+ * Thrown without calling the facial recognition service while its circuit breaker is open.
+ */
+public class FacialServiceCircuitOpenException extends FacialRecognitionServiceException {
+
+	private final long retryAfterSeconds;
+
+	public FacialServiceCircuitOpenException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -3,6 +3,7 @@ package com.attendease.backend.exceptions.handling;
 import com.attendease.backend.domain.exception.error.ErrorResponse;
 import com.attendease.backend.domain.exception.error.csv.CsvImportErrorResponse;
 import com.attendease.backend.domain.exception.validation.ValidationErrorResponse;
+import com.attendease.backend.exceptions.domain.Attendance.PingBufferFullException;
 import com.attendease.backend.exceptions.domain.Biometrics.Registration.BiometricAlreadyRegisteredException;
 import com.attendease.backend.exceptions.domain.Biometrics.Registration.BiometricProcessingException;
 import com.attendease.backend.exceptions.domain.Event.*;
@@ -11,6 +12,7 @@ import com.attendease.backend.exceptions.domain.Location.*;
 import com.attendease.backend.exceptions.domain.Biometrics.*;
 import com.attendease.backend.exceptions.domain.Student.StudentNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -230,6 +232,20 @@ public class ExceptionHandling {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /*
+     * ATTENDANCE TRACKING RELATED EXCEPTIONS
+     */
+
+    @ExceptionHandler(PingBufferFullException.class)
+    public ResponseEntity<ErrorResponse> handlePingBufferFull(PingBufferFullException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "PING_BUFFER_FULL",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "5").body(error);
+    }
+
     /*
      * BIOMETRICS RELATED EXCEPTIONS
      */
@@ -264,6 +280,28 @@ public class ExceptionHandling {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(FacialServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleFacialServiceBusy(FacialServiceBusyException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "FACIAL_SERVICE_BUSY",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").body(error);
+    }
+
+    @ExceptionHandler(FacialServiceCircuitOpenException.class)
+    public ResponseEntity<ErrorResponse> handleFacialServiceCircuitOpen(FacialServiceCircuitOpenException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "FACIAL_SERVICE_UNAVAILABLE",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(FacialRecognitionServiceException.class)
     public ResponseEntity<ErrorResponse> handleFacialRecognitionService(FacialRecognitionServiceException ex) {
         ErrorResponse error = new ErrorResponse(
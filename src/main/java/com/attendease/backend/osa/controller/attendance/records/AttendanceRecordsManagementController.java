@@ -2,19 +2,26 @@ package com.attendease.backend.osa.controller.attendance.records;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
 import com.attendease.backend.domain.attendance.History.Response.FinalizedAttendanceRecordsResponse;
+import com.attendease.backend.domain.attendance.export.AttendanceExportFilter;
 import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Request.UpdateAttendanceRequest;
+import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesPageResponse;
 import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesResponse;
 import java.util.List;
 
 import com.attendease.backend.domain.attendance.sorted.SortedAttendanceRecordsResponse;
+import com.attendease.backend.domain.enums.attendance.AttendanceExportFormat;
 import com.attendease.backend.domain.enums.attendance.AttendanceSortCriteria;
 import com.attendease.backend.osa.service.attendance.records.AttendanceRecordsManagementService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * {@code ManagementAttendanceRecordsController} is used for managing attendance records of student.
@@ -43,6 +50,42 @@ public class AttendanceRecordsManagementController {
         List<AttendanceRecords> records = attendanceRecordsManagementService.getAllAttendanceRecords();
         return ResponseEntity.ok(records);
     }
+    /**
+     * Exports the attendance records of a specific event as a CSV or NDJSON file.
+     * samples:
+     * - GET /api/osa/attendance-records/management/export/event/{eventId}?format=CSV
+     * - GET /api/osa/attendance-records/management/export/event/{eventId}?format=NDJSON&gzip=true
+     *
+     * @param eventId the ID of the event
+     * @param format {@code CSV} or {@code NDJSON}
+     * @param gzip whether to gzip the file
+     * @return a {@link StreamingResponseBody} writing the records from a database cursor
+     */
+    @GetMapping("/export/event/{eventId}")
+    public ResponseEntity<StreamingResponseBody> exportEventAttendanceRecords(@PathVariable String eventId, @RequestParam(defaultValue = "CSV") String format, @RequestParam(defaultValue = "false") boolean gzip) {
+        AttendanceExportFilter filter = AttendanceExportFilter.builder().eventId(eventId).build();
+        return export(filter, "attendance-records-event-" + eventId, format, gzip);
+    }
+
+    /**
+     * Exports the attendance records of an academic year, optionally of a single semester, as a CSV or NDJSON file.
+     * samples:
+     * - GET /api/osa/attendance-records/management/export/academic-year/{academicYearId}?format=CSV&gzip=true
+     * - GET /api/osa/attendance-records/management/export/academic-year/{academicYearId}?semester=1&format=NDJSON
+     *
+     * @param academicYearId the ID of the academic year
+     * @param semester the semester number (e.g., 1, 2), omitted for the whole academic year
+     * @param format {@code CSV} or {@code NDJSON}
+     * @param gzip whether to gzip the file
+     * @return a {@link StreamingResponseBody} writing the records from a database cursor
+     */
+    @GetMapping("/export/academic-year/{academicYearId}")
+    public ResponseEntity<StreamingResponseBody> exportAcademicYearAttendanceRecords(@PathVariable String academicYearId, @RequestParam(required = false) Integer semester, @RequestParam(defaultValue = "CSV") String format, @RequestParam(defaultValue = "false") boolean gzip) {
+        AttendanceExportFilter filter = AttendanceExportFilter.builder().academicYearId(academicYearId).semester(semester).build();
+        String fileName = "attendance-records-academic-year-" + academicYearId + (semester != null ? "-semester-" + semester : "");
+        return export(filter, fileName, format, gzip);
+    }
+
     /**
      * Retrieves all events with EventStatus.FINALIZED.
      *
@@ -107,6 +150,35 @@ public class AttendanceRecordsManagementController {
         return attendanceRecordsManagementService.getAttendeesByEvent(eventId);
     }
 
+    /**
+     * Retrieves one page of the attendees of a specific event.
+     * samples:
+     * - GET /api/osa/attendance-records/management/event/{eventId}/attendees/page?size=200
+     * - GET /api/osa/attendance-records/management/event/{eventId}/attendees/page?size=200&after={nextCursor}
+     *
+     * @param eventId the ID of the event
+     * @param after the {@code nextCursor} of the previous page, omitted for the first page
+     * @param size the page size
+     * @return an {@link EventAttendeesPageResponse} containing the attendees of the page and the cursor of the next one
+     */
+    @GetMapping("/event/{eventId}/attendees/page")
+    public ResponseEntity<EventAttendeesPageResponse> getAttendeesPageByEvent(@PathVariable String eventId, @RequestParam(required = false) String after, @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(attendanceRecordsManagementService.getAttendeesPageByEvent(eventId, after, size));
+    }
+
+    /**
+     * Streams all attendees of a specific event as one JSON document, in the same shape as
+     * {@code /event/{eventId}/attendees}, without building the whole response in memory.
+     *
+     * @param eventId the ID of the event
+     * @return a {@link StreamingResponseBody} writing the attendees and the total number of attendees
+     */
+    @GetMapping("/event/{eventId}/attendees/stream")
+    public ResponseEntity<StreamingResponseBody> streamAttendeesByEvent(@PathVariable String eventId) {
+        StreamingResponseBody body = outputStream -> attendanceRecordsManagementService.writeAttendeesByEvent(eventId, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     /**
      * Retrieves all attendance records for a specific student.
      *
@@ -126,12 +198,13 @@ public class AttendanceRecordsManagementController {
      * - GET /api/osa/attendance-records/management/event/{eventId}/sorted?sortBy=COURSE
      * - GET /api/osa/attendance-records/management/event/{eventId}/sorted?sortBy=SECTION
      * - GET /api/osa/attendance-records/management/event/{eventId}/sorted?sortBy=YEAR_LEVEL
+     * - GET /api/osa/attendance-records/management/event/{eventId}/sorted?sortBy=SECTION&headersOnly=true
      */
     @GetMapping("/event/{eventId}/sorted")
-    public ResponseEntity<SortedAttendanceRecordsResponse> getSortedAttendanceRecords(@PathVariable String eventId, @RequestParam(defaultValue = "SECTION") String sortBy) {
+    public ResponseEntity<SortedAttendanceRecordsResponse> getSortedAttendanceRecords(@PathVariable String eventId, @RequestParam(defaultValue = "SECTION") String sortBy, @RequestParam(defaultValue = "false") boolean headersOnly) {
         try {
             AttendanceSortCriteria criteria = AttendanceSortCriteria.valueOf(sortBy.toUpperCase());
-            SortedAttendanceRecordsResponse response = attendanceRecordsManagementService.getSortedAttendanceRecords(eventId, criteria);
+            SortedAttendanceRecordsResponse response = attendanceRecordsManagementService.getSortedAttendanceRecords(eventId, criteria, headersOnly);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -140,6 +213,25 @@ public class AttendanceRecordsManagementController {
         }
     }
 
+    /**
+     * Retrieves the attendees of a single group of a specific event, using the group keys returned by
+     * {@code /event/{eventId}/sorted?headersOnly=true}.
+     * samples:
+     * - GET /api/osa/attendance-records/management/event/{eventId}/sorted/group?sortBy=SECTION&groupKey=BSIT-101
+     * - GET /api/osa/attendance-records/management/event/{eventId}/sorted/group?sortBy=YEAR_LEVEL&groupKey=1
+     */
+    @GetMapping("/event/{eventId}/sorted/group")
+    public ResponseEntity<SortedAttendanceRecordsResponse.GroupedAttendees> getAttendanceGroup(@PathVariable String eventId, @RequestParam(defaultValue = "SECTION") String sortBy, @RequestParam String groupKey) {
+        try {
+            AttendanceSortCriteria criteria = AttendanceSortCriteria.valueOf(sortBy.toUpperCase());
+            return ResponseEntity.ok(attendanceRecordsManagementService.getAttendanceGroup(eventId, criteria, groupKey));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     /**
      * Updates the attendance status for a student's record in a specific event.
      *
@@ -179,4 +271,22 @@ public class AttendanceRecordsManagementController {
         attendanceRecordsManagementService.deleteAllAttendanceRecords();
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private ResponseEntity<StreamingResponseBody> export(AttendanceExportFilter filter, String fileName, String format, boolean gzip) {
+        AttendanceExportFormat exportFormat = AttendanceExportFormat.valueOf(format.toUpperCase());
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : exportFormat == AttendanceExportFormat.CSV ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType("application/x-ndjson");
+        String extension = (exportFormat == AttendanceExportFormat.CSV ? ".csv" : ".ndjson") + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = outputStream -> attendanceRecordsManagementService.exportAttendanceRecords(filter, exportFormat, gzip, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName + extension).build().toString())
+                .contentType(contentType)
+                .body(body);
+    }
 }
@@ -1,12 +1,15 @@
 package com.attendease.backend.osa.controller.event.monitoring;
 
 import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesResponse;
+import com.attendease.backend.domain.attendance.stats.EventAttendanceStats;
+import com.attendease.backend.domain.biometrics.Identification.Response.FaceIdentificationResponse;
 import com.attendease.backend.domain.event.Event;
 import com.attendease.backend.osa.service.event.monitoring.ManagementEventMonitoringService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -52,5 +55,30 @@ public class ManagementEventMonitoringController {
         EventAttendeesResponse response = managementEventMonitoringService.getAttendeesByEventWithRegisteredAttendanceStatus(eventId);
         return ResponseEntity.ok(response);
     }
-}
 
+    /**
+     * {@code getAttendanceStats} is an API endpoint used to retrieve
+     * the live attendance status counts of a specific event.
+     * The counts are read from a single pre-computed document, so this can be polled while monitoring.
+     *
+     * @param eventId the ID of the event to retrieve the counts for
+     * @return the {@link EventAttendanceStats} of the event
+     */
+    @GetMapping("/stats/{eventId}")
+    public ResponseEntity<EventAttendanceStats> getAttendanceStats(@PathVariable String eventId) {
+        return ResponseEntity.ok(managementEventMonitoringService.getAttendanceStatsByEvent(eventId));
+    }
+
+    /**
+     * {@code identifyStudentByFace} is an API endpoint used to identify an eligible student of a live event
+     * from a single face image, e.g. taken by a shared tablet at the venue entrance.
+     *
+     * @param eventId the ID of the event to identify the student for
+     * @param faceImage the face image to identify
+     * @return a {@link FaceIdentificationResponse} with the identified student number, if any
+     */
+    @PostMapping(value = "/identify/{eventId}", consumes = "multipart/form-data")
+    public ResponseEntity<FaceIdentificationResponse> identifyStudentByFace(@PathVariable String eventId, @RequestPart("faceImage") MultipartFile faceImage) {
+        return ResponseEntity.ok(managementEventMonitoringService.identifyStudentByFace(eventId, faceImage));
+    }
+}
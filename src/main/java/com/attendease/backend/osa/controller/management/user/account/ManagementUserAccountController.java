@@ -2,8 +2,7 @@ package com.attendease.backend.osa.controller.management.user.account;
 
 import com.attendease.backend.domain.student.Students;
 import com.attendease.backend.domain.student.user.student.UserStudentResponse;
-import com.attendease.backend.domain.user.User;
-import com.attendease.backend.exceptions.domain.ImportException.CsvImportException;
+import com.attendease.backend.domain.user.account.management.users.csv.job.StudentImportJob;
 import com.attendease.backend.osa.service.management.user.account.ManagementUserAccountService;
 import java.util.Collections;
 import java.util.List;
@@ -12,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
@@ -77,25 +77,42 @@ public class ManagementUserAccountController {
     }
 
     /**
-     * Imports student from an uploaded CSV file, creating new user accounts and student entities.
+     * Starts a background import of students from an uploaded CSV file, creating new user accounts and student entities.
      *
-     * <p>This endpoint processes the CSV for bulk student onboarding, validating structure and content.
-     * Returns the list of successfully imported user; errors (e.g., duplicates, invalid rows) are handled via exceptions.</p>
+     * <p>This endpoint only stores the upload and queues an import job, so large files no longer run inside the request.
+     * Progress, per-chunk counts and row errors are sent to the requester on {@code /user/queue/import-progress};
+     * the job state can also be polled with {@link #getImportJob(String, Authentication)}.</p>
      *
      * <p><strong>Request Parameter:</strong> {@code file} - the {@link MultipartFile} CSV upload (required columns: firstName, lastName, studentNumber, password).</p>
      *
-     * <p><strong>Response:</strong> HTTP 200 with a list of created {@link User} objects.</p>
+     * <p><strong>Response:</strong> HTTP 202 with the queued {@link StudentImportJob}.</p>
      *
      * @param file the CSV {@link MultipartFile} to import
-     * @return {@link ResponseEntity} with status 200 and the list of imported user
-     * @throws IllegalArgumentException if the file is invalid (e.g., not CSV, missing headers)
-     * @throws CsvImportException if import has row-specific errors
-     * @see ManagementUserAccountService#importStudentsViaCSV(MultipartFile)
+     * @param authentication the authenticated osa user, who receives the import progress
+     * @return {@link ResponseEntity} with status 202 and the queued job
+     * @throws IllegalArgumentException if the file is missing, empty or not a CSV file
+     * @see ManagementUserAccountService#startStudentImport(MultipartFile, String)
      */
     @PostMapping("/import-students")
-    public ResponseEntity<?> importStudents(@RequestParam("file") MultipartFile file) {
-        List<User> importedUsers = managementUserAccountService.importStudentsViaCSV(file);
-        return ResponseEntity.ok(importedUsers);
+    public ResponseEntity<StudentImportJob> importStudents(@RequestParam("file") MultipartFile file, Authentication authentication) {
+        StudentImportJob job = managementUserAccountService.startStudentImport(file, authentication.getName());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Retrieves the state of a student import job started by the authenticated osa user.
+     *
+     * <p><strong>Response:</strong> the {@link StudentImportJob} with its status, row counts and the first row errors.</p>
+     *
+     * @param jobId the ID returned when the import was started
+     * @param authentication the authenticated osa user, who must have started the import
+     * @return the import job
+     * @throws ResponseStatusException with 404 status if the job is not found or was started by another user
+     * @see ManagementUserAccountService#getStudentImportJob(String, String)
+     */
+    @GetMapping("/import-students/{jobId}")
+    public StudentImportJob getImportJob(@PathVariable String jobId, Authentication authentication) {
+        return managementUserAccountService.getStudentImportJob(jobId, authentication.getName());
     }
 
     /**
@@ -12,9 +12,11 @@ import com.attendease.backend.repository.course.CourseRepository;
 import com.attendease.backend.repository.event.EventRepository;
 import com.attendease.backend.repository.section.SectionRepository;
 import com.attendease.backend.repository.students.StudentRepository;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -38,6 +40,7 @@ public final class SectionManagementServiceImpl implements SectionManagementServ
     private final SectionRepository sectionRepository;
     private final EventRepository eventRepository;
     private final StudentRepository studentsRepository;
+    private final StudentIdentityCache studentIdentityCache;
 
     private final AcademicYearManagementService academicYearManagementService;
 
@@ -251,6 +254,7 @@ public final class SectionManagementServiceImpl implements SectionManagementServ
 
         validateBasicSectionFormat(updatedSectionName, existing.getCourse().getCourseName());
         existing.setSectionName(updatedSectionName);
+        Integer previousYearLevel = existing.getYearLevel();
 
         if (updatedSection.getYearLevel() != null && updatedSection.getSemester() != null) {
             validateYearLevelAndSemester(updatedSection.getYearLevel(), updatedSection.getSemester());
@@ -270,6 +274,9 @@ public final class SectionManagementServiceImpl implements SectionManagementServ
         }
 
         Section savedSection = sectionRepository.save(existing);
+        if (!Objects.equals(previousYearLevel, savedSection.getYearLevel())) {
+            studentIdentityCache.invalidateAll();
+        }
         return SectionResponse.fromEntity(savedSection);
     }
 
@@ -2,11 +2,16 @@ package com.attendease.backend.osa.service.attendance.records;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
 import com.attendease.backend.domain.attendance.History.Response.FinalizedAttendanceRecordsResponse;
+import com.attendease.backend.domain.attendance.export.AttendanceExportFilter;
+import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesPageResponse;
 import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesResponse;
 import com.attendease.backend.domain.attendance.sorted.SortedAttendanceRecordsResponse;
 import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.attendease.backend.domain.enums.attendance.AttendanceExportFormat;
 import com.attendease.backend.domain.enums.attendance.AttendanceSortCriteria;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -41,8 +46,53 @@ public interface AttendanceRecordsManagementService {
      */
     EventAttendeesResponse getAttendeesByEvent(String eventId);
 
+    /**
+     * {@code getAttendeesPageByEvent} is used to retrieve one page of the attendees of a specific event,
+     * ordered by attendance record ID. Pages are fetched by keyset, so deep pages cost the same as the first one.
+     *
+     * @param eventId the unique identifier of the event session
+     * @param after the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped by {@code attendance.records.page.max-size}
+     * @return an {@link EventAttendeesPageResponse} containing the attendees of the page and the cursor of the next one
+     */
+    EventAttendeesPageResponse getAttendeesPageByEvent(String eventId, String after, Integer size);
+
+    /**
+     * {@code writeAttendeesByEvent} is used to write all attendees of a specific event as JSON, in the shape of
+     * {@link EventAttendeesResponse}. Attendees are read and written batch by batch, so memory use does not grow
+     * with the size of the event.
+     *
+     * @param eventId the unique identifier of the event session
+     * @param outputStream the stream to write the JSON document to; it is not closed
+     * @throws IOException if writing to the stream fails
+     */
+    void writeAttendeesByEvent(String eventId, OutputStream outputStream) throws IOException;
+
     SortedAttendanceRecordsResponse getSortedAttendanceRecords(String eventId, AttendanceSortCriteria sortCriteria);
 
+    /**
+     * {@code getSortedAttendanceRecords} is used to retrieve the attendees of a specific event grouped by cluster, course,
+     * section or year level. The grouping is done by a MongoDB aggregation.
+     *
+     * @param eventId the unique identifier of the event session
+     * @param sortCriteria the grouping criteria
+     * @param headersOnly whether to return only the group headers and counts, without attendees
+     * @return a {@link SortedAttendanceRecordsResponse} containing the groups keyed by group key
+     */
+    SortedAttendanceRecordsResponse getSortedAttendanceRecords(String eventId, AttendanceSortCriteria sortCriteria, boolean headersOnly);
+
+    /**
+     * {@code getAttendanceGroup} is used to retrieve the attendees of a single group, e.g. once a group header
+     * returned with {@code headersOnly} is expanded.
+     *
+     * @param eventId the unique identifier of the event session
+     * @param sortCriteria the grouping criteria
+     * @param groupKey the key of the group in {@link SortedAttendanceRecordsResponse#getGroupedAttendees()}
+     * @return the group with its attendees
+     * @throws RuntimeException if the event has no attendees in that group
+     */
+    SortedAttendanceRecordsResponse.GroupedAttendees getAttendanceGroup(String eventId, AttendanceSortCriteria sortCriteria, String groupKey);
+
     /**
      * {@code getAttendanceRecordsByStudentId} is used to retrieve all attendance records for a specific student.
      *
@@ -71,6 +121,18 @@ public interface AttendanceRecordsManagementService {
      */
     List<AttendanceRecords> getAllAttendanceRecords();
 
+    /**
+     * {@code exportAttendanceRecords} is used to write the attendance records selected by a filter as CSV or NDJSON.
+     * Records are read from a MongoDB cursor and written as they arrive, so memory use does not grow with the export.
+     *
+     * @param filter the event, academic year and semester to export
+     * @param format the output format
+     * @param gzip whether to gzip the output
+     * @param outputStream the stream to write to; it is not closed
+     * @throws IOException if writing to the stream fails
+     */
+    void exportAttendanceRecords(AttendanceExportFilter filter, AttendanceExportFormat format, boolean gzip, OutputStream outputStream) throws IOException;
+
     /**
      * {@code deleteAttendanceRecordById} is used to delete an attendance record by its unique identifier.
      *
@@ -2,21 +2,43 @@ package com.attendease.backend.osa.service.attendance.records.impl;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
 import com.attendease.backend.domain.attendance.History.Response.FinalizedAttendanceRecordsResponse;
+import com.attendease.backend.domain.attendance.export.AttendanceExportFilter;
+import com.attendease.backend.domain.attendance.export.AttendanceExportRow;
 import com.attendease.backend.domain.attendance.Monitoring.Records.Attendees.Response.AttendeesResponse;
+import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesPageResponse;
 import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesResponse;
 import com.attendease.backend.domain.attendance.sorted.SortedAttendanceRecordsResponse;
+import com.attendease.backend.domain.attendance.stats.EventAttendanceStats;
 import com.attendease.backend.domain.enums.AttendanceStatus;
 import com.attendease.backend.domain.enums.EventStatus;
+import com.attendease.backend.domain.enums.attendance.AttendanceExportFormat;
 import com.attendease.backend.domain.enums.attendance.AttendanceSortCriteria;
 import com.attendease.backend.domain.event.Event;
 import com.attendease.backend.osa.service.attendance.records.AttendanceRecordsManagementService;
+import com.attendease.backend.osa.service.utility.export.AttendanceRecordsExportWriter;
+import com.attendease.backend.osa.service.utility.hydration.StudentReferenceHydrator;
+import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsExport.AttendanceRecordsExport;
+import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsKeyset.AttendanceRecordsKeyset;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
+import com.attendease.backend.repository.attendanceRecords.AttendeeGroups.AttendeeGroups;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.EventAttendanceCounters;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceStatsRepository;
 import com.attendease.backend.repository.event.EventRepository;
+import com.attendease.backend.repository.reference.ReferenceIds;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -26,71 +48,44 @@ public final class AttendanceRecordsManagementServiceImpl implements AttendanceR
 
 	private final EventRepository eventRepository;
 	private final AttendanceRecordsRepository attendanceRecordsRepository;
+	private final StudentReferenceHydrator studentReferenceHydrator;
+	private final EventAttendanceStatsRepository eventAttendanceStatsRepository;
+	private final EventAttendanceCounters eventAttendanceCounters;
+	private final AttendanceRecordsKeyset attendanceRecordsKeyset;
+	private final AttendeeGroups attendeeGroups;
+	private final AttendanceRecordsExport attendanceRecordsExport;
+	private final AttendanceRecordsExportWriter attendanceRecordsExportWriter;
+	private final ObjectMapper objectMapper;
 
-	@Override
-	public List<FinalizedAttendanceRecordsResponse> getFinalizedEvents() {
-		List<Event> finalizedEvents = eventRepository.findByEventStatusIn(List.of(EventStatus.FINALIZED));
-		List<FinalizedAttendanceRecordsResponse> responses = new ArrayList<>();
+	@Value("${attendance.records.page.default-size:100}")
+	private int defaultPageSize;
 
-		for (Event event : finalizedEvents) {
-			List<AttendanceRecords> records = attendanceRecordsRepository.findByEventEventId(event.getEventId());
-			long totalPresent = records
-					.stream()
-					.filter(r -> r.getAttendanceStatus() == AttendanceStatus.PRESENT)
-					.count();
-			long totalAbsent = records
-					.stream()
-					.filter(r -> r.getAttendanceStatus() == AttendanceStatus.ABSENT)
-					.count();
-			long totalIdle = records
-					.stream()
-					.filter(r -> r.getAttendanceStatus() == AttendanceStatus.IDLE)
-					.count();
-			long totalLate = records
-					.stream()
-					.filter(r -> r.getAttendanceStatus() == AttendanceStatus.LATE)
-					.count();
-
-			String venueLocationName = event.getVenueLocation() != null ? event.getVenueLocation().getLocationName() : null;
-			String registrationLocationName = event.getVenueLocation() != null ? event.getRegistrationLocation().getLocationName() : null;
-
-			FinalizedAttendanceRecordsResponse response = FinalizedAttendanceRecordsResponse.builder()
-					.eventId(event.getEventId())
-					.eventName(event.getEventName())
-					.registrationLocationName(registrationLocationName).venueLocationName(venueLocationName)
-					.registrationDateTime(event.getRegistrationDateTime())
-					.startingDateTime(event.getStartingDateTime())
-					.endingDateTime(event.getEndingDateTime())
-					.eventStatus(event.getEventStatus())
-					.totalPresent((int) totalPresent)
-					.totalAbsent((int) totalAbsent)
-					.totalIdle((int) totalIdle)
-					.totalLate((int) totalLate)
-					.build();
-			responses.add(response);
-		}
+	@Value("${attendance.records.page.max-size:1000}")
+	private int maxPageSize;
+
+	@Value("${attendance.records.stream.batch-size:500}")
+	private int streamBatchSize;
 
-		return responses;
+	@Override
+	public List<FinalizedAttendanceRecordsResponse> getFinalizedEvents() {
+		List<Event> finalizedEvents = eventRepository.findSummariesByEventStatusIn(List.of(EventStatus.FINALIZED));
+		return mapEventsToFinalizedResponses(finalizedEvents, null, null);
 	}
 
 	@Override
 	public List<FinalizedAttendanceRecordsResponse> getFinalizedEventsByAcademicYear(String academicYearId) {
-		List<Event> finalizedEvents = eventRepository.findByEventStatusInAndAcademicYearId(
+		List<Event> finalizedEvents = eventRepository.findSummariesByEventStatusInAndAcademicYearId(
 				List.of(EventStatus.FINALIZED), academicYearId);
 
-		return finalizedEvents.stream()
-				.map(this::mapEventToFinalizedResponse)
-				.toList();
+		return mapEventsToFinalizedResponses(finalizedEvents, "No Registration Location", "No Venue Location");
 	}
 
 	@Override
 	public List<FinalizedAttendanceRecordsResponse> getFinalizedEventsBySemester(String academicYearId, Integer semester) {
-		List<Event> finalizedEvents = eventRepository.findByEventStatusInAndAcademicYearIdAndSemester(
+		List<Event> finalizedEvents = eventRepository.findSummariesByEventStatusInAndAcademicYearIdAndSemester(
 				List.of(EventStatus.FINALIZED), academicYearId, semester);
 
-		return finalizedEvents.stream()
-				.map(this::mapEventToFinalizedResponse)
-				.toList();
+		return mapEventsToFinalizedResponses(finalizedEvents, "No Registration Location", "No Venue Location");
 	}
 
 	@Override
@@ -104,6 +99,7 @@ public final class AttendanceRecordsManagementServiceImpl implements AttendanceR
 				log.info("Deleted {} attendance records for event {}", records.size(), event.getEventId());
 			}
 		}
+		eventAttendanceCounters.clear(events.stream().map(Event::getEventId).toList());
 
 		log.warn("Deleted all attendance records linked to academic year: {}", academicYearId);
 	}
@@ -111,186 +107,102 @@ public final class AttendanceRecordsManagementServiceImpl implements AttendanceR
 
 	@Override
 	public EventAttendeesResponse getAttendeesByEvent(String eventId) {
-		List<AttendanceRecords> records = attendanceRecordsRepository.findByEventEventId(eventId);
-		List<AttendeesResponse> attendees = records
+		List<AttendeesResponse> attendees = toAttendeeResponses(attendanceRecordsKeyset.findAllByEvent(eventId))
 				.stream()
-				.filter(Objects::nonNull)
-				.filter(record -> record.getStudent() != null && record.getStudent().getUser() != null)
-				.map(record -> {
-					var student = record.getStudent();
-					var user = student.getUser();
-					var section = student.getSection();
-					String sectionName = (section != null) ? section.getSectionName() : "";
-					String courseName = (section != null && section.getCourse() != null) ? section.getCourse().getCourseName() : "";
-					String clusterName = (section != null && section.getCourse() != null && section.getCourse().getCluster() != null) ? section.getCourse().getCluster().getClusterName() : "";
-
-					return AttendeesResponse.builder()
-							.userId(user.getUserId())
-							.firstName(user.getFirstName())
-							.lastName(user.getLastName())
-							.email(user.getEmail())
-							.contactNumber(user.getContactNumber())
-							.accountStatus(user.getAccountStatus())
-							.userType(user.getUserType())
-							.createdAt(user.getCreatedAt())
-							.updatedAt(user.getUpdatedAt())
-							.studentId(student.getId())
-							.studentNumber(student.getStudentNumber())
-							.sectionName(sectionName)
-							.courseName(courseName)
-							.clusterName(clusterName)
-							.yearLevel(section != null ? section.getYearLevel() : null)
-							.attendanceStatus(record.getAttendanceStatus())
-							.reason(record.getReason())
-							.timeIn(record.getTimeIn())
-							.timeOut(record.getTimeOut())
-							.attendanceRecordId(record.getRecordId())
-							.build();
-				})
 				.distinct()
 				.toList();
 		return EventAttendeesResponse.builder().totalAttendees(attendees.size()).attendees(attendees).build();
 	}
 
+	@Override
+	public EventAttendeesPageResponse getAttendeesPageByEvent(String eventId, String after, Integer size) {
+		if (after != null && !ObjectId.isValid(after)) {
+			throw new IllegalArgumentException("Invalid attendees cursor: " + after);
+		}
+		int pageSize = Math.min(size != null && size > 0 ? size : defaultPageSize, maxPageSize);
+
+		List<AttendanceRecords> records = attendanceRecordsKeyset.findPageByEvent(eventId, after, pageSize + 1);
+		boolean hasMore = records.size() > pageSize;
+		List<AttendanceRecords> page = hasMore ? records.subList(0, pageSize) : records;
+
+		List<AttendeesResponse> attendees = toAttendeeResponses(page);
+		return EventAttendeesPageResponse.builder()
+				.eventId(eventId)
+				.size(attendees.size())
+				.nextCursor(hasMore ? page.get(page.size() - 1).getRecordId() : null)
+				.hasMore(hasMore)
+				.attendees(attendees)
+				.build();
+	}
+
+	@Override
+	public void writeAttendeesByEvent(String eventId, OutputStream outputStream) throws IOException {
+		ObjectWriter attendeeWriter = objectMapper.writerFor(AttendeesResponse.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		int totalAttendees = 0;
+
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.writeStartObject();
+			generator.writeArrayFieldStart("attendees");
+
+			String after = null;
+			List<AttendanceRecords> batch;
+			do {
+				batch = attendanceRecordsKeyset.findPageByEvent(eventId, after, streamBatchSize);
+				for (AttendeesResponse attendee : toAttendeeResponses(batch)) {
+					attendeeWriter.writeValue(generator, attendee);
+					totalAttendees++;
+				}
+				if (!batch.isEmpty()) {
+					after = batch.get(batch.size() - 1).getRecordId();
+				}
+				generator.flush();
+			} while (batch.size() == streamBatchSize);
+
+			generator.writeEndArray();
+			generator.writeNumberField("totalAttendees", totalAttendees);
+			generator.writeEndObject();
+		}
+		log.info("Streamed {} attendees of event {}", totalAttendees, eventId);
+	}
+
 	@Override
 	public SortedAttendanceRecordsResponse getSortedAttendanceRecords(String eventId, AttendanceSortCriteria sortCriteria) {
-		log.info("Retrieving sorted attendance records for event: {} by {}", eventId, sortCriteria);
+		return getSortedAttendanceRecords(eventId, sortCriteria, false);
+	}
+
+	@Override
+	public SortedAttendanceRecordsResponse getSortedAttendanceRecords(String eventId, AttendanceSortCriteria sortCriteria, boolean headersOnly) {
+		log.info("Retrieving sorted attendance records for event: {} by {} (headers only: {})", eventId, sortCriteria, headersOnly);
 		Event event = eventRepository.findById(eventId).orElseThrow(() -> new RuntimeException("Event not found: " + eventId));
-		List<AttendanceRecords> records = attendanceRecordsRepository.findByEventEventId(eventId);
-		List<AttendeesResponse> attendees = records
-				.stream()
-				.filter(Objects::nonNull)
-				.filter(record -> record.getStudent() != null && record.getStudent().getUser() != null)
-				.map(record -> {
-					var student = record.getStudent();
-					var user = student.getUser();
-					var section = student.getSection();
-					String sectionName = (section != null) ? section.getSectionName() : "No Section";
-					String courseName = (section != null && section.getCourse() != null) ? section.getCourse().getCourseName() : "No Course";
-					String clusterName = (section != null && section.getCourse() != null && section.getCourse().getCluster() != null)
-							? section.getCourse().getCluster().getClusterName() : "No Cluster";
-					return AttendeesResponse.builder()
-							.userId(user.getUserId())
-							.firstName(user.getFirstName())
-							.lastName(user.getLastName())
-							.email(user.getEmail())
-							.contactNumber(user.getContactNumber())
-							.accountStatus(user.getAccountStatus())
-							.userType(user.getUserType())
-							.createdAt(user.getCreatedAt())
-							.updatedAt(user.getUpdatedAt())
-							.studentId(student.getId())
-							.studentNumber(student.getStudentNumber())
-							.sectionName(sectionName)
-							.courseName(courseName)
-							.clusterName(clusterName)
-							.yearLevel(section != null ? section.getYearLevel() : null)
-							.attendanceStatus(record.getAttendanceStatus())
-							.reason(record.getReason())
-							.timeIn(record.getTimeIn())
-							.timeOut(record.getTimeOut())
-							.attendanceRecordId(record.getRecordId())
-							.build();
-				})
-				.distinct()
-				.toList();
 
-		Map<String, SortedAttendanceRecordsResponse.GroupedAttendees> groupedMap;
-
-		switch (sortCriteria) {
-			case CLUSTER:
-				groupedMap = attendees.stream()
-						.collect(Collectors.groupingBy(
-								AttendeesResponse::getClusterName,
-								LinkedHashMap::new,
-								Collectors.collectingAndThen(
-										Collectors.toList(),
-										list -> SortedAttendanceRecordsResponse.GroupedAttendees.builder()
-												.groupName(list.isEmpty() ? "Unknown" : list.get(0).getClusterName())
-												.clusterName(list.isEmpty() ? "Unknown" : list.get(0).getClusterName())
-												.count(list.size())
-												.attendees(list)
-												.build()
-								)
-						));
-				break;
-
-			case COURSE:
-				groupedMap = attendees.stream()
-						.collect(Collectors.groupingBy(
-								AttendeesResponse::getCourseName,
-								LinkedHashMap::new,
-								Collectors.collectingAndThen(
-										Collectors.toList(),
-										list -> SortedAttendanceRecordsResponse.GroupedAttendees.builder()
-												.groupName(list.isEmpty() ? "Unknown" : list.get(0).getCourseName())
-												.clusterName(list.isEmpty() ? "Unknown" : list.get(0).getClusterName())
-												.courseName(list.isEmpty() ? "Unknown" : list.get(0).getCourseName())
-												.count(list.size())
-												.attendees(list)
-												.build()
-								)
-						));
-				break;
-
-			case SECTION:
-				groupedMap = attendees.stream()
-						.collect(Collectors.groupingBy(
-								AttendeesResponse::getSectionName,
-								LinkedHashMap::new,
-								Collectors.collectingAndThen(
-										Collectors.toList(),
-										list -> SortedAttendanceRecordsResponse.GroupedAttendees.builder()
-												.groupName(list.isEmpty() ? "Unknown" : list.get(0).getSectionName())
-												.clusterName(list.isEmpty() ? "Unknown" : list.get(0).getClusterName())
-												.courseName(list.isEmpty() ? "Unknown" : list.get(0).getCourseName())
-												.sectionName(list.isEmpty() ? "Unknown" : list.get(0).getSectionName())
-												.yearLevel(list.isEmpty() ? null : list.get(0).getYearLevel())
-												.count(list.size())
-												.attendees(list)
-												.build()
-								)
-						));
-				break;
-
-			case YEAR_LEVEL:
-				groupedMap = attendees.stream()
-						.collect(Collectors.groupingBy(
-								a -> a.getYearLevel() != null ? a.getYearLevel().toString() : "Unknown",
-								LinkedHashMap::new,
-								Collectors.collectingAndThen(
-										Collectors.toList(),
-										list -> {
-											Integer yearLevel = list.isEmpty() || list.get(0).getYearLevel() == null
-													? null : list.get(0).getYearLevel();
-											String yearLevelName = yearLevel != null
-													? getYearLevelName(yearLevel)
-													: "Unknown Year Level";
-
-											return SortedAttendanceRecordsResponse.GroupedAttendees.builder()
-													.groupName(yearLevelName)
-													.yearLevel(yearLevel)
-													.count(list.size())
-													.attendees(list)
-													.build();
-										}
-								)
-						));
-				break;
-
-			default:
-				throw new IllegalArgumentException("Invalid sort criteria: " + sortCriteria);
-		}
-		log.info("Grouped {} attendees into {} groups by {}", attendees.size(), groupedMap.size(), sortCriteria);
+		Map<String, SortedAttendanceRecordsResponse.GroupedAttendees> groupedMap = headersOnly
+				? attendeeGroups.findGroupHeaders(eventId, sortCriteria)
+				: attendeeGroups.findGroups(eventId, sortCriteria, null);
+		groupedMap.values().forEach(group -> nameGroup(group, sortCriteria));
+
+		int totalAttendees = groupedMap.values().stream().mapToInt(SortedAttendanceRecordsResponse.GroupedAttendees::getCount).sum();
+		log.info("Grouped {} attendees into {} groups by {}", totalAttendees, groupedMap.size(), sortCriteria);
 		return SortedAttendanceRecordsResponse.builder()
 				.eventId(eventId)
 				.eventName(event.getEventName())
 				.sortBy(sortCriteria.name())
-				.totalAttendees(attendees.size())
+				.totalAttendees(totalAttendees)
 				.groupedAttendees(groupedMap)
 				.build();
 	}
 
+	@Override
+	public SortedAttendanceRecordsResponse.GroupedAttendees getAttendanceGroup(String eventId, AttendanceSortCriteria sortCriteria, String groupKey) {
+		SortedAttendanceRecordsResponse.GroupedAttendees group = attendeeGroups.findGroups(eventId, sortCriteria, groupKey).get(groupKey);
+		if (group == null) {
+			throw new RuntimeException("Attendee group not found: " + groupKey);
+		}
+		nameGroup(group, sortCriteria);
+		return group;
+	}
+
 	@Override
 	public List<AttendanceRecords> getAttendanceRecordsByStudentId(String studentId) {
 		return attendanceRecordsRepository.findByStudentIdOrderByCreatedAtDesc(studentId);
@@ -304,13 +216,16 @@ public final class AttendanceRecordsManagementServiceImpl implements AttendanceR
 		}
 
 		AttendanceRecords record = optionalRecord.get();
+		AttendanceStatus previousStatus = record.getAttendanceStatus();
 		record.setAttendanceStatus(status);
 		if (reason != null) {
 			record.setReason(reason);
 		}
 		record.setUpdatedByUserId(updatedByUserId);
 
-		return attendanceRecordsRepository.save(record);
+		AttendanceRecords saved = attendanceRecordsRepository.save(record);
+		eventAttendanceCounters.recordTransition(eventId, previousStatus, status);
+		return saved;
 	}
 
 	@Override
@@ -319,11 +234,27 @@ public final class AttendanceRecordsManagementServiceImpl implements AttendanceR
 	}
 
 	@Override
-	public void deleteAttendanceRecordById(String recordId) {
-		if (!attendanceRecordsRepository.existsById(recordId)) {
-			throw new RuntimeException("Attendance record not found: " + recordId);
+	public void exportAttendanceRecords(AttendanceExportFilter filter, AttendanceExportFormat format, boolean gzip, OutputStream outputStream) throws IOException {
+		long start = System.currentTimeMillis();
+		GZIPOutputStream gzipOutputStream = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : null;
+
+		long exported;
+		try (Stream<AttendanceExportRow> rows = attendanceRecordsExport.streamRows(filter)) {
+			exported = attendanceRecordsExportWriter.write(rows, format, gzipOutputStream != null ? gzipOutputStream : outputStream);
 		}
+		if (gzipOutputStream != null) {
+			gzipOutputStream.finish();
+		}
+		log.info("Exported {} attendance records as {} (event: {}, academic year: {}, semester: {}) in {} ms",
+				exported, format, filter.getEventId(), filter.getAcademicYearId(), filter.getSemester(), System.currentTimeMillis() - start);
+	}
+
+	@Override
+	public void deleteAttendanceRecordById(String recordId) {
+		AttendanceRecords record = attendanceRecordsRepository.findById(recordId)
+				.orElseThrow(() -> new RuntimeException("Attendance record not found: " + recordId));
 		attendanceRecordsRepository.deleteById(recordId);
+		eventAttendanceCounters.recordDeleted(ReferenceIds.idOf(record.getEvent(), Event::getEventId), record.getAttendanceStatus());
 		log.info("Deleted attendance record: {}", recordId);
 	}
 
@@ -332,10 +263,17 @@ public final class AttendanceRecordsManagementServiceImpl implements AttendanceR
 		long count = attendanceRecordsRepository.count();
 		if (count > 0) {
 			attendanceRecordsRepository.deleteAll();
+			eventAttendanceCounters.clearAll();
 			log.warn("Deleted all {} attendance records", count);
 		}
 	}
 
+	private void nameGroup(SortedAttendanceRecordsResponse.GroupedAttendees group, AttendanceSortCriteria sortCriteria) {
+		if (sortCriteria == AttendanceSortCriteria.YEAR_LEVEL) {
+			group.setGroupName(getYearLevelName(group.getYearLevel()));
+		}
+	}
+
 	private String getYearLevelName(Integer yearLevel) {
 		if (yearLevel == null) {
 			return "Unknown Year Level";
@@ -349,34 +287,74 @@ public final class AttendanceRecordsManagementServiceImpl implements AttendanceR
 		return yearLevel + suffix + " Year";
 	}
 
-	private FinalizedAttendanceRecordsResponse mapEventToFinalizedResponse(Event event) {
-		List<AttendanceRecords> records = attendanceRecordsRepository.findByEventEventId(event.getEventId());
-		long totalPresent = records.stream().filter(r -> r.getAttendanceStatus() == AttendanceStatus.PRESENT).count();
-		long totalAbsent = records.stream().filter(r -> r.getAttendanceStatus() == AttendanceStatus.ABSENT).count();
-		long totalIdle = records.stream().filter(r -> r.getAttendanceStatus() == AttendanceStatus.IDLE).count();
-		long totalLate = records.stream().filter(r -> r.getAttendanceStatus() == AttendanceStatus.LATE).count();
-
-		String regLocationName = event.getRegistrationLocation() != null
-				? event.getRegistrationLocation().getLocationName()
-				: "No Registration Location";
+	/**
+	 * Hydrates the students of the records in one batch and maps the records to attendees, skipping records without a student account.
+	 */
+	private List<AttendeesResponse> toAttendeeResponses(List<AttendanceRecords> records) {
+		return studentReferenceHydrator.hydrateStudentsOf(records)
+				.stream()
+				.filter(Objects::nonNull)
+				.filter(record -> record.getStudent() != null && record.getStudent().getUser() != null)
+				.map(record -> {
+					var student = record.getStudent();
+					var user = student.getUser();
+					var section = student.getSection();
+					String sectionName = (section != null) ? section.getSectionName() : "";
+					String courseName = (section != null && section.getCourse() != null) ? section.getCourse().getCourseName() : "";
+					String clusterName = (section != null && section.getCourse() != null && section.getCourse().getCluster() != null) ? section.getCourse().getCluster().getClusterName() : "";
 
-		String venueLocationName = event.getVenueLocation() != null
-				? event.getVenueLocation().getLocationName()
-				: "No Venue Location";
+					return AttendeesResponse.builder()
+							.userId(user.getUserId())
+							.firstName(user.getFirstName())
+							.lastName(user.getLastName())
+							.email(user.getEmail())
+							.contactNumber(user.getContactNumber())
+							.accountStatus(user.getAccountStatus())
+							.userType(user.getUserType())
+							.createdAt(user.getCreatedAt())
+							.updatedAt(user.getUpdatedAt())
+							.studentId(student.getId())
+							.studentNumber(student.getStudentNumber())
+							.sectionName(sectionName)
+							.courseName(courseName)
+							.clusterName(clusterName)
+							.yearLevel(section != null ? section.getYearLevel() : null)
+							.attendanceStatus(record.getAttendanceStatus())
+							.reason(record.getReason())
+							.timeIn(record.getTimeIn())
+							.timeOut(record.getTimeOut())
+							.attendanceRecordId(record.getRecordId())
+							.build();
+				})
+				.toList();
+	}
 
-		return FinalizedAttendanceRecordsResponse.builder()
-				.eventId(event.getEventId())
-				.eventName(event.getEventName())
-				.registrationLocationName(regLocationName)
-				.venueLocationName(venueLocationName)
-				.registrationDateTime(event.getRegistrationDateTime())
-				.startingDateTime(event.getStartingDateTime())
-				.endingDateTime(event.getEndingDateTime())
-				.eventStatus(event.getEventStatus())
-				.totalPresent((int) totalPresent)
-				.totalAbsent((int) totalAbsent)
-				.totalIdle((int) totalIdle)
-				.totalLate((int) totalLate)
-				.build();
+	/**
+	 * Maps events to their finalized summaries, reading the status counts of all events from their materialized counters.
+	 */
+	private List<FinalizedAttendanceRecordsResponse> mapEventsToFinalizedResponses(List<Event> events, String noRegistrationLocation, String noVenueLocation) {
+		Map<String, EventAttendanceStats> stats = new HashMap<>();
+		eventAttendanceStatsRepository.findAllById(events.stream().map(Event::getEventId).toList())
+				.forEach(eventStats -> stats.put(eventStats.getEventId(), eventStats));
+
+		return events.stream()
+				.map(event -> {
+					EventAttendanceStats eventStats = stats.getOrDefault(event.getEventId(), EventAttendanceStats.empty(event.getEventId()));
+					return FinalizedAttendanceRecordsResponse.builder()
+							.eventId(event.getEventId())
+							.eventName(event.getEventName())
+							.registrationLocationName(event.getRegistrationLocationName() != null ? event.getRegistrationLocationName() : noRegistrationLocation)
+							.venueLocationName(event.getVenueLocationName() != null ? event.getVenueLocationName() : noVenueLocation)
+							.registrationDateTime(event.getRegistrationDateTime())
+							.startingDateTime(event.getStartingDateTime())
+							.endingDateTime(event.getEndingDateTime())
+							.eventStatus(event.getEventStatus())
+							.totalPresent(eventStats.countOf(AttendanceStatus.PRESENT))
+							.totalAbsent(eventStats.countOf(AttendanceStatus.ABSENT))
+							.totalIdle(eventStats.countOf(AttendanceStatus.IDLE))
+							.totalLate(eventStats.countOf(AttendanceStatus.LATE))
+							.build();
+				})
+				.toList();
 	}
-}
\ No newline at end of file
+}
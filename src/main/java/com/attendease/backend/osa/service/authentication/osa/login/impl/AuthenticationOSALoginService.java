@@ -3,6 +3,7 @@ package com.attendease.backend.osa.service.authentication.osa.login.impl;
 import com.attendease.backend.domain.user.User;
 import com.attendease.backend.repository.users.UserRepository;
 import com.attendease.backend.security.JwtTokenProvider;
+import com.attendease.backend.security.password.PasswordRehashService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ public class AuthenticationOSALoginService implements com.attendease.backend.osa
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordRehashService passwordRehashService;
 
     @Override
     public String loginOSA(String email, String password) {
@@ -23,6 +25,8 @@ public class AuthenticationOSALoginService implements com.attendease.backend.osa
             throw new IllegalArgumentException("Invalid email or password");
         }
 
+        passwordRehashService.rehashIfNeeded(user.getUserId(), password, user.getPassword());
+
         return jwtTokenProvider.generateToken(user.getUserId(), user.getEmail(), user.getUserType());
     }
 }
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import com.attendease.backend.repository.section.SectionRepository;
 import com.attendease.backend.student.service.event.broadcast.EventBroadcastService;
 import com.attendease.backend.student.service.event.retrieval.impl.EventRetrievalServiceImpl;
+import com.attendease.backend.student.service.utils.event.EventSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -60,6 +61,7 @@ public final class EventManagementServiceImpl implements EventManagementService
 
     private final EventBroadcastService eventBroadcastService;
     private final EventRetrievalServiceImpl eventRetrievalService;
+    private final EventSnapshotCache eventSnapshotCache;
 
     private static final long MIN_EVENT_DURATION_MINUTES = 30;
     private static final long MAX_EVENT_DURATION_MINUTES = 360;
@@ -193,6 +195,7 @@ public final class EventManagementServiceImpl implements EventManagementService
         eventBroadcastService.triggerImmediateBroadcast();
 
         eventRepository.deleteById(id);
+        eventSnapshotCache.evict(id);
         log.debug("Deleted event with ID: {}", id);
     }
 
@@ -294,6 +297,7 @@ public final class EventManagementServiceImpl implements EventManagementService
         existingEvent.setLastModified(LocalDateTime.now());
         checkLocationConflict(existingEvent, eventId);
         Event updatedEvent = eventRepository.save(existingEvent);
+        eventSnapshotCache.refresh(updatedEvent);
         eventRetrievalService.clearHomepageEventsCache();
         eventBroadcastService.triggerImmediateBroadcast();
         log.debug("Successfully updated event session with ID: {}", eventId);
@@ -307,7 +311,9 @@ public final class EventManagementServiceImpl implements EventManagementService
         existingEvent.setLastModified(LocalDateTime.now());
         eventRetrievalService.clearHomepageEventsCache();
         eventBroadcastService.triggerImmediateBroadcast();
-        return eventRepository.save(existingEvent);
+        Event cancelledEvent = eventRepository.save(existingEvent);
+        eventSnapshotCache.evict(eventId);
+        return cancelledEvent;
     }
 
     /**
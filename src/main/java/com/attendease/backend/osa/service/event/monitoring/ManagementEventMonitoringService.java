@@ -1,7 +1,10 @@
 package com.attendease.backend.osa.service.event.monitoring;
 
 import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesResponse;
+import com.attendease.backend.domain.attendance.stats.EventAttendanceStats;
+import com.attendease.backend.domain.biometrics.Identification.Response.FaceIdentificationResponse;
 import com.attendease.backend.domain.event.Event;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -32,4 +35,24 @@ public interface ManagementEventMonitoringService {
      * @return an {@link EventAttendeesResponse} containing total registered attendees and their details
      */
     EventAttendeesResponse getAttendeesByEventWithRegisteredAttendanceStatus(String eventId);
+
+    /**
+     * {@code getAttendanceStatsByEvent} is used to retrieve the live attendance status counts of an event
+     * from its materialized counters, without reading any attendance record.
+     *
+     * @param eventId the ID of the event to retrieve the counts for
+     * @return the {@link EventAttendanceStats} of the event, with no counts if nobody registered yet
+     */
+    EventAttendanceStats getAttendanceStatsByEvent(String eventId);
+
+    /**
+     * {@code identifyStudentByFace} is used to identify which eligible student of a live event is in a face image,
+     * e.g. from a shared tablet at the venue entrance. The image is searched against the event's preloaded
+     * face index instead of a single student's stored encoding.
+     *
+     * @param eventId the ID of the event, which must be in REGISTRATION or ONGOING status with facial verification enabled
+     * @param faceImage the face image to identify
+     * @return a {@link FaceIdentificationResponse} with the identified student number, if any
+     */
+    FaceIdentificationResponse identifyStudentByFace(String eventId, MultipartFile faceImage);
 }
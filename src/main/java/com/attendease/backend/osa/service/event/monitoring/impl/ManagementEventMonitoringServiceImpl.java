@@ -3,23 +3,45 @@ package com.attendease.backend.osa.service.event.monitoring.impl;
 import com.attendease.backend.domain.attendance.AttendanceRecords;
 import com.attendease.backend.domain.attendance.Monitoring.Records.Attendees.Response.AttendeesResponse;
 import com.attendease.backend.domain.attendance.Monitoring.Records.Management.Response.EventAttendeesResponse;
+import com.attendease.backend.domain.attendance.stats.EventAttendanceStats;
+import com.attendease.backend.domain.biometrics.Identification.Response.FaceIdentificationResponse;
+import com.attendease.backend.domain.biometrics.Verification.Response.EventRegistrationBiometricsVerificationResponse;
 import com.attendease.backend.domain.enums.AttendanceStatus;
 import com.attendease.backend.domain.enums.EventStatus;
 import com.attendease.backend.domain.event.Event;
+import com.attendease.backend.client.biometrics.verification.BiometricsVerificationClient;
+import com.attendease.backend.exceptions.domain.Biometrics.InvalidBiometricImageException;
+import com.attendease.backend.exceptions.domain.Event.EventNotFoundException;
+import com.attendease.backend.exceptions.domain.Event.EventStatusException;
 import com.attendease.backend.osa.service.event.monitoring.ManagementEventMonitoringService;
+import com.attendease.backend.osa.service.utility.hydration.StudentReferenceHydrator;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceStatsRepository;
 import com.attendease.backend.repository.event.EventRepository;
+import com.attendease.backend.student.service.utils.biometrics.FaceEncodingIndex;
+import com.attendease.backend.student.service.utils.biometrics.FaceEncodingIndexStore;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ManagementEventMonitoringServiceImpl implements ManagementEventMonitoringService {
 
 	private final EventRepository eventRepository;
 	private final AttendanceRecordsRepository attendanceRecordsRepository;
+	private final StudentReferenceHydrator studentReferenceHydrator;
+	private final EventAttendanceStatsRepository eventAttendanceStatsRepository;
+	private final BiometricsVerificationClient biometricsVerificationClient;
+	private final FaceEncodingIndexStore faceEncodingIndexStore;
+
+	@Value("${facial.identification.tolerance:0.5}")
+	private double identificationTolerance;
 
 	@Override
 	public List<Event> getEventWithUpcomingRegistrationOngoingStatuses() {
@@ -28,12 +50,14 @@ public class ManagementEventMonitoringServiceImpl implements ManagementEventMoni
 
 	@Override
 	public EventAttendeesResponse getAttendeesByEventWithRegisteredAttendanceStatus(String eventId) {
-		List<AttendanceRecords> records = attendanceRecordsRepository.findByEventEventId(eventId);
-
-		List<AttendeesResponse> attendees = records
+		List<AttendanceRecords> records = attendanceRecordsRepository.findByEventEventId(eventId)
 				.stream()
 				.filter(Objects::nonNull)
 				.filter(record -> record.getAttendanceStatus() == AttendanceStatus.REGISTERED || record.getAttendanceStatus() == AttendanceStatus.LATE)
+				.toList();
+
+		List<AttendeesResponse> attendees = studentReferenceHydrator.hydrateStudentsOf(records)
+				.stream()
 				.filter(record -> record.getStudent() != null && record.getStudent().getUser() != null)
 				.map(this::mapToAttendeeResponse)
 				.distinct()
@@ -42,6 +66,50 @@ public class ManagementEventMonitoringServiceImpl implements ManagementEventMoni
 		return EventAttendeesResponse.builder().totalAttendees(attendees.size()).attendees(attendees).build();
 	}
 
+	@Override
+	public EventAttendanceStats getAttendanceStatsByEvent(String eventId) {
+		return eventAttendanceStatsRepository.findById(eventId).orElseGet(() -> EventAttendanceStats.empty(eventId));
+	}
+
+	@Override
+	public FaceIdentificationResponse identifyStudentByFace(String eventId, MultipartFile faceImage) {
+		if (faceImage == null || faceImage.isEmpty()) {
+			throw new InvalidBiometricImageException("Face image is required for identification");
+		}
+
+		Event event = eventRepository.findById(eventId).orElseThrow(() -> new EventNotFoundException(eventId, true));
+		if (!faceEncodingIndexStore.isIndexed(event)) {
+			throw new EventStatusException("Face identification is only available for events in REGISTRATION or ONGOING status with facial verification enabled");
+		}
+
+		EventRegistrationBiometricsVerificationResponse encodingResponse = biometricsVerificationClient.extractFaceEncoding(faceImage);
+		if (!Boolean.TRUE.equals(encodingResponse.getSuccess()) || encodingResponse.getFacialEncoding() == null) {
+			throw new InvalidBiometricImageException("Failed to detect face in uploaded image");
+		}
+
+		FaceEncodingIndex index = faceEncodingIndexStore.get(event);
+		FaceEncodingIndex.Match match = index.nearest(encodingResponse.getFacialEncoding());
+		if (match == null) {
+			return FaceIdentificationResponse.builder()
+					.identified(false)
+					.candidates(0)
+					.message("No registered faces among the eligible students of this event")
+					.build();
+		}
+
+		boolean identified = match.distance() <= identificationTolerance;
+		log.info("Face identification for event {} over {} candidates - Identified: {}, Distance: {}",
+				eventId, index.size(), identified, match.distance());
+		return FaceIdentificationResponse.builder()
+				.identified(identified)
+				.studentNumber(identified ? match.studentNumber() : null)
+				.faceDistance(match.distance())
+				.confidence(1.0 - match.distance())
+				.candidates(index.size())
+				.message(identified ? "Student identified" : "No eligible student matches this face")
+				.build();
+	}
+
 	private AttendeesResponse mapToAttendeeResponse(AttendanceRecords record) {
 		var student = record.getStudent();
 		var user = student.getUser();
@@ -13,6 +13,8 @@ import com.attendease.backend.osa.service.location.management.LocationManagement
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
 import com.attendease.backend.repository.event.EventRepository;
 import com.attendease.backend.repository.location.LocationRepository;
+import com.attendease.backend.student.service.utils.LocationValidator;
+import com.attendease.backend.student.service.utils.event.EventSnapshotCache;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -48,6 +50,8 @@ public final class LocationManagementServiceImpl implements LocationManagementSe
     private final LocationRepository locationRepository;
     private final EventRepository eventRepository;
     private final AttendanceRecordsRepository attendanceRecordsRepository;
+    private final LocationValidator locationValidator;
+    private final EventSnapshotCache eventSnapshotCache;
 
     @Override
     public LocationManagementResponse createNewLocation(LocationManagementRequest request) {
@@ -116,6 +120,10 @@ public final class LocationManagementServiceImpl implements LocationManagementSe
 
         location.setUpdatedAt(LocalDateTime.now());
         location = locationRepository.save(location);
+        if (request.getLocationGeometry() != null) {
+            locationValidator.invalidate(locationId);
+        }
+        eventSnapshotCache.evictLocation(locationId);
         log.info("Updated location: {}", locationId);
 
         return toResponseDTO(location);
@@ -146,6 +154,7 @@ public final class LocationManagementServiceImpl implements LocationManagementSe
         }
 
         locationRepository.deleteById(locationId);
+        locationValidator.invalidate(locationId);
         log.info("Deleted location: {} ({})", location.getLocationName(), locationId);
     }
 
@@ -6,10 +6,10 @@ import com.attendease.backend.domain.user.account.osa.registration.UserAccountOs
 import com.attendease.backend.domain.user.User;
 import com.attendease.backend.osa.service.management.osa.registration.ManagementOSARegistrationService;
 import com.attendease.backend.repository.users.UserRepository;
+import com.attendease.backend.security.password.PasswordHashingService;
 import com.attendease.backend.validation.UserValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -18,7 +18,7 @@ import org.springframework.stereotype.Service;
 public class ManagementOSARegistrationServiceImpl implements ManagementOSARegistrationService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserValidator userValidator;
 
     @Override
@@ -37,7 +37,7 @@ public class ManagementOSARegistrationServiceImpl implements ManagementOSARegist
         User newUser = User.builder()
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.hash(request.getPassword()))
                 .contactNumber(request.getContactNumber())
                 .email(request.getEmail())
                 .userType(UserType.OSA)
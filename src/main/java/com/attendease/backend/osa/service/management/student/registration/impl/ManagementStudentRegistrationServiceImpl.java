@@ -11,10 +11,10 @@ import com.attendease.backend.osa.service.management.student.registration.Manage
 import com.attendease.backend.repository.section.SectionRepository;
 import com.attendease.backend.repository.students.StudentRepository;
 import com.attendease.backend.repository.users.UserRepository;
+import com.attendease.backend.security.password.PasswordHashingService;
 import com.attendease.backend.validation.UserValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,7 +26,7 @@ public class ManagementStudentRegistrationServiceImpl implements ManagementStude
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
     private final SectionRepository sectionRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserValidator userValidator;
 
     @Override
@@ -45,9 +45,10 @@ public class ManagementStudentRegistrationServiceImpl implements ManagementStude
 
         User user = createUserFromRegistrationRequest(registrationRequest);
         Students student = createStudentFromRegistrationRequest(registrationRequest);
-        student.setUser(user);
 
         userRepository.save(user);
+        student.setUser(user);
+        student.setUserId(user.getUserId());
         studentRepository.save(student);
 
         log.info("Registered new student account for studentNumber: {}", registrationRequest.getStudentNumber());
@@ -65,7 +66,7 @@ public class ManagementStudentRegistrationServiceImpl implements ManagementStude
         user.setLastName(request.getLastName());
         user.setEmail(request.getEmail());
         user.setContactNumber(request.getContactNumber());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.hash(request.getPassword()));
         user.setUserType(UserType.STUDENT);
         user.setAccountStatus(AccountStatus.ACTIVE);
         user.setUpdatedBy(String.valueOf(UserType.SYSTEM));
@@ -86,6 +87,7 @@ public class ManagementStudentRegistrationServiceImpl implements ManagementStude
                 derivedSection = sectionRepository.findBySectionName(sectionValue).orElseThrow(() -> new IllegalArgumentException("Section name not found: " + sectionValue));
             }
             student.setSection(derivedSection);
+            student.setCurrentSectionId(derivedSection.getId());
 
             derivedCourse = derivedSection.getCourse();
             if (derivedCourse == null) {
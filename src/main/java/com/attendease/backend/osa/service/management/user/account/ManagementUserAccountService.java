@@ -2,8 +2,7 @@ package com.attendease.backend.osa.service.management.user.account;
 
 import com.attendease.backend.domain.student.Students;
 import com.attendease.backend.domain.student.user.student.UserStudentResponse;
-import com.attendease.backend.domain.user.User;
-import com.attendease.backend.exceptions.domain.ImportException.CsvImportException;
+import com.attendease.backend.domain.user.account.management.users.csv.job.StudentImportJob;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -22,19 +21,31 @@ import java.util.List;
 public interface ManagementUserAccountService {
 
     /**
-     * {@code importStudentsViaCSV} is used to import student from a CSV file, creating linked user accounts and student entities.
+     * {@code startStudentImport} is used to import students from a CSV file in the background, creating linked user accounts and student entities.
      *
-     * <p>Validates the CSV structure (headers, required columns: firstName, lastName, studentNumber, password), parses rows,
-     * checks for duplicates (student number), validates fields (e.g., password strength, section format), and associates
-     * with sections if provided. Encodes passwords and sets ACTIVE status for STUDENT type user. Skips invalid rows and
-     * throws exceptions for parsing or validation errors.</p>
+     * <p>Checks that the upload is a non-empty CSV file, saves a {@link StudentImportJob} in QUEUED state and returns it without waiting
+     * for the import. The job then validates the CSV structure and every row (duplicates, password strength, section existence),
+     * hashes the passwords and inserts the accounts, reporting progress and row errors to the requester on
+     * {@code /user/queue/import-progress}. Nothing is inserted when any row is invalid.</p>
      *
      * @param file the {@link MultipartFile} containing the CSV data
-     * @return a list of created {@link User} objects for successfully imported student
-     * @throws IllegalArgumentException if the file is invalid (e.g., not CSV, missing headers, empty)
-     * @throws CsvImportException if import completes with row-specific errors (e.g., duplicates, validation failures)
+     * @param requestedBy the ID of the osa user starting the import, who receives its progress
+     * @return the queued {@link StudentImportJob}
+     * @throws IllegalArgumentException if the file is missing, empty or not a CSV file
      */
-    List<User> importStudentsViaCSV(MultipartFile file);
+    StudentImportJob startStudentImport(MultipartFile file, String requestedBy);
+
+    /**
+     * {@code getStudentImportJob} is used to retrieve the current state of a student import job.
+     *
+     * <p>Only the osa user who started the import can retrieve it, since the job holds the row errors of the uploaded file.</p>
+     *
+     * @param jobId the ID of the import job
+     * @param requestedBy the ID of the osa user asking for the job
+     * @return the {@link StudentImportJob}
+     * @throws ResponseStatusException with 404 status if the job is not found or was started by another user
+     */
+    StudentImportJob getStudentImportJob(String jobId, String requestedBy);
 
     /**
      * {@code retrieveUsersWithStudents} is used to retrieve all user (osa and student) with their associated student details, if applicable.
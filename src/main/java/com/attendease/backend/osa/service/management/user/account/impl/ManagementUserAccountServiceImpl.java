@@ -2,29 +2,36 @@ package com.attendease.backend.osa.service.management.user.account.impl;
 
 import com.attendease.backend.domain.biometrics.BiometricData;
 import com.attendease.backend.domain.enums.AccountStatus;
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.attendease.backend.domain.enums.ImportJobStatus;
 import com.attendease.backend.domain.enums.UserType;
-import com.attendease.backend.domain.exception.error.csv.CsvImportErrorResponse;
 import com.attendease.backend.domain.section.Section;
-import com.attendease.backend.domain.user.account.management.users.csv.row.UserAccountManagementUsersCSVRowData;
+import com.attendease.backend.domain.user.account.management.users.csv.job.StudentImportJob;
 import com.attendease.backend.domain.student.Students;
 import com.attendease.backend.domain.student.user.student.UserStudentResponse;
 import com.attendease.backend.domain.user.User;
-import com.attendease.backend.exceptions.domain.ImportException.CsvImportException;
 import com.attendease.backend.osa.service.management.user.account.ManagementUserAccountService;
-import com.attendease.backend.osa.service.utility.csv.parser.UserCsvParser;
+import com.attendease.backend.osa.service.utility.csv.importer.job.StudentImportJobRunner;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
+import com.attendease.backend.repository.attendanceRecords.AttendanceStatusSummary.AttendanceStatusSummary;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.EventAttendanceCounters;
 import com.attendease.backend.repository.biometrics.BiometricsRepository;
+import com.attendease.backend.repository.importJobs.StudentImportJobRepository;
+import com.attendease.backend.repository.reference.ReferenceIds;
 import com.attendease.backend.repository.section.SectionRepository;
 import com.attendease.backend.repository.students.StudentRepository;
 import com.attendease.backend.repository.users.UserRepository;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
 import com.attendease.backend.validation.UserValidator;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,80 +43,62 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class ManagementUserAccountServiceImpl implements ManagementUserAccountService {
     private final AttendanceRecordsRepository attendanceRecordsRepository;
+    private final AttendanceStatusSummary attendanceStatusSummary;
+    private final EventAttendanceCounters eventAttendanceCounters;
 
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
     private final SectionRepository sectionRepository;
     private final BiometricsRepository biometricsRepository;
-    private final PasswordEncoder passwordEncoder;
     private final UserValidator userValidator;
+    private final StudentIdentityCache studentIdentityCache;
+    private final StudentImportJobRepository studentImportJobRepository;
+    private final StudentImportJobRunner studentImportJobRunner;
 
     @Override
-    @Transactional
-    public List<User> importStudentsViaCSV(MultipartFile file) {
+    public StudentImportJob startStudentImport(MultipartFile file, String requestedBy) {
         validateCSVFile(file);
-        List<UserAccountManagementUsersCSVRowData> rows;
 
+        Instant now = Instant.now();
+        StudentImportJob job = studentImportJobRepository.save(StudentImportJob.builder()
+                .requestedBy(requestedBy)
+                .fileName(file.getOriginalFilename())
+                .status(ImportJobStatus.QUEUED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        Path upload;
         try {
-            rows = UserCsvParser.parse(file.getInputStream());
+            upload = Files.createTempFile("student-import-" + job.getJobId() + "-", ".csv");
+            file.transferTo(upload);
         } catch (IOException e) {
-            throw new IllegalArgumentException("Invalid CSV file: " + e.getMessage(), e);
-        }
-        if (rows.isEmpty()) {
-            throw new IllegalArgumentException("CSV file contains no data rows");
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setMessage("Failed to store uploaded CSV file: " + e.getMessage());
+            job.setFinishedAt(Instant.now());
+            studentImportJobRepository.save(job);
+            throw new IllegalStateException(job.getMessage(), e);
         }
 
-        List<User> importedUsers = new ArrayList<>();
-        List<CsvImportErrorResponse.RowError> errors = new ArrayList<>();
-
-        for (int i = 0; i < rows.size(); i++) {
-            int rowNumber = i + 1;
-            UserAccountManagementUsersCSVRowData row = rows.get(i);
-
-            try {
-                normalize(row);
-                if (!isValidRowData(row)) {
-                    errors.add(new CsvImportErrorResponse.RowError(rowNumber, List.of("Missing required fields")));
-                    continue;
-                }
-
-                if (studentRepository.existsByStudentNumber(row.getStudentNumber())) {
-                    errors.add(new CsvImportErrorResponse.RowError(
-                            rowNumber,
-                            List.of("Duplicate student number: " + row.getStudentNumber())
-                    ));
-                    continue;
-                }
-
-                User user = createUserAndStudent(row);
-                importedUsers.add(user);
-            } catch (IllegalArgumentException e) {
-                errors.add(new CsvImportErrorResponse.RowError(rowNumber, List.of(e.getMessage())));
-            } catch (Exception e) {
-                log.error("Unexpected error at row {}", rowNumber, e);
-                errors.add(new CsvImportErrorResponse.RowError(
-                        rowNumber,
-                        List.of("Unexpected error: " + e.getMessage())
-                ));
-            }
-        }
-
-        if (!errors.isEmpty()) {
-            CsvImportErrorResponse errorResponse = CsvImportErrorResponse.fromErrors(errors, rows.size());
-            throw new CsvImportException(errorResponse.getMessage(), errorResponse);
-        }
-
-        log.info("Successfully imported {} students", importedUsers.size());
-        return importedUsers;
+        StudentImportJob queued = job.snapshot();
+        studentImportJobRunner.submit(job, upload);
+        log.info("Queued student import job {} for {} by {}", job.getJobId(), job.getFileName(), requestedBy);
+        return queued;
     }
 
+    @Override
+    public StudentImportJob getStudentImportJob(String jobId, String requestedBy) {
+        return studentImportJobRepository.findById(jobId)
+                .filter(job -> requestedBy.equals(job.getRequestedBy()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Import job not found: " + jobId));
+    }
 
     @Override
     public List<UserStudentResponse> retrieveUsers() {
         List<User> users = userRepository.findAll();
         List<Students> students = studentRepository.findByUserIn(users);
         log.info("Retrieved {} students and {} users", students.size(), users.size());
-        Map<String, Students> studentMap = students.stream().filter(s -> s.getUser() != null).collect(Collectors.toMap(s -> s.getUser().getUserId(), s -> s));
+        Map<String, Students> studentMap = students.stream().filter(s -> s.getUser() != null).collect(Collectors.toMap(this::userIdOf, s -> s));
         return users.stream().map(user -> mapToResponseDTO(user, studentMap.get(user.getUserId()))).collect(Collectors.toList());
     }
 
@@ -163,15 +152,17 @@ public class ManagementUserAccountServiceImpl implements ManagementUserAccountSe
         }
         studentRepository.findByUser_UserId(userId).ifPresent(student -> {
             String studentNumber = student.getStudentNumber();
-            attendanceRecordsRepository.deleteByStudent_StudentNumber(studentNumber);
+            deleteAttendanceRecords(List.of(student));
             log.info("Deleted attendance records for studentNumber={}", studentNumber);
 
-            if (student.getFacialData() != null) {
-                biometricsRepository.deleteById(student.getFacialData().getFacialId());
+            String facialId = ReferenceIds.idOf(student.getFacialData(), BiometricData::getFacialId);
+            if (facialId != null) {
+                biometricsRepository.deleteById(facialId);
             }
             studentRepository.deleteById(student.getId());
         });
         userRepository.deleteById(userId);
+        studentIdentityCache.invalidate(userId);
     }
 
     @Override
@@ -196,15 +187,15 @@ public class ManagementUserAccountServiceImpl implements ManagementUserAccountSe
         }
         List<String> userIds = students.stream().map(Students::getUserId).filter(Objects::nonNull).toList();
 
-        students.forEach(student -> attendanceRecordsRepository.deleteByStudent_StudentNumber(student.getStudentNumber()));
+        deleteAttendanceRecords(students);
         students.stream()
-                .map(Students::getFacialData)
+                .map(student -> ReferenceIds.idOf(student.getFacialData(), BiometricData::getFacialId))
                 .filter(Objects::nonNull)
-                .map(BiometricData::getFacialId)
                 .forEach(biometricsRepository::deleteById);
 
         studentRepository.deleteAll(students);
         userRepository.deleteAllById(userIds);
+        studentIdentityCache.invalidate(userIds);
 
         log.info("Deleted {} students, attendance records, and user accounts from section {}", students.size(), sectionName);
     }
@@ -213,6 +204,26 @@ public class ManagementUserAccountServiceImpl implements ManagementUserAccountSe
      * PRIVATE HELPERS
      */
 
+    /**
+     * Deletes the attendance records of the students and takes them out of their events' attendance counters.
+     */
+    private void deleteAttendanceRecords(Collection<Students> students) {
+        List<String> studentIds = students.stream().map(Students::getId).filter(Objects::nonNull).toList();
+        Map<String, Map<AttendanceStatus, Integer>> deletedCounts = attendanceStatusSummary.countByStudentsPerEventAndStatus(studentIds);
+
+        attendanceRecordsRepository.deleteByStudentIdIn(studentIds);
+
+        deletedCounts.forEach((eventId, statusCounts) -> {
+            Map<AttendanceStatus, Integer> deltas = new EnumMap<>(AttendanceStatus.class);
+            statusCounts.forEach((status, count) -> deltas.put(status, -count));
+            eventAttendanceCounters.apply(eventId, deltas);
+        });
+    }
+
+    private String userIdOf(Students student) {
+        return ReferenceIds.idOf(student.getUser(), User::getUserId);
+    }
+
     private List<UserStudentResponse> retrieveStudentsByAccountStatus(AccountStatus status) {
         List<User> users = userRepository.findByUserTypeAndAccountStatus(UserType.STUDENT, status);
         if (users.isEmpty()) {
@@ -220,7 +231,7 @@ public class ManagementUserAccountServiceImpl implements ManagementUserAccountSe
             return Collections.emptyList();
         }
         List<Students> students = studentRepository.findByUserIn(users);
-        Map<String, Students> studentMap = students.stream().collect(Collectors.toMap(s -> s.getUser().getUserId(), s -> s));
+        Map<String, Students> studentMap = students.stream().collect(Collectors.toMap(this::userIdOf, s -> s));
         return users.stream()
                 .map(user -> mapToResponseDTO(user, studentMap.get(user.getUserId())))
                 .collect(Collectors.toList());
@@ -256,16 +267,11 @@ public class ManagementUserAccountServiceImpl implements ManagementUserAccountSe
         }
 
         userRepository.saveAll(toUpdate);
+        studentIdentityCache.invalidate(toUpdate.stream().map(User::getUserId).toList());
         log.info("Bulk updated {} student accounts to status {}", toUpdate.size(), targetStatus);
     }
 
 
-    private boolean isValidRowData(UserAccountManagementUsersCSVRowData data) {
-        return data.getFirstName() != null &&
-                data.getLastName() != null &&
-                data.getStudentNumber() != null &&
-                data.getPassword() != null;
-    }
 
     private void validateCSVFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
@@ -278,79 +284,6 @@ public class ManagementUserAccountServiceImpl implements ManagementUserAccountSe
         }
     }
 
-    private void normalize(UserAccountManagementUsersCSVRowData row) {
-        row.setFirstName(trim(row.getFirstName()));
-        row.setLastName(trim(row.getLastName()));
-        row.setEmail(lower(trim(row.getEmail())));
-        row.setStudentNumber(trim(row.getStudentNumber()));
-        row.setSectionName(trim(row.getSectionName()));
-        row.setContactNumber(trim(row.getContactNumber()));
-    }
-
-    private String trim(String value) {
-        return value == null ? null : value.trim();
-    }
-
-    private String lower(String value) {
-        return value == null ? null : value.toLowerCase();
-    }
-
-    private User createUserAndStudent(UserAccountManagementUsersCSVRowData data) {
-        userValidator.validateFirstName(data.getFirstName(), "First name");
-        userValidator.validateLastName(data.getLastName(), "Last name");
-        userValidator.validateContactNumber(data.getContactNumber());
-        userValidator.validatePassword(data.getPassword());
-        userValidator.validateStudentNumber(data.getStudentNumber());
-
-        Section section = null;
-        String courseName = null;
-        String clusterName = null;
-
-        if (data.getSectionName() != null && !data.getSectionName().isBlank()) {
-            userValidator.validateFullCourseSectionFormat(data.getSectionName());
-            section = sectionRepository.findBySectionName(data.getSectionName())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "Section '" + data.getSectionName() + "' does not exist. " +
-                                    "Please create this section first using the Academic Management, " +
-                                    "then re-import the CSV."
-                    ));
-            if (section.getCourse() != null) {
-                courseName = section.getCourse().getCourseName();
-                if (section.getCourse().getCluster() != null) {
-                    clusterName = section.getCourse().getCluster().getClusterName();
-                }
-            }
-        }
-
-        User user = User.builder()
-                .userType(UserType.STUDENT)
-                .accountStatus(AccountStatus.ACTIVE)
-                .updatedBy(String.valueOf(UserType.SYSTEM))
-                .firstName(data.getFirstName())
-                .lastName(data.getLastName())
-                .email(data.getEmail())
-                .contactNumber(data.getContactNumber())
-                .password(passwordEncoder.encode(data.getPassword()))
-                .build();
-
-        User savedUser = userRepository.save(user);
-
-        Students student = Students.builder()
-                .user(savedUser)
-                .userId(savedUser.getUserId())
-                .studentNumber(data.getStudentNumber())
-                .section(section)
-                .currentSectionId(section != null ? section.getId() : null)
-                .sectionName(section != null ? section.getSectionName() : null)
-                .courseName(courseName)
-                .clusterName(clusterName)
-                .build();
-
-        studentRepository.save(student);
-        log.info("Imported student saved: {} (Section: {})", savedUser.getUserId(), section != null ? section.getSectionName() : "Not assigned");
-        return savedUser;
-    }
-
     public UserStudentResponse mapToResponseDTO(User user, Students student) {
         if (student == null) {
             return buildUserOnlyResponse(user);
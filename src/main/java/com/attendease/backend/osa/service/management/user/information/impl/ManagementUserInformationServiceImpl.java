@@ -15,8 +15,10 @@ import com.attendease.backend.repository.section.SectionRepository;
 import com.attendease.backend.repository.students.StudentBiometrics.StudentBiometrics;
 import com.attendease.backend.repository.students.StudentRepository;
 import com.attendease.backend.repository.users.UserRepository;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 import com.attendease.backend.validation.UserValidator;
 import lombok.RequiredArgsConstructor;
@@ -37,10 +39,13 @@ public class ManagementUserInformationServiceImpl implements ManagementUserInfor
     private final StudentBiometrics studentBiometrics;
     private final PasswordEncoder passwordEncoder;
     private final UserValidator userValidator;
+    private final StudentIdentityCache studentIdentityCache;
 
     @Override
     public long deleteAllStudentsAndAssociatedUserAndFacialData() {
-        return studentBiometrics.deleteAllStudentsAndAssociatedUserAndFacialData();
+        long deleted = studentBiometrics.deleteAllStudentsAndAssociatedUserAndFacialData();
+        studentIdentityCache.invalidateAll();
+        return deleted;
     }
 
     @Override
@@ -52,6 +57,7 @@ public class ManagementUserInformationServiceImpl implements ManagementUserInfor
 
         if (user.getUserType() == UserType.STUDENT) {
             studentResponse = handleStudentUpdate(userId, request, user);
+            studentIdentityCache.invalidate(userId);
         }
 
         return UserAccountManagementUsersInformationResponse.builder().user(user).studentResponse(studentResponse).build();
@@ -67,8 +73,12 @@ public class ManagementUserInformationServiceImpl implements ManagementUserInfor
         if (students.isEmpty()) {
             throw new IllegalArgumentException("No students found to update.");
         }
-        students.forEach(student -> student.setSection(section));
+        students.forEach(student -> {
+            student.setSection(section);
+            student.setCurrentSectionId(section.getId());
+        });
         studentRepository.saveAll(students);
+        studentIdentityCache.invalidate(students.stream().map(Students::getUserId).filter(Objects::nonNull).toList());
         return students.size();
     }
 
@@ -111,6 +121,7 @@ public class ManagementUserInformationServiceImpl implements ManagementUserInfor
         if (request.getSectionId() != null) {
             Section section = sectionRepository.findById(request.getSectionId()).orElseThrow(ChangeSetPersister.NotFoundException::new);
             student.setSection(section);
+            student.setCurrentSectionId(section.getId());
         }
 
         Students updatedStudent = studentRepository.save(student);
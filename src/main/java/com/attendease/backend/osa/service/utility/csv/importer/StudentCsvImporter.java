@@ -0,0 +1,358 @@
+package com.attendease.backend.osa.service.utility.csv.importer;
+
+import com.attendease.backend.domain.cluster.Cluster;
+import com.attendease.backend.domain.course.Course;
+import com.attendease.backend.domain.enums.AccountStatus;
+import com.attendease.backend.domain.enums.UserType;
+import com.attendease.backend.domain.exception.error.csv.CsvImportErrorResponse;
+import com.attendease.backend.domain.section.Section;
+import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.domain.user.User;
+import com.attendease.backend.domain.user.account.management.users.csv.row.UserAccountManagementUsersCSVRowData;
+import com.attendease.backend.exceptions.domain.ImportException.CsvImportException;
+import com.attendease.backend.osa.service.utility.csv.parser.UserCsvParser;
+import com.attendease.backend.repository.cluster.ClusterRepository;
+import com.attendease.backend.repository.course.CourseRepository;
+import com.attendease.backend.repository.reference.ReferenceIds;
+import com.attendease.backend.repository.section.SectionRepository;
+import com.attendease.backend.repository.students.StudentRepository;
+import com.attendease.backend.repository.users.UserRepository;
+import com.attendease.backend.security.password.PasswordHashingService;
+import com.attendease.backend.validation.UserValidator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports a student CSV file as a set instead of row by row, streaming it in chunks of {@code chunk-size} rows.
+ * <p>
+ * The file is read twice, so only one or two chunks of rows are held in memory whatever its size:
+ * <ol>
+ *     <li>the validation pass pre-fetches, per chunk, the existing student numbers and emails and any section
+ *     (with its course and cluster) not seen yet with one {@code $in} query each, then validates every row against
+ *     the pre-fetched data and the rows before it;</li>
+ *     <li>the import pass hashes the passwords of each chunk on the {@link PasswordHashingService} pool while the
+ *     previous chunk's users and students are inserted with {@link BulkOperations}.</li>
+ * </ol>
+ * Nothing is inserted when any row is invalid; all row errors are reported together in a {@link CsvImportException}.
+ * Only the student numbers and emails seen so far are kept across chunks, for duplicate checks within the file.
+ * User and student IDs are assigned before insertion so students can reference their user within the same chunk.
+ * The users and students of a chunk are inserted together or not at all: if either bulk insert fails, the documents
+ * of that chunk already written are deleted again before the failure is rethrown, so no user is left without its student.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentCsvImporter {
+
+    private final StudentRepository studentRepository;
+    private final UserRepository userRepository;
+    private final SectionRepository sectionRepository;
+    private final CourseRepository courseRepository;
+    private final ClusterRepository clusterRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final UserValidator userValidator;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${student.import.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Validates and imports the CSV file, reporting progress after every chunk.
+     *
+     * @param csvFile the CSV file; it is read twice and must not change during the import
+     * @param listener receives validation and insertion progress
+     * @return the number of imported students
+     * @throws IllegalArgumentException if required columns are missing or the file has no data rows
+     * @throws CsvImportException if any row is invalid
+     * @throws IOException if the file cannot be read
+     */
+    public int importCsv(Path csvFile, StudentImportProgressListener listener) throws IOException {
+        long start = System.currentTimeMillis();
+        ImportContext context = new ImportContext();
+
+        int totalRows = validateFile(csvFile, context, listener);
+        int importedRows = importFile(csvFile, context, listener);
+
+        log.info("Imported {} of {} rows in {} ms", importedRows, totalRows, System.currentTimeMillis() - start);
+        return importedRows;
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private int validateFile(Path csvFile, ImportContext context, StudentImportProgressListener listener) throws IOException {
+        List<CsvImportErrorResponse.RowError> errors = new ArrayList<>();
+        int rowNumber = 0;
+
+        try (Stream<List<UserAccountManagementUsersCSVRowData>> chunks = UserCsvParser.streamChunks(Files.newInputStream(csvFile), chunkSize)) {
+            for (List<UserAccountManagementUsersCSVRowData> chunk : (Iterable<List<UserAccountManagementUsersCSVRowData>>) chunks::iterator) {
+                chunk.forEach(this::normalize);
+                prefetch(chunk, context);
+
+                int chunkErrors = errors.size();
+                for (UserAccountManagementUsersCSVRowData row : chunk) {
+                    rowNumber++;
+                    try {
+                        String error = validate(row, context);
+                        if (error != null) {
+                            errors.add(new CsvImportErrorResponse.RowError(rowNumber, List.of(error)));
+                        }
+                    } catch (IllegalArgumentException e) {
+                        errors.add(new CsvImportErrorResponse.RowError(rowNumber, List.of(e.getMessage())));
+                    }
+                }
+                listener.onRowsValidated(rowNumber, List.copyOf(errors.subList(chunkErrors, errors.size())));
+            }
+        }
+
+        if (rowNumber == 0) {
+            throw new IllegalArgumentException("CSV file contains no data rows");
+        }
+        log.info("Validated {} rows with {} errors: {} taken student numbers, {} taken emails, {} sections",
+                rowNumber, errors.size(), context.takenStudentNumbers.size(), context.takenEmails.size(), context.sections.size());
+        listener.onValidated(rowNumber, errors.size());
+
+        if (!errors.isEmpty()) {
+            CsvImportErrorResponse errorResponse = CsvImportErrorResponse.fromErrors(errors, rowNumber);
+            throw new CsvImportException(errorResponse.getMessage(), errorResponse);
+        }
+        return rowNumber;
+    }
+
+    /**
+     * Hashes each chunk while the previous one is inserted.
+     */
+    private int importFile(Path csvFile, ImportContext context, StudentImportProgressListener listener) throws IOException {
+        int importedRows = 0;
+        List<UserAccountManagementUsersCSVRowData> pendingRows = null;
+        CompletableFuture<List<String>> pendingHashes = null;
+
+        try (Stream<List<UserAccountManagementUsersCSVRowData>> chunks = UserCsvParser.streamChunks(Files.newInputStream(csvFile), chunkSize)) {
+            for (List<UserAccountManagementUsersCSVRowData> chunk : (Iterable<List<UserAccountManagementUsersCSVRowData>>) chunks::iterator) {
+                chunk.forEach(this::normalize);
+                CompletableFuture<List<String>> hashes = passwordHashingService.hashAllAsync(chunk.stream()
+                        .map(UserAccountManagementUsersCSVRowData::getPassword)
+                        .toList());
+
+                if (pendingRows != null) {
+                    importedRows += insertChunk(pendingRows, pendingHashes.join(), context);
+                    listener.onChunkImported(importedRows);
+                }
+                pendingRows = chunk;
+                pendingHashes = hashes;
+            }
+        }
+
+        if (pendingRows != null) {
+            importedRows += insertChunk(pendingRows, pendingHashes.join(), context);
+            listener.onChunkImported(importedRows);
+        }
+        return importedRows;
+    }
+
+    /**
+     * Pre-fetches the data needed to validate a chunk. Sections, courses and clusters already fetched for earlier chunks are reused.
+     */
+    private void prefetch(List<UserAccountManagementUsersCSVRowData> rows, ImportContext context) {
+        Set<String> studentNumbers = collect(rows, UserAccountManagementUsersCSVRowData::getStudentNumber);
+        Set<String> emails = collect(rows, UserAccountManagementUsersCSVRowData::getEmail);
+        Set<String> sectionNames = collect(rows, UserAccountManagementUsersCSVRowData::getSectionName);
+        sectionNames.removeAll(context.fetchedSectionNames);
+
+        if (!studentNumbers.isEmpty()) {
+            studentRepository.findStudentNumbersByStudentNumberIn(studentNumbers)
+                    .forEach(student -> context.takenStudentNumbers.add(student.getStudentNumber()));
+        }
+        if (!emails.isEmpty()) {
+            userRepository.findEmailsByEmailIn(emails).forEach(user -> context.takenEmails.add(user.getEmail()));
+        }
+        if (sectionNames.isEmpty()) {
+            return;
+        }
+
+        context.fetchedSectionNames.addAll(sectionNames);
+        List<Section> sections = sectionRepository.findBySectionNameIn(sectionNames);
+        sections.forEach(section -> context.sections.put(section.getSectionName(), section));
+
+        Set<String> courseIds = sections.stream()
+                .map(section -> ReferenceIds.idOf(section.getCourse(), Course::getId))
+                .filter(id -> id != null && !context.courses.containsKey(id))
+                .collect(Collectors.toSet());
+        List<Course> courses = courseRepository.findAllById(courseIds);
+        courses.forEach(course -> context.courses.put(course.getId(), course));
+
+        Set<String> clusterIds = courses.stream()
+                .map(course -> ReferenceIds.idOf(course.getCluster(), Cluster::getClusterId))
+                .filter(id -> id != null && !context.clusters.containsKey(id))
+                .collect(Collectors.toSet());
+        clusterRepository.findAllById(clusterIds).forEach(cluster -> context.clusters.put(cluster.getClusterId(), cluster));
+    }
+
+    /**
+     * Validates a row and reserves its student number and email for the rows after it.
+     *
+     * @return the error of the row, or {@code null} if it is valid
+     * @throws IllegalArgumentException if a field fails validation
+     */
+    private String validate(UserAccountManagementUsersCSVRowData row, ImportContext context) {
+        if (!isValidRowData(row)) {
+            return "Missing required fields";
+        }
+        if (context.takenStudentNumbers.contains(row.getStudentNumber())) {
+            return "Duplicate student number: " + row.getStudentNumber();
+        }
+
+        userValidator.validateFirstName(row.getFirstName(), "First name");
+        userValidator.validateLastName(row.getLastName(), "Last name");
+        userValidator.validateContactNumber(row.getContactNumber());
+        userValidator.validatePassword(row.getPassword());
+        userValidator.validateStudentNumber(row.getStudentNumber());
+
+        if (row.getSectionName() != null && !row.getSectionName().isBlank()) {
+            userValidator.validateFullCourseSectionFormat(row.getSectionName());
+            if (!context.sections.containsKey(row.getSectionName())) {
+                return "Section '" + row.getSectionName() + "' does not exist. " +
+                        "Please create this section first using the Academic Management, " +
+                        "then re-import the CSV.";
+            }
+        }
+        if (row.getEmail() != null && context.takenEmails.contains(row.getEmail())) {
+            return "Duplicate email: " + row.getEmail();
+        }
+
+        context.takenStudentNumbers.add(row.getStudentNumber());
+        if (row.getEmail() != null) {
+            context.takenEmails.add(row.getEmail());
+        }
+        return null;
+    }
+
+    private int insertChunk(List<UserAccountManagementUsersCSVRowData> rows, List<String> passwordHashes, ImportContext context) {
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(rows.size());
+        List<Students> students = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            UserAccountManagementUsersCSVRowData row = rows.get(i);
+            User user = User.builder()
+                    .userId(new ObjectId().toHexString())
+                    .userType(UserType.STUDENT)
+                    .accountStatus(AccountStatus.ACTIVE)
+                    .updatedBy(String.valueOf(UserType.SYSTEM))
+                    .firstName(row.getFirstName())
+                    .lastName(row.getLastName())
+                    .email(row.getEmail())
+                    .contactNumber(row.getContactNumber())
+                    .password(passwordHashes.get(i))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            users.add(user);
+            students.add(toStudent(row, user, context));
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, User.class).insert(users).execute();
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Students.class).insert(students).execute();
+        } catch (RuntimeException e) {
+            rollBackChunk(users, students, e);
+            throw e;
+        }
+        log.debug("Inserted chunk of {} students", users.size());
+        return users.size();
+    }
+
+    /**
+     * Deletes whatever part of a failed chunk was inserted. The IDs were assigned before insertion, so they identify
+     * exactly the documents of this chunk, including those written by an ordered bulk insert before it failed.
+     */
+    private void rollBackChunk(List<User> users, List<Students> students, RuntimeException failure) {
+        List<String> userIds = users.stream().map(User::getUserId).toList();
+        List<String> studentIds = students.stream().map(Students::getId).toList();
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(studentIds)), Students.class);
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(userIds)), User.class);
+            log.warn("Rolled back chunk of {} students after failed insert: {}", users.size(), failure.getMessage());
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+            log.error("Failed to roll back chunk of {} students, user IDs {}: {}", users.size(), userIds, e.getMessage(), e);
+        }
+    }
+
+    private Students toStudent(UserAccountManagementUsersCSVRowData row, User user, ImportContext context) {
+        Section section = row.getSectionName() != null ? context.sections.get(row.getSectionName()) : null;
+        Course course = section != null ? context.courses.get(ReferenceIds.idOf(section.getCourse(), Course::getId)) : null;
+        Cluster cluster = course != null ? context.clusters.get(ReferenceIds.idOf(course.getCluster(), Cluster::getClusterId)) : null;
+
+        return Students.builder()
+                .id(new ObjectId().toHexString())
+                .user(user)
+                .userId(user.getUserId())
+                .studentNumber(row.getStudentNumber())
+                .section(section)
+                .currentSectionId(section != null ? section.getId() : null)
+                .sectionName(section != null ? section.getSectionName() : null)
+                .courseName(course != null ? course.getCourseName() : null)
+                .clusterName(cluster != null ? cluster.getClusterName() : null)
+                .build();
+    }
+
+    private boolean isValidRowData(UserAccountManagementUsersCSVRowData data) {
+        return data.getFirstName() != null &&
+                data.getLastName() != null &&
+                data.getStudentNumber() != null &&
+                data.getPassword() != null;
+    }
+
+    private void normalize(UserAccountManagementUsersCSVRowData row) {
+        row.setFirstName(trim(row.getFirstName()));
+        row.setLastName(trim(row.getLastName()));
+        row.setEmail(lower(trim(row.getEmail())));
+        row.setStudentNumber(trim(row.getStudentNumber()));
+        row.setSectionName(trim(row.getSectionName()));
+        row.setContactNumber(trim(row.getContactNumber()));
+    }
+
+    private Set<String> collect(List<UserAccountManagementUsersCSVRowData> rows, Function<UserAccountManagementUsersCSVRowData, String> field) {
+        return rows.stream().map(field).filter(value -> value != null && !value.isBlank()).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private String lower(String value) {
+        return value == null ? null : value.toLowerCase();
+    }
+
+    /**
+     * Pre-fetched state of one import. Student numbers and emails of validated rows are added as rows are validated.
+     * Section names are remembered once fetched, whether or not the section exists.
+     */
+    private static class ImportContext {
+        private final Set<String> takenStudentNumbers = new HashSet<>();
+        private final Set<String> takenEmails = new HashSet<>();
+        private final Set<String> fetchedSectionNames = new HashSet<>();
+        private final Map<String, Section> sections = new HashMap<>();
+        private final Map<String, Course> courses = new HashMap<>();
+        private final Map<String, Cluster> clusters = new HashMap<>();
+    }
+}
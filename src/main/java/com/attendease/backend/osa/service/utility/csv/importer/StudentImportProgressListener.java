@@ -0,0 +1,29 @@
+package com.attendease.backend.osa.service.utility.csv.importer;
+
+import com.attendease.backend.domain.exception.error.csv.CsvImportErrorResponse;
+
+import java.util.List;
+
+/**
+ * Receives the progress of a {@link StudentCsvImporter} run, chunk by chunk.
+ */
+public interface StudentImportProgressListener {
+
+    /**
+     * Called after each chunk of rows is validated, with the row errors found in that chunk.
+     */
+    default void onRowsValidated(int validatedRows, List<CsvImportErrorResponse.RowError> rowErrors) {
+    }
+
+    /**
+     * Called once every row is validated, before the import is rejected or the rows are inserted.
+     */
+    default void onValidated(int totalRows, int errorCount) {
+    }
+
+    /**
+     * Called after each chunk of users and students is inserted.
+     */
+    default void onChunkImported(int importedRows) {
+    }
+}
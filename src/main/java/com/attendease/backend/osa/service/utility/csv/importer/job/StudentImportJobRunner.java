@@ -0,0 +1,203 @@
+package com.attendease.backend.osa.service.utility.csv.importer.job;
+
+import com.attendease.backend.domain.enums.ImportJobStatus;
+import com.attendease.backend.domain.exception.error.csv.CsvImportErrorResponse;
+import com.attendease.backend.domain.user.account.management.users.csv.job.StudentImportJob;
+import com.attendease.backend.domain.user.account.management.users.csv.job.StudentImportProgress;
+import com.attendease.backend.exceptions.domain.ImportException.CsvImportException;
+import com.attendease.backend.osa.service.utility.csv.importer.StudentCsvImporter;
+import com.attendease.backend.osa.service.utility.csv.importer.StudentImportProgressListener;
+import com.attendease.backend.repository.importJobs.StudentImportJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs student CSV imports in the background, off the HTTP request thread.
+ * <p>
+ * Jobs run on a fixed pool of {@code concurrency} threads. Every phase change and every validated or
+ * inserted chunk is saved to the {@link StudentImportJob} and sent to the requester on
+ * {@code /user/queue/import-progress}, together with the row errors found in that chunk.
+ * </p>
+ * <p>
+ * Uploads are kept in a temporary file only while their job runs, so a job cut off by a restart cannot
+ * be resumed: on startup, unfinished jobs are marked {@link ImportJobStatus#INTERRUPTED} with the number
+ * of rows already imported.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentImportJobRunner {
+
+    private static final String PROGRESS_DESTINATION = "/queue/import-progress";
+
+    private final StudentImportJobRepository studentImportJobRepository;
+    private final StudentCsvImporter studentCsvImporter;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${student.import.jobs.concurrency:1}")
+    private int concurrency;
+
+    @Value("${student.import.jobs.max-stored-errors:1000}")
+    private int maxStoredErrors;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        markInterruptedJobs();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "student-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Student import job runner started (concurrency: {})", concurrency);
+    }
+
+    /**
+     * Queues a saved job for the CSV file. The file is deleted once the job finishes.
+     */
+    public void submit(StudentImportJob job, Path csvFile) {
+        executor.execute(() -> run(job, csvFile));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Runnable> queued = executor.shutdownNow();
+        if (!queued.isEmpty()) {
+            log.warn("{} queued student import jobs will be marked interrupted on next startup", queued.size());
+        }
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private void run(StudentImportJob job, Path csvFile) {
+        job.setStartedAt(Instant.now());
+        update(job, ImportJobStatus.VALIDATING, List.of());
+        try {
+            studentCsvImporter.importCsv(csvFile, new JobProgressListener(job));
+
+            job.setMessage("Imported " + job.getImportedRows() + " students");
+            finish(job, ImportJobStatus.COMPLETED);
+            log.info("Student import job {} imported {} students", job.getJobId(), job.getImportedRows());
+        } catch (CsvImportException e) {
+            fail(job, e.getErrorResponse().getMessage());
+        } catch (IllegalArgumentException e) {
+            fail(job, e.getMessage());
+        } catch (IOException | UncheckedIOException e) {
+            fail(job, "Invalid CSV file: " + e.getMessage());
+        } catch (Exception e) {
+            log.error("Student import job {} failed: {}", job.getJobId(), e.getMessage(), e);
+            fail(job, "Import failed after " + job.getImportedRows() + " imported rows: " + e.getMessage());
+        } finally {
+            deleteQuietly(csvFile);
+        }
+    }
+
+    private void fail(StudentImportJob job, String message) {
+        job.setMessage(message);
+        finish(job, ImportJobStatus.FAILED);
+        log.info("Student import job {} failed: {}", job.getJobId(), message);
+    }
+
+    private void finish(StudentImportJob job, ImportJobStatus status) {
+        job.setFinishedAt(Instant.now());
+        update(job, status, List.of());
+    }
+
+    private void update(StudentImportJob job, ImportJobStatus status, List<CsvImportErrorResponse.RowError> rowErrors) {
+        job.setStatus(status);
+        job.setUpdatedAt(Instant.now());
+        try {
+            studentImportJobRepository.save(job);
+        } catch (Exception e) {
+            log.error("Failed to save state of student import job {}: {}", job.getJobId(), e.getMessage(), e);
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(job.getRequestedBy(), PROGRESS_DESTINATION, StudentImportProgress.of(job, rowErrors));
+        } catch (Exception e) {
+            log.warn("Failed to send progress of student import job {}: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private void markInterruptedJobs() {
+        List<ImportJobStatus> unfinished = Arrays.stream(ImportJobStatus.values()).filter(status -> !status.isFinished()).toList();
+        List<StudentImportJob> jobs = studentImportJobRepository.findByStatusIn(unfinished);
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        jobs.forEach(job -> {
+            job.setStatus(ImportJobStatus.INTERRUPTED);
+            job.setMessage("Import was interrupted by a server restart after " + job.getImportedRows() + " imported rows. " +
+                    "Remove the imported rows from the CSV, then upload it again.");
+            job.setUpdatedAt(now);
+            job.setFinishedAt(now);
+        });
+        studentImportJobRepository.saveAll(jobs);
+        log.warn("Marked {} unfinished student import jobs as interrupted", jobs.size());
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete import upload {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Saves and publishes the progress of one job.
+     */
+    private class JobProgressListener implements StudentImportProgressListener {
+
+        private final StudentImportJob job;
+
+        private JobProgressListener(StudentImportJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void onRowsValidated(int validatedRows, List<CsvImportErrorResponse.RowError> rowErrors) {
+            job.setValidatedRows(validatedRows);
+            job.setErrorCount(job.getErrorCount() + rowErrors.size());
+            int storable = Math.max(0, Math.min(rowErrors.size(), maxStoredErrors - job.getRowErrors().size()));
+            job.getRowErrors().addAll(rowErrors.subList(0, storable));
+            update(job, ImportJobStatus.VALIDATING, rowErrors);
+        }
+
+        @Override
+        public void onValidated(int totalRows, int errorCount) {
+            job.setTotalRows(totalRows);
+            if (errorCount == 0) {
+                update(job, ImportJobStatus.IMPORTING, List.of());
+            }
+        }
+
+        @Override
+        public void onChunkImported(int importedRows) {
+            job.setImportedRows(importedRows);
+            update(job, ImportJobStatus.IMPORTING, List.of());
+        }
+    }
+}
@@ -8,40 +8,69 @@ import org.apache.commons.csv.CSVRecord;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class UserCsvParser {
 
 	private static final Set<String> REQUIRED_COLUMNS = Set.of("firstname", "lastname", "studentnumber", "password");
 
 	public static List<UserAccountManagementUsersCSVRowData> parse(InputStream inputStream) throws IOException {
-		try (CSVParser parser = CSVParser.parse(
+		try (Stream<UserAccountManagementUsersCSVRowData> rows = stream(inputStream)) {
+			return rows.collect(Collectors.toCollection(ArrayList::new));
+		}
+	}
+
+	/**
+	 * Lazily parses the CSV: records are read only as the returned stream is consumed.
+	 * Closing the stream closes the input stream.
+	 *
+	 * @throws IllegalArgumentException if required columns are missing
+	 */
+	public static Stream<UserAccountManagementUsersCSVRowData> stream(InputStream inputStream) throws IOException {
+		CSVParser parser = CSVParser.parse(
 				new InputStreamReader(inputStream, StandardCharsets.UTF_8),
 				CSVFormat.Builder.create()
 						.setHeader()
 						.setSkipHeaderRecord(true)
 						.setTrim(true)
 						.setIgnoreEmptyLines(true).get()
-		)) {
-
+		);
+		try {
 			validateHeader(parser);
+		} catch (IllegalArgumentException e) {
+			parser.close();
+			throw e;
+		}
 
-			Map<String, String> headerMap = parser.getHeaderNames().stream()
-					.collect(Collectors.toMap(String::toLowerCase, h -> h, (a, b) -> a));
-
-			List<UserAccountManagementUsersCSVRowData> rows = new ArrayList<>();
+		Map<String, String> headerMap = parser.getHeaderNames().stream()
+				.collect(Collectors.toMap(String::toLowerCase, h -> h, (a, b) -> a));
 
-			for (CSVRecord record : parser) {
-				rows.add(parseRow(record, headerMap));
-			}
+		return parser.stream()
+				.map(record -> parseRow(record, headerMap))
+				.onClose(() -> close(parser));
+	}
 
-			return rows;
-		}
+	/**
+	 * Lazily parses the CSV in chunks of at most {@code chunkSize} rows, so only the chunk being
+	 * processed is held in memory. Closing the stream closes the input stream.
+	 *
+	 * @throws IllegalArgumentException if required columns are missing
+	 */
+	public static Stream<List<UserAccountManagementUsersCSVRowData>> streamChunks(InputStream inputStream, int chunkSize) throws IOException {
+		Stream<UserAccountManagementUsersCSVRowData> rows = stream(inputStream);
+		return StreamSupport.stream(new ChunkSpliterator(rows.iterator(), chunkSize), false).onClose(rows::close);
 	}
 
 	private static void validateHeader(CSVParser parser) {
@@ -74,5 +103,37 @@ public final class UserCsvParser {
 		String value = record.get(header);
 		return (value == null || value.isBlank()) ? null : value.trim();
 	}
-}
 
+	private static void close(CSVParser parser) {
+		try {
+			parser.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static final class ChunkSpliterator extends Spliterators.AbstractSpliterator<List<UserAccountManagementUsersCSVRowData>> {
+
+		private final Iterator<UserAccountManagementUsersCSVRowData> rows;
+		private final int chunkSize;
+
+		private ChunkSpliterator(Iterator<UserAccountManagementUsersCSVRowData> rows, int chunkSize) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.rows = rows;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super List<UserAccountManagementUsersCSVRowData>> action) {
+			if (!rows.hasNext()) {
+				return false;
+			}
+			List<UserAccountManagementUsersCSVRowData> chunk = new ArrayList<>(chunkSize);
+			while (chunk.size() < chunkSize && rows.hasNext()) {
+				chunk.add(rows.next());
+			}
+			action.accept(chunk);
+			return true;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.attendease.backend.osa.service.utility.export;
+
+import com.attendease.backend.domain.attendance.export.AttendanceExportRow;
+import com.attendease.backend.domain.enums.attendance.AttendanceExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes exported attendance records row by row as CSV or NDJSON.
+ * <p>
+ * Rows are written as they are pulled from the source stream and the output is flushed every
+ * {@value #FLUSH_EVERY} rows, so memory use is constant and the client receives data as soon as it is read.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceRecordsExportWriter {
+
+	private static final int FLUSH_EVERY = 500;
+	private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+	private static final String[] CSV_HEADER = {
+			"attendanceRecordId", "eventId", "eventName", "academicYear", "semester",
+			"studentNumber", "firstName", "lastName", "email", "yearLevel", "section", "course", "cluster",
+			"attendanceStatus", "reason", "timeIn", "timeOut"
+	};
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Writes the rows in the given format. The output stream is flushed but not closed.
+	 *
+	 * @return the number of rows written
+	 */
+	public long write(Stream<AttendanceExportRow> rows, AttendanceExportFormat format, OutputStream outputStream) throws IOException {
+		return switch (format) {
+			case CSV -> writeCsv(rows, outputStream);
+			case NDJSON -> writeNdjson(rows, outputStream);
+		};
+	}
+
+	/**
+	 * PRIVATE HELPERS
+	 */
+
+	private long writeCsv(Stream<AttendanceExportRow> rows, OutputStream outputStream) throws IOException {
+		Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+		CSVPrinter printer = new CSVPrinter(writer, CSVFormat.Builder.create(CSVFormat.DEFAULT).setHeader(CSV_HEADER).get());
+		long count = 0;
+		for (Iterator<AttendanceExportRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+			AttendanceExportRow row = iterator.next();
+			printer.printRecord(
+					row.getAttendanceRecordId(), row.getEventId(), row.getEventName(), row.getAcademicYearName(), row.getSemesterName(),
+					row.getStudentNumber(), row.getFirstName(), row.getLastName(), row.getEmail(), row.getYearLevel(),
+					row.getSectionName(), row.getCourseName(), row.getClusterName(),
+					row.getAttendanceStatus(), row.getReason(), format(row.getTimeIn()), format(row.getTimeOut()));
+			if (++count % FLUSH_EVERY == 0) {
+				printer.flush();
+			}
+		}
+		printer.flush();
+		return count;
+	}
+
+	private long writeNdjson(Stream<AttendanceExportRow> rows, OutputStream outputStream) throws IOException {
+		ObjectWriter rowWriter = objectMapper.writerFor(AttendanceExportRow.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		long count = 0;
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null);
+			for (Iterator<AttendanceExportRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+				rowWriter.writeValue(generator, iterator.next());
+				generator.writeRaw('\n');
+				if (++count % FLUSH_EVERY == 0) {
+					generator.flush();
+				}
+			}
+			generator.flush();
+		}
+		return count;
+	}
+
+	private String format(LocalDateTime dateTime) {
+		return dateTime != null ? dateTime.format(DATE_TIME) : null;
+	}
+}
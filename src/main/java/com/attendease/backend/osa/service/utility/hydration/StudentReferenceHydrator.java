@@ -0,0 +1,105 @@
+package com.attendease.backend.osa.service.utility.hydration;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import com.attendease.backend.domain.cluster.Cluster;
+import com.attendease.backend.domain.course.Course;
+import com.attendease.backend.domain.section.Section;
+import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.domain.user.User;
+import com.attendease.backend.repository.cluster.ClusterRepository;
+import com.attendease.backend.repository.course.CourseRepository;
+import com.attendease.backend.repository.reference.ReferenceIds;
+import com.attendease.backend.repository.section.SectionRepository;
+import com.attendease.backend.repository.students.StudentRepository;
+import com.attendease.backend.repository.users.UserRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads students together with their user, section, course and cluster in one query per collection.
+ * <p>
+ * Resolving the lazy references of each student one by one costs up to four queries per student.
+ * The hydrator collects the referenced IDs of all students first, loads every collection with a single
+ * {@code $in} query and wires the loaded documents into the students. The hydrated students are
+ * meant for building responses and are never saved back.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentReferenceHydrator {
+
+    private final StudentRepository studentRepository;
+    private final UserRepository userRepository;
+    private final SectionRepository sectionRepository;
+    private final CourseRepository courseRepository;
+    private final ClusterRepository clusterRepository;
+
+    /**
+     * Loads the given students with their references resolved.
+     *
+     * @param studentIds the IDs of the students to load
+     * @return the hydrated students keyed by student ID
+     */
+    public Map<String, Students> hydrate(Collection<String> studentIds) {
+        List<Students> students = studentRepository.findAllById(studentIds.stream().distinct().toList());
+
+        Map<String, User> users = byId(userRepository.findAllById(distinctIds(students, this::userIdOf)), User::getUserId);
+        Map<String, Section> sections = byId(sectionRepository.findAllById(distinctIds(students, this::sectionIdOf)), Section::getId);
+        Map<String, Course> courses = byId(courseRepository.findAllById(
+                distinctIds(sections.values(), section -> ReferenceIds.idOf(section.getCourse(), Course::getId))), Course::getId);
+        Map<String, Cluster> clusters = byId(clusterRepository.findAllById(
+                distinctIds(courses.values(), course -> ReferenceIds.idOf(course.getCluster(), Cluster::getClusterId))), Cluster::getClusterId);
+
+        courses.values().forEach(course -> course.setCluster(clusters.get(ReferenceIds.idOf(course.getCluster(), Cluster::getClusterId))));
+        sections.values().forEach(section -> section.setCourse(courses.get(ReferenceIds.idOf(section.getCourse(), Course::getId))));
+        students.forEach(student -> {
+            student.setUser(users.get(userIdOf(student)));
+            student.setSection(sections.get(sectionIdOf(student)));
+        });
+
+        return byId(students, Students::getId);
+    }
+
+    /**
+     * Replaces the student reference of every record with its hydrated student.
+     * A record whose student no longer exists ends up without a student, as with eager loading.
+     *
+     * @param records the attendance records to hydrate
+     * @return the same records
+     */
+    public List<AttendanceRecords> hydrateStudentsOf(List<AttendanceRecords> records) {
+        Map<String, Students> students = hydrate(distinctIds(records, this::studentIdOf));
+        records.forEach(record -> record.setStudent(students.get(studentIdOf(record))));
+        return records;
+    }
+
+    /*
+     * PRIVATE HELPERS
+     */
+
+    private String studentIdOf(AttendanceRecords record) {
+        return ReferenceIds.idOf(record.getStudent(), Students::getId);
+    }
+
+    private String userIdOf(Students student) {
+        return student.getUserId() != null ? student.getUserId() : ReferenceIds.idOf(student.getUser(), User::getUserId);
+    }
+
+    private String sectionIdOf(Students student) {
+        return ReferenceIds.idOf(student.getSection(), Section::getId);
+    }
+
+    private <T> List<String> distinctIds(Collection<T> entities, Function<T, String> idGetter) {
+        return entities.stream().map(idGetter).filter(Objects::nonNull).distinct().toList();
+    }
+
+    private <T> Map<String, T> byId(Collection<T> entities, Function<T, String> idGetter) {
+        return entities.stream().collect(Collectors.toMap(idGetter, Function.identity(), (first, second) -> first));
+    }
+}
@@ -0,0 +1,21 @@
+package com.attendease.backend.repository.attendancePings;
+
+import com.attendease.backend.domain.attendance.ping.AttendancePingAccumulator;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the checkpointed {@link AttendancePingAccumulator} documents.
+ */
+@Repository
+public interface AttendancePingAccumulatorRepository extends MongoRepository<AttendancePingAccumulator, String> {
+
+    /**
+     * Retrieves the checkpointed accumulators of every student that pinged during an event.
+     *
+     * @param eventId the unique identifier of the event
+     * @return the accumulators of the event
+     */
+    List<AttendancePingAccumulator> findByEventId(String eventId);
+}
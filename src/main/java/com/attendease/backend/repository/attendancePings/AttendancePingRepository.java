@@ -0,0 +1,36 @@
+package com.attendease.backend.repository.attendancePings;
+
+import com.attendease.backend.domain.attendance.ping.AttendancePing;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the append-only {@link AttendancePing} time-series collection.
+ * <p>
+ * Pings are only ever inserted with {@code insert}; they are never updated in place.
+ * </p>
+ */
+@Repository
+public interface AttendancePingRepository extends MongoRepository<AttendancePing, String> {
+
+    /**
+     * Retrieves every ping of a student for an event in chronological order.
+     *
+     * @param eventId the unique identifier of the event
+     * @param studentId the unique identifier of the student
+     * @return the pings sorted by timestamp ascending
+     */
+    List<AttendancePing> findByMetaEventIdAndMetaStudentIdOrderByTimestampAsc(String eventId, String studentId);
+
+    /**
+     * Streams every ping of a student for an event in chronological order through a MongoDB cursor.
+     * The returned stream must be closed after use.
+     *
+     * @param eventId the unique identifier of the event
+     * @param studentId the unique identifier of the student
+     * @return a cursor-backed stream of pings sorted by timestamp ascending
+     */
+    Stream<AttendancePing> streamByMetaEventIdAndMetaStudentIdOrderByTimestampAsc(String eventId, String studentId);
+}
@@ -0,0 +1,20 @@
+package com.attendease.backend.repository.attendanceRecords.AttendanceRecordsExport;
+
+import com.attendease.backend.domain.attendance.export.AttendanceExportFilter;
+import com.attendease.backend.domain.attendance.export.AttendanceExportRow;
+import java.util.stream.Stream;
+
+/**
+ * Cursor-backed reads of flattened attendance records for exports.
+ */
+public interface AttendanceRecordsExport {
+
+    /**
+     * Streams the attendance records selected by the filter, joined with their event and student, ordered by record ID.
+     * Records whose student or user no longer exists are skipped. The returned stream must be closed.
+     *
+     * @param filter the event, academic year and semester to export
+     * @return a cursor-backed stream of {@link AttendanceExportRow}
+     */
+    Stream<AttendanceExportRow> streamRows(AttendanceExportFilter filter);
+}
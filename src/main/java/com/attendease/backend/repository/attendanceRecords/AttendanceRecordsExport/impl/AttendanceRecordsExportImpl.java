@@ -0,0 +1,129 @@
+package com.attendease.backend.repository.attendanceRecords.AttendanceRecordsExport.impl;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import com.attendease.backend.domain.attendance.export.AttendanceExportFilter;
+import com.attendease.backend.domain.attendance.export.AttendanceExportRow;
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.attendease.backend.domain.event.Event;
+import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsExport.AttendanceRecordsExport;
+import com.attendease.backend.repository.reference.AttendeeLookups;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Streams attendance records through an aggregation cursor, joining each record to its event name and to the
+ * {@link AttendeeLookups} student hierarchy on the server, so an export never holds more than one cursor batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceRecordsExportImpl implements AttendanceRecordsExport {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${attendance.records.export.cursor-batch-size:1000}")
+    private int cursorBatchSize;
+
+    @Override
+    public Stream<AttendanceExportRow> streamRows(AttendanceExportFilter filter) {
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        Document match = toMatch(filter);
+        pipeline.add(context -> new Document("$match", match));
+        pipeline.add(context -> new Document("$sort", new Document("_id", 1)));
+        pipeline.add(context -> new Document("$project", new Document("student", 1)
+                .append("event", 1)
+                .append("academicYearName", 1)
+                .append("semesterName", 1)
+                .append("attendanceStatus", 1)
+                .append("reason", 1)
+                .append("timeIn", 1)
+                .append("timeOut", 1)));
+        pipeline.addAll(AttendeeLookups.joinStudentHierarchy(mongoTemplate));
+        pipeline.add(context -> new Document("$addFields", new Document("eventRefId", AttendeeLookups.refId("$event"))));
+        pipeline.add(context -> new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(Event.class))
+                .append("localField", "eventRefId")
+                .append("foreignField", "_id")
+                .append("pipeline", List.of(new Document("$project", new Document("eventName", 1))))
+                .append("as", "eventSummary")));
+        pipeline.add(context -> new Document("$project", new Document("eventId", new Document("$toString", "$eventRefId"))
+                .append("eventName", new Document("$first", "$eventSummary.eventName"))
+                .append("academicYearName", 1)
+                .append("semesterName", 1)
+                .append("studentNumber", "$student.studentNumber")
+                .append("firstName", "$user.firstName")
+                .append("lastName", "$user.lastName")
+                .append("email", "$user.email")
+                .append("yearLevel", "$section.yearLevel")
+                .append("sectionName", "$section.sectionName")
+                .append("courseName", "$course.courseName")
+                .append("clusterName", "$cluster.clusterName")
+                .append("attendanceStatus", 1)
+                .append("reason", 1)
+                .append("timeIn", 1)
+                .append("timeOut", 1)));
+
+        Aggregation aggregation = Aggregation.newAggregation(pipeline).withOptions(AggregationOptions.builder()
+                .allowDiskUse(true)
+                .cursorBatchSize(cursorBatchSize)
+                .build());
+        return mongoTemplate.aggregateStream(aggregation, mongoTemplate.getCollectionName(AttendanceRecords.class), Document.class)
+                .map(this::toRow);
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private Document toMatch(AttendanceExportFilter filter) {
+        Document match = new Document();
+        if (filter.getEventId() != null) {
+            match.append("event.$id", ObjectId.isValid(filter.getEventId()) ? new ObjectId(filter.getEventId()) : filter.getEventId());
+        }
+        if (filter.getAcademicYearId() != null) {
+            match.append("academicYearId", filter.getAcademicYearId());
+        }
+        if (filter.getSemester() != null) {
+            match.append("semester", filter.getSemester());
+        }
+        return match;
+    }
+
+    private AttendanceExportRow toRow(Document row) {
+        String status = row.getString("attendanceStatus");
+        return AttendanceExportRow.builder()
+                .attendanceRecordId(row.getObjectId("_id").toHexString())
+                .eventId(row.getString("eventId"))
+                .eventName(row.getString("eventName"))
+                .academicYearName(row.getString("academicYearName"))
+                .semesterName(row.getString("semesterName"))
+                .studentNumber(row.getString("studentNumber"))
+                .firstName(row.getString("firstName"))
+                .lastName(row.getString("lastName"))
+                .email(row.getString("email"))
+                .yearLevel(row.getInteger("yearLevel"))
+                .sectionName(row.getString("sectionName"))
+                .courseName(row.getString("courseName"))
+                .clusterName(row.getString("clusterName"))
+                .attendanceStatus(status != null ? AttendanceStatus.valueOf(status) : null)
+                .reason(row.getString("reason"))
+                .timeIn(toLocalDateTime(row.getDate("timeIn")))
+                .timeOut(toLocalDateTime(row.getDate("timeOut")))
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.attendease.backend.repository.attendanceRecords.AttendanceRecordsKeyset;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import java.util.List;
+
+/**
+ * Keyset-paginated reads of the attendance records of an event.
+ * <p>
+ * Records are ordered by ID and read without their legacy {@code attendancePingLogs}, which can hold
+ * thousands of pings per record and are never needed to list attendees.
+ * </p>
+ */
+public interface AttendanceRecordsKeyset {
+
+    /**
+     * Retrieves the attendance records of an event that come after a given record.
+     *
+     * @param eventId the unique identifier of the event
+     * @param afterRecordId the ID of the last record of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of records to return
+     * @return the records ordered by ID, without ping logs
+     */
+    List<AttendanceRecords> findPageByEvent(String eventId, String afterRecordId, int limit);
+
+    /**
+     * Retrieves all attendance records of an event, without ping logs.
+     *
+     * @param eventId the unique identifier of the event
+     * @return the records of the event ordered by ID
+     */
+    List<AttendanceRecords> findAllByEvent(String eventId);
+}
@@ -0,0 +1,46 @@
+package com.attendease.backend.repository.attendanceRecords.AttendanceRecordsKeyset.impl;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsKeyset.AttendanceRecordsKeyset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads attendance records page by page with a {@code _id > lastId} range on the {@code event.$id} match,
+ * so every page costs the same index seek regardless of how deep it is.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceRecordsKeysetImpl implements AttendanceRecordsKeyset {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<AttendanceRecords> findPageByEvent(String eventId, String afterRecordId, int limit) {
+        Criteria criteria = Criteria.where("event.eventId").is(eventId);
+        if (afterRecordId != null && !afterRecordId.isBlank()) {
+            criteria = criteria.and("recordId").gt(afterRecordId);
+        }
+        return mongoTemplate.find(withoutPingLogs(criteria).limit(limit), AttendanceRecords.class);
+    }
+
+    @Override
+    public List<AttendanceRecords> findAllByEvent(String eventId) {
+        return mongoTemplate.find(withoutPingLogs(Criteria.where("event.eventId").is(eventId)), AttendanceRecords.class);
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private Query withoutPingLogs(Criteria criteria) {
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "recordId"));
+        query.fields().exclude("attendancePingLogs");
+        return query;
+    }
+}
@@ -5,8 +5,10 @@ import com.attendease.backend.domain.enums.AttendanceStatus;
 import com.attendease.backend.domain.event.Event;
 import com.attendease.backend.domain.location.Location;
 import com.attendease.backend.domain.student.Students;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -30,6 +32,15 @@ public interface AttendanceRecordsRepository extends MongoRepository<AttendanceR
      */
     List<AttendanceRecords> findByEventEventId(String eventId);
 
+    /**
+     * Streams the attendance records of an event through a MongoDB cursor.
+     * The returned stream must be closed after use.
+     *
+     * @param eventId the unique identifier of the event
+     * @return a cursor-backed stream of {@link AttendanceRecords} for the given event
+     */
+    Stream<AttendanceRecords> streamByEventEventId(String eventId);
+
     /**
      * Retrieves a list of attendance records for a specific student by their student ID,
      * sorted by creation date in descending order (most recent first).
@@ -56,6 +67,8 @@ public interface AttendanceRecordsRepository extends MongoRepository<AttendanceR
 
     void deleteByStudent_StudentNumber(String studentNumber);
 
+    void deleteByStudentIdIn(Collection<String> studentIds);
+
     Long countByLocationLocationId(String locationId);
 
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.attendease.backend.repository.attendanceRecords.AttendanceStatusSummary;
+
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Aggregated attendance status counts, computed in MongoDB without loading any attendance record.
+ */
+public interface AttendanceStatusSummary {
+
+    /**
+     * Counts the attendance records of the given events per event and status.
+     *
+     * @param eventIds the IDs of the events to count
+     * @return the counts keyed by event ID, then by status; events without records are absent
+     */
+    Map<String, Map<AttendanceStatus, Integer>> countByEventAndStatus(Collection<String> eventIds);
+
+    /**
+     * Counts the attendance records of the given students per event and status.
+     *
+     * @param studentIds the IDs of the students whose records to count
+     * @return the counts keyed by event ID, then by status; events without records of these students are absent
+     */
+    Map<String, Map<AttendanceStatus, Integer>> countByStudentsPerEventAndStatus(Collection<String> studentIds);
+
+    /**
+     * Counts the attendance records of every event per event and status.
+     *
+     * @return the counts keyed by event ID, then by status
+     */
+    Map<String, Map<AttendanceStatus, Integer>> countAllByEventAndStatus();
+}
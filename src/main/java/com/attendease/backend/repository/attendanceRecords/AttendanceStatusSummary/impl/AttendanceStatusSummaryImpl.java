@@ -0,0 +1,94 @@
+package com.attendease.backend.repository.attendanceRecords.AttendanceStatusSummary.impl;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.attendease.backend.repository.attendanceRecords.AttendanceStatusSummary.AttendanceStatusSummary;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Counts attendance statuses with a single {@code $match}/{@code $group} pipeline over {@code attendance_records}.
+ * <p>
+ * Records reference their event through a {@code @DBRef}, so the pipeline matches on {@code event.$id} and
+ * reads the event ID with {@code $getField}, as {@code $id} cannot be addressed with a field path.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceStatusSummaryImpl implements AttendanceStatusSummary {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Map<String, Map<AttendanceStatus, Integer>> countByEventAndStatus(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        AggregationOperation match = context -> new Document("$match",
+                new Document("event.$id", new Document("$in", refIds(eventIds))));
+        return count(List.of(match, groupByEventAndStatus()));
+    }
+
+    @Override
+    public Map<String, Map<AttendanceStatus, Integer>> countByStudentsPerEventAndStatus(Collection<String> studentIds) {
+        if (studentIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        AggregationOperation match = context -> new Document("$match",
+                new Document("student.$id", new Document("$in", refIds(studentIds))));
+        return count(List.of(match, groupByEventAndStatus()));
+    }
+
+    @Override
+    public Map<String, Map<AttendanceStatus, Integer>> countAllByEventAndStatus() {
+        return count(List.of(groupByEventAndStatus()));
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private List<Object> refIds(Collection<String> ids) {
+        return ids.stream()
+                .map(id -> ObjectId.isValid(id) ? (Object) new ObjectId(id) : id)
+                .toList();
+    }
+
+    private AggregationOperation groupByEventAndStatus() {
+        return context -> new Document("$group", new Document("_id", new Document()
+                .append("eventId", new Document("$toString", new Document("$getField",
+                        new Document("field", new Document("$literal", "$id")).append("input", "$event"))))
+                .append("status", "$attendanceStatus"))
+                .append("count", new Document("$sum", 1)));
+    }
+
+    private Map<String, Map<AttendanceStatus, Integer>> count(List<AggregationOperation> pipeline) {
+        Map<String, Map<AttendanceStatus, Integer>> counts = new HashMap<>();
+        String collection = mongoTemplate.getCollectionName(AttendanceRecords.class);
+        mongoTemplate.aggregate(Aggregation.newAggregation(pipeline), collection, Document.class)
+                .getMappedResults()
+                .forEach(result -> {
+                    Document key = result.get("_id", Document.class);
+                    String eventId = key.getString("eventId");
+                    String status = key.getString("status");
+                    if (eventId == null || status == null) {
+                        return;
+                    }
+                    counts.computeIfAbsent(eventId, id -> new EnumMap<>(AttendanceStatus.class))
+                            .put(AttendanceStatus.valueOf(status), result.getInteger("count"));
+                });
+        return counts;
+    }
+}
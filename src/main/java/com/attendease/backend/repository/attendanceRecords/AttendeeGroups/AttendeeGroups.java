@@ -0,0 +1,35 @@
+package com.attendease.backend.repository.attendanceRecords.AttendeeGroups;
+
+import com.attendease.backend.domain.attendance.sorted.SortedAttendanceRecordsResponse.GroupedAttendees;
+import com.attendease.backend.domain.enums.attendance.AttendanceSortCriteria;
+import java.util.Map;
+
+/**
+ * Groups the attendees of an event by cluster, course, section or year level inside MongoDB.
+ * <p>
+ * Groups are keyed by cluster, course or section name ({@code "No Cluster"}, {@code "No Course"}, {@code "No Section"}
+ * when missing) or by year level ({@code "Unknown"} when missing), and ordered by key. Only records whose student and
+ * user accounts still exist are counted, as when records were hydrated in memory.
+ * </p>
+ */
+public interface AttendeeGroups {
+
+    /**
+     * Counts the attendees of an event per group, without reading the attendees themselves.
+     *
+     * @param eventId the unique identifier of the event
+     * @param criteria the grouping criteria
+     * @return the group headers keyed by group key, with their count and no attendees
+     */
+    Map<String, GroupedAttendees> findGroupHeaders(String eventId, AttendanceSortCriteria criteria);
+
+    /**
+     * Retrieves the attendees of an event grouped by the given criteria.
+     *
+     * @param eventId the unique identifier of the event
+     * @param criteria the grouping criteria
+     * @param groupKey the key of the only group to return, or {@code null} for every group
+     * @return the groups keyed by group key, with their attendees in attendance record order
+     */
+    Map<String, GroupedAttendees> findGroups(String eventId, AttendanceSortCriteria criteria, String groupKey);
+}
@@ -0,0 +1,197 @@
+package com.attendease.backend.repository.attendanceRecords.AttendeeGroups.impl;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import com.attendease.backend.domain.attendance.Monitoring.Records.Attendees.Response.AttendeesResponse;
+import com.attendease.backend.domain.attendance.sorted.SortedAttendanceRecordsResponse.GroupedAttendees;
+import com.attendease.backend.domain.enums.AccountStatus;
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.attendease.backend.domain.enums.UserType;
+import com.attendease.backend.domain.enums.attendance.AttendanceSortCriteria;
+import com.attendease.backend.repository.attendanceRecords.AttendeeGroups.AttendeeGroups;
+import com.attendease.backend.repository.reference.AttendeeLookups;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Joins attendance records to their student, user, section, course and cluster with the {@link AttendeeLookups} stages
+ * and groups them with {@code $group}, so only group headers, or attendees already in group order, leave the database.
+ * <p>
+ * Attendees are streamed sorted by group key instead of being {@code $push}ed into group documents, which would hit
+ * the 16 MB document limit on large events.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendeeGroupsImpl implements AttendeeGroups {
+
+    private static final String GROUP_KEY = "groupKey";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Map<String, GroupedAttendees> findGroupHeaders(String eventId, AttendanceSortCriteria criteria) {
+        List<AggregationOperation> pipeline = joinAttendees(eventId, criteria);
+        pipeline.add(context -> new Document("$group", new Document("_id", "$" + GROUP_KEY)
+                .append("count", new Document("$sum", 1))
+                .append("clusterName", new Document("$first", "$clusterName"))
+                .append("courseName", new Document("$first", "$courseName"))
+                .append("sectionName", new Document("$first", "$sectionName"))
+                .append("yearLevel", new Document("$first", "$yearLevel"))));
+        pipeline.add(context -> new Document("$sort", new Document("_id", 1)));
+
+        Map<String, GroupedAttendees> groups = new LinkedHashMap<>();
+        aggregate(pipeline).forEach(result -> {
+            String key = result.getString("_id");
+            GroupedAttendees group = toGroup(key, result, criteria);
+            group.setCount(result.getInteger("count"));
+            groups.put(key, group);
+        });
+        return groups;
+    }
+
+    @Override
+    public Map<String, GroupedAttendees> findGroups(String eventId, AttendanceSortCriteria criteria, String groupKey) {
+        List<AggregationOperation> pipeline = joinAttendees(eventId, criteria);
+        if (groupKey != null) {
+            pipeline.add(context -> new Document("$match", new Document(GROUP_KEY, groupKey)));
+        }
+        pipeline.add(context -> new Document("$sort", new Document(GROUP_KEY, 1).append("_id", 1)));
+
+        Map<String, GroupedAttendees> groups = new LinkedHashMap<>();
+        try (Stream<Document> attendees = mongoTemplate.aggregateStream(
+                Aggregation.newAggregation(pipeline).withOptions(AggregationOptions.builder().allowDiskUse(true).build()),
+                mongoTemplate.getCollectionName(AttendanceRecords.class), Document.class)) {
+            attendees.forEach(attendee -> {
+                GroupedAttendees group = groups.computeIfAbsent(attendee.getString(GROUP_KEY), key -> {
+                    GroupedAttendees created = toGroup(key, attendee, criteria);
+                    created.setAttendees(new ArrayList<>());
+                    return created;
+                });
+                group.getAttendees().add(toAttendee(attendee));
+                group.setCount(group.getAttendees().size());
+            });
+        }
+        return groups;
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    /**
+     * Builds the stages producing one flat attendee document per record, with its group key.
+     */
+    private List<AggregationOperation> joinAttendees(String eventId, AttendanceSortCriteria criteria) {
+        Object eventRefId = ObjectId.isValid(eventId) ? new ObjectId(eventId) : eventId;
+        List<AggregationOperation> pipeline = new ArrayList<>();
+
+        pipeline.add(context -> new Document("$match", new Document("event.$id", eventRefId)));
+        pipeline.add(context -> new Document("$project", new Document("student", 1)
+                .append("attendanceStatus", 1)
+                .append("reason", 1)
+                .append("timeIn", 1)
+                .append("timeOut", 1)));
+        pipeline.addAll(AttendeeLookups.joinStudentHierarchy(mongoTemplate));
+
+        pipeline.add(context -> new Document("$project", new Document("attendanceStatus", 1)
+                .append("reason", 1)
+                .append("timeIn", 1)
+                .append("timeOut", 1)
+                .append("userId", new Document("$toString", "$user._id"))
+                .append("firstName", "$user.firstName")
+                .append("lastName", "$user.lastName")
+                .append("email", "$user.email")
+                .append("contactNumber", "$user.contactNumber")
+                .append("accountStatus", "$user.accountStatus")
+                .append("userType", "$user.userType")
+                .append("createdAt", "$user.createdAt")
+                .append("updatedAt", "$user.updatedAt")
+                .append("studentId", new Document("$toString", "$student._id"))
+                .append("studentNumber", "$student.studentNumber")
+                .append("yearLevel", "$section.yearLevel")
+                .append("sectionName", AttendeeLookups.ifNull("$section.sectionName", "No Section"))
+                .append("courseName", AttendeeLookups.ifNull("$course.courseName", "No Course"))
+                .append("clusterName", AttendeeLookups.ifNull("$cluster.clusterName", "No Cluster"))));
+        pipeline.add(context -> new Document("$addFields", new Document(GROUP_KEY, groupKeyOf(criteria))));
+        return pipeline;
+    }
+
+    private Object groupKeyOf(AttendanceSortCriteria criteria) {
+        return switch (criteria) {
+            case CLUSTER -> "$clusterName";
+            case COURSE -> "$courseName";
+            case SECTION -> "$sectionName";
+            case YEAR_LEVEL -> new Document("$ifNull", List.of(new Document("$toString", "$yearLevel"), "Unknown"));
+        };
+    }
+
+    private List<Document> aggregate(List<AggregationOperation> pipeline) {
+        return mongoTemplate.aggregate(Aggregation.newAggregation(pipeline),
+                mongoTemplate.getCollectionName(AttendanceRecords.class), Document.class).getMappedResults();
+    }
+
+    /**
+     * Creates an empty group carrying the header fields the original in-memory grouping exposed for each criteria.
+     */
+    private GroupedAttendees toGroup(String key, Document source, AttendanceSortCriteria criteria) {
+        GroupedAttendees.GroupedAttendeesBuilder group = GroupedAttendees.builder().groupName(key);
+        switch (criteria) {
+            case CLUSTER -> group.clusterName(source.getString("clusterName"));
+            case COURSE -> group.clusterName(source.getString("clusterName"))
+                    .courseName(source.getString("courseName"));
+            case SECTION -> group.clusterName(source.getString("clusterName"))
+                    .courseName(source.getString("courseName"))
+                    .sectionName(source.getString("sectionName"))
+                    .yearLevel(source.getInteger("yearLevel"));
+            case YEAR_LEVEL -> group.yearLevel(source.getInteger("yearLevel"));
+        }
+        return group.build();
+    }
+
+    private AttendeesResponse toAttendee(Document attendee) {
+        return AttendeesResponse.builder()
+                .attendanceRecordId(attendee.getObjectId("_id").toHexString())
+                .userId(attendee.getString("userId"))
+                .firstName(attendee.getString("firstName"))
+                .lastName(attendee.getString("lastName"))
+                .email(attendee.getString("email"))
+                .contactNumber(attendee.getString("contactNumber"))
+                .accountStatus(enumOf(AccountStatus.class, attendee.getString("accountStatus")))
+                .userType(enumOf(UserType.class, attendee.getString("userType")))
+                .createdAt(toLocalDateTime(attendee.getDate("createdAt")))
+                .updatedAt(toLocalDateTime(attendee.getDate("updatedAt")))
+                .studentId(attendee.getString("studentId"))
+                .studentNumber(attendee.getString("studentNumber"))
+                .yearLevel(attendee.getInteger("yearLevel"))
+                .sectionName(attendee.getString("sectionName"))
+                .courseName(attendee.getString("courseName"))
+                .clusterName(attendee.getString("clusterName"))
+                .attendanceStatus(enumOf(AttendanceStatus.class, attendee.getString("attendanceStatus")))
+                .reason(attendee.getString("reason"))
+                .timeIn(toLocalDateTime(attendee.getDate("timeIn")))
+                .timeOut(toLocalDateTime(attendee.getDate("timeOut")))
+                .build();
+    }
+
+    private <E extends Enum<E>> E enumOf(Class<E> type, String name) {
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+}
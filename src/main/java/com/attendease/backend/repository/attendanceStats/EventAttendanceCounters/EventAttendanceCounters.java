@@ -0,0 +1,49 @@
+package com.attendease.backend.repository.attendanceStats.EventAttendanceCounters;
+
+import com.attendease.backend.domain.attendance.stats.EventAttendanceStats;
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Atomic updates of the {@link EventAttendanceStats} counters of events.
+ */
+public interface EventAttendanceCounters {
+
+    /**
+     * Counts a newly created attendance record.
+     */
+    void recordCreated(String eventId, AttendanceStatus status);
+
+    /**
+     * Moves an attendance record from one status to another. Does nothing when the status did not change.
+     */
+    void recordTransition(String eventId, AttendanceStatus from, AttendanceStatus to);
+
+    /**
+     * Uncounts a deleted attendance record.
+     */
+    void recordDeleted(String eventId, AttendanceStatus status);
+
+    /**
+     * Applies several signed status deltas to an event in one update.
+     */
+    void apply(String eventId, Map<AttendanceStatus, Integer> deltas);
+
+    /**
+     * Drops the counters of events whose attendance records were all deleted.
+     */
+    void clear(Collection<String> eventIds);
+
+    /**
+     * Drops the counters of every event.
+     */
+    void clearAll();
+
+    /**
+     * Recomputes the counters of every event from its attendance records.
+     *
+     * @return the number of events with attendance records
+     */
+    int rebuildAll();
+}
@@ -0,0 +1,126 @@
+package com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.impl;
+
+import com.attendease.backend.domain.attendance.stats.EventAttendanceStats;
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.attendease.backend.repository.attendanceRecords.AttendanceStatusSummary.AttendanceStatusSummary;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.EventAttendanceCounters;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keeps {@code event_attendance_stats} in step with attendance status changes through upserted {@code $inc} updates,
+ * so concurrent writers never read-modify-write a counter.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EventAttendanceCountersImpl implements EventAttendanceCounters {
+
+    private final MongoTemplate mongoTemplate;
+    private final AttendanceStatusSummary attendanceStatusSummary;
+
+    @Override
+    public void recordCreated(String eventId, AttendanceStatus status) {
+        apply(eventId, Map.of(status, 1));
+    }
+
+    @Override
+    public void recordTransition(String eventId, AttendanceStatus from, AttendanceStatus to) {
+        if (from == to) {
+            return;
+        }
+        Map<AttendanceStatus, Integer> deltas = new EnumMap<>(AttendanceStatus.class);
+        if (from != null) {
+            deltas.put(from, -1);
+        }
+        if (to != null) {
+            deltas.put(to, 1);
+        }
+        apply(eventId, deltas);
+    }
+
+    @Override
+    public void recordDeleted(String eventId, AttendanceStatus status) {
+        apply(eventId, Map.of(status, -1));
+    }
+
+    @Override
+    public void apply(String eventId, Map<AttendanceStatus, Integer> deltas) {
+        if (eventId == null) {
+            return;
+        }
+        Update update = new Update().set("updatedAt", Instant.now());
+        boolean changed = false;
+        for (Map.Entry<AttendanceStatus, Integer> delta : deltas.entrySet()) {
+            if (delta.getKey() != null && delta.getValue() != 0) {
+                update.inc("statusCounts." + delta.getKey().name(), delta.getValue());
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        try {
+            mongoTemplate.upsert(byEventId(eventId), update, EventAttendanceStats.class);
+        } catch (Exception e) {
+            // counters are corrected by the next rebuild, a failed increment must not fail the attendance write
+            log.error("Failed to update attendance counters of event {}: {}", eventId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void clear(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("eventId").in(eventIds)), EventAttendanceStats.class);
+    }
+
+    @Override
+    public void clearAll() {
+        mongoTemplate.remove(new Query(), EventAttendanceStats.class);
+    }
+
+    @Override
+    public int rebuildAll() {
+        Instant now = Instant.now();
+        Map<String, Map<AttendanceStatus, Integer>> counts = attendanceStatusSummary.countAllByEventAndStatus();
+
+        if (!counts.isEmpty()) {
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventAttendanceStats.class);
+            counts.forEach((eventId, statusCounts) -> operations.upsert(byEventId(eventId), new Update()
+                    .set("statusCounts", toDocument(statusCounts))
+                    .set("updatedAt", now)
+                    .set("rebuiltAt", now)));
+            operations.execute();
+        }
+
+        mongoTemplate.remove(Query.query(Criteria.where("eventId").nin(counts.keySet())), EventAttendanceStats.class);
+        return counts.size();
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private Query byEventId(String eventId) {
+        return Query.query(Criteria.where("eventId").is(eventId));
+    }
+
+    private Document toDocument(Map<AttendanceStatus, Integer> statusCounts) {
+        Document document = new Document();
+        statusCounts.forEach((status, count) -> document.append(status.name(), count));
+        return document;
+    }
+}
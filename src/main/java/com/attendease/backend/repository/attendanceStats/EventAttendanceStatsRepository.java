@@ -0,0 +1,15 @@
+package com.attendease.backend.repository.attendanceStats;
+
+import com.attendease.backend.domain.attendance.stats.EventAttendanceStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for reading the materialized {@link EventAttendanceStats} of events.
+ * <p>
+ * Counters are only written through {@code EventAttendanceCounters}.
+ * </p>
+ */
+@Repository
+public interface EventAttendanceStatsRepository extends MongoRepository<EventAttendanceStats, String> {
+}
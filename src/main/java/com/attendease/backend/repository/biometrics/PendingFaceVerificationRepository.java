@@ -0,0 +1,19 @@
+package com.attendease.backend.repository.biometrics;
+
+import com.attendease.backend.domain.biometrics.Verification.Pending.PendingFaceVerification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for check-in face images queued for deferred verification.
+ */
+@Repository
+public interface PendingFaceVerificationRepository extends MongoRepository<PendingFaceVerification, String> {
+
+    List<PendingFaceVerification> findAllByOrderByCreatedAtAsc(Pageable pageable);
+
+    void deleteByEventId(String eventId);
+}
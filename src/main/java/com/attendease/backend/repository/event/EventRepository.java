@@ -5,6 +5,7 @@ import com.attendease.backend.domain.event.Event;
 import java.util.List;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -20,6 +21,8 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface EventRepository extends MongoRepository<Event, String> {
 
+    String SUMMARY_FIELDS = "{ 'registrationLocation': 0, 'venueLocation': 0, 'academicYear': 0, 'eligibleStudents': 0 }";
+
     /**
      * Finds all event sessions with the given status.
      */
@@ -93,5 +96,18 @@ public interface EventRepository extends MongoRepository<Event, String> {
 
     List<Event> findByAcademicYearId(String academicYearId);
 
+    /**
+     * Finds events by status without loading their location and academic year references or eligibility criteria.
+     * Only the scalar fields, including the denormalized location names, are populated.
+     */
+    @Query(value = "{ 'eventStatus': { $in: ?0 } }", fields = SUMMARY_FIELDS)
+    List<Event> findSummariesByEventStatusIn(List<EventStatus> statuses);
+
+    @Query(value = "{ 'eventStatus': { $in: ?0 }, 'academicYearId': ?1 }", fields = SUMMARY_FIELDS)
+    List<Event> findSummariesByEventStatusInAndAcademicYearId(List<EventStatus> statuses, String academicYearId);
+
+    @Query(value = "{ 'eventStatus': { $in: ?0 }, 'academicYearId': ?1, 'semester': ?2 }", fields = SUMMARY_FIELDS)
+    List<Event> findSummariesByEventStatusInAndAcademicYearIdAndSemester(List<EventStatus> statuses, String academicYearId, Integer semester);
+
 	Long countByRegistrationLocationId(String locationId);
 }
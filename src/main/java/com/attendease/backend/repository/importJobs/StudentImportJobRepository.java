@@ -0,0 +1,18 @@
+package com.attendease.backend.repository.importJobs;
+
+import com.attendease.backend.domain.enums.ImportJobStatus;
+import com.attendease.backend.domain.user.account.management.users.csv.job.StudentImportJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the persisted state of {@link StudentImportJob}s.
+ */
+@Repository
+public interface StudentImportJobRepository extends MongoRepository<StudentImportJob, String> {
+
+    List<StudentImportJob> findByStatusIn(Collection<ImportJobStatus> statuses);
+}
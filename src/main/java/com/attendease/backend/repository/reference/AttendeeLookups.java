@@ -0,0 +1,70 @@
+package com.attendease.backend.repository.reference;
+
+import com.attendease.backend.domain.cluster.Cluster;
+import com.attendease.backend.domain.course.Course;
+import com.attendease.backend.domain.section.Section;
+import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.domain.user.User;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+
+/**
+ * Aggregation stages joining attendance records to the student, user, section, course and cluster they refer to,
+ * and the DBRef helpers shared with other aggregations.
+ * <p>
+ * References are followed through their {@code $id}, read with {@code $getField} because {@code $id} cannot be
+ * addressed with a field path. A student without a section reference falls back to its denormalized
+ * {@code currentSectionId}. Collection names are resolved from the mapped entities.
+ * </p>
+ */
+@UtilityClass
+public class AttendeeLookups {
+
+    /**
+     * Joins each record to its {@code student} and {@code user}, dropping records whose student or user no longer
+     * exists, then to its optional {@code section}, {@code course} and {@code cluster}.
+     */
+    public List<AggregationOperation> joinStudentHierarchy(MongoTemplate mongoTemplate) {
+        List<AggregationOperation> pipeline = new ArrayList<>();
+        pipeline.add(context -> new Document("$addFields", new Document("studentRefId", refId("$student"))));
+        pipeline.addAll(lookup(mongoTemplate.getCollectionName(Students.class), "studentRefId", "student", false));
+        pipeline.add(context -> new Document("$addFields", new Document("userRefId", refId("$student.user"))
+                .append("sectionRefId", new Document("$ifNull", List.of(refId("$student.section"),
+                        new Document("$convert", new Document("input", "$student.currentSectionId")
+                                .append("to", "objectId")
+                                .append("onError", null)
+                                .append("onNull", null)))))));
+        pipeline.addAll(lookup(mongoTemplate.getCollectionName(User.class), "userRefId", "user", false));
+        pipeline.addAll(lookup(mongoTemplate.getCollectionName(Section.class), "sectionRefId", "section", true));
+        pipeline.add(context -> new Document("$addFields", new Document("courseRefId", refId("$section.course"))));
+        pipeline.addAll(lookup(mongoTemplate.getCollectionName(Course.class), "courseRefId", "course", true));
+        pipeline.add(context -> new Document("$addFields", new Document("clusterRefId", refId("$course.cluster"))));
+        pipeline.addAll(lookup(mongoTemplate.getCollectionName(Cluster.class), "clusterRefId", "cluster", true));
+        return pipeline;
+    }
+
+    /**
+     * Reads the {@code $id} of a DBRef field, e.g. {@code refId("$event")}.
+     */
+    public Document refId(String reference) {
+        return new Document("$getField", new Document("field", new Document("$literal", "$id")).append("input", reference));
+    }
+
+    public Document ifNull(String field, Object fallback) {
+        return new Document("$ifNull", List.of(field, fallback));
+    }
+
+    private List<AggregationOperation> lookup(String from, String localField, String as, boolean optional) {
+        return List.of(
+                context -> new Document("$lookup", new Document("from", from)
+                        .append("localField", localField)
+                        .append("foreignField", "_id")
+                        .append("as", as)),
+                context -> new Document("$unwind", new Document("path", "$" + as)
+                        .append("preserveNullAndEmptyArrays", optional)));
+    }
+}
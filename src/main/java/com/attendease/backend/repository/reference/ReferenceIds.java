@@ -0,0 +1,35 @@
+package com.attendease.backend.repository.reference;
+
+import com.mongodb.DBRef;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
+
+/**
+ * Reads the ID of a {@code @DBRef(lazy = true)} reference without resolving it.
+ * <p>
+ * Calling any getter on a lazy reference, including the ID getter, loads the referenced document.
+ * A lazy reference that was not resolved yet still knows the ID it points to, so it is read from there.
+ * </p>
+ */
+@UtilityClass
+public class ReferenceIds {
+
+    /**
+     * Returns the ID of a referenced entity.
+     *
+     * @param reference the referenced entity, possibly a lazy-loading proxy
+     * @param idGetter the ID getter used when the reference is an already loaded entity
+     * @return the ID of the referenced entity, or {@code null} if there is no reference
+     */
+    public static <T> String idOf(T reference, Function<T, String> idGetter) {
+        if (reference == null) {
+            return null;
+        }
+        if (reference instanceof LazyLoadingProxy proxy) {
+            DBRef dbRef = proxy.toDBRef();
+            return dbRef != null && dbRef.getId() != null ? dbRef.getId().toString() : null;
+        }
+        return idGetter.apply(reference);
+    }
+}
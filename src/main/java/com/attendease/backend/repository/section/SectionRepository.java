@@ -3,6 +3,7 @@ package com.attendease.backend.repository.section;
 import com.attendease.backend.domain.academic.Academic;
 import com.attendease.backend.domain.course.Course;
 import com.attendease.backend.domain.section.Section;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -31,6 +32,8 @@ public interface SectionRepository extends MongoRepository<Section, String> {
      */
     Optional<Section> findBySectionName(String sectionName);
 
+    List<Section> findBySectionNameIn(Collection<String> sectionNames);
+
     /**
      * Finds all sections associated with a specific {@link Course} entity.
      *
@@ -3,6 +3,7 @@ package com.attendease.backend.repository.students.StudentBiometrics.impl;
 import com.attendease.backend.domain.biometrics.BiometricData;
 import com.attendease.backend.domain.student.Students;
 import com.attendease.backend.domain.user.User;
+import com.attendease.backend.repository.reference.ReferenceIds;
 import com.attendease.backend.repository.students.StudentBiometrics.StudentBiometrics;
 
 import java.util.List;
@@ -34,12 +35,14 @@ public class StudentBiometricsImpl implements StudentBiometrics {
         }
 
         List<String> userIdsToDelete = allStudents.stream()
-                .map(Students::getUser)
+                .map(s -> ReferenceIds.idOf(s.getUser(), User::getUserId))
                 .filter(Objects::nonNull)
-                .map(User::getUserId)
                 .toList();
 
-        List<String> biometricIdsToDelete = allStudents.stream().filter(s -> s.getFacialData() != null).map(s -> s.getFacialData().getFacialId()).toList();
+        List<String> biometricIdsToDelete = allStudents.stream()
+                .map(s -> ReferenceIds.idOf(s.getFacialData(), BiometricData::getFacialId))
+                .filter(Objects::nonNull)
+                .toList();
 
         if (!biometricIdsToDelete.isEmpty()) {
             Query biometricQuery = new Query(Criteria.where("facialId").in(biometricIdsToDelete));
@@ -4,8 +4,10 @@ import com.attendease.backend.domain.section.Section;
 import com.attendease.backend.domain.student.Students;
 import com.attendease.backend.domain.user.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
@@ -47,6 +49,16 @@ public interface StudentRepository extends MongoRepository<Students, String> {
      */
     boolean existsByStudentNumber(String studentNumber);
 
+    /**
+     * Finds the students holding any of the given student numbers, with only their student number loaded.
+     * Used to detect duplicates of a whole import in one query.
+     *
+     * @param studentNumbers the student numbers to look up
+     * @return the matching {@link Students}, holding only their ID and student number
+     */
+    @Query(value = "{ 'studentNumber': { $in: ?0 } }", fields = "{ 'studentNumber': 1 }")
+    List<Students> findStudentNumbersByStudentNumberIn(Collection<String> studentNumbers);
+
     /**
      * Finds all student whose user account are in the given list.
      *
@@ -74,6 +86,16 @@ public interface StudentRepository extends MongoRepository<Students, String> {
 
     List<Students> findBySectionIdIn(List<String> sections);
 
+    /**
+     * Streams every student through a MongoDB cursor. The returned stream must be closed after use.
+     */
+    Stream<Students> streamAllBy();
+
+    /**
+     * Streams the students of the given sections through a MongoDB cursor. The returned stream must be closed after use.
+     */
+    Stream<Students> streamBySectionIdIn(List<String> sections);
+
     Long countBySection(Section section);
 
     Optional<Students> findByUser_UserId(String userId);
@@ -0,0 +1,27 @@
+package com.attendease.backend.repository.users.UserCredentials;
+
+import com.attendease.backend.domain.student.login.StudentLoginCredentials;
+import java.util.Optional;
+
+/**
+ * Reads and updates the credentials of users without loading their full documents.
+ */
+public interface UserCredentials {
+
+    /**
+     * Reads the login projection of a student: its user's password hash, account status and type, and whether
+     * biometric data is registered for its student number.
+     *
+     * @param studentNumber the student number entered at login
+     * @return the credentials, or empty if no student (or no user of that student) exists
+     */
+    Optional<StudentLoginCredentials> findStudentLoginCredentials(String studentNumber);
+
+    /**
+     * Replaces a user's password hash, but only if it still is {@code currentHash}, so a rehash never overwrites
+     * a password changed in the meantime.
+     *
+     * @return {@code true} if the hash was replaced
+     */
+    boolean replacePasswordHash(String userId, String currentHash, String newHash);
+}
@@ -0,0 +1,83 @@
+package com.attendease.backend.repository.users.UserCredentials.impl;
+
+import com.attendease.backend.domain.biometrics.BiometricData;
+import com.attendease.backend.domain.enums.UserType;
+import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.domain.student.login.StudentLoginCredentials;
+import com.attendease.backend.domain.user.User;
+import com.attendease.backend.repository.reference.AttendeeLookups;
+import com.attendease.backend.repository.users.UserCredentials.UserCredentials;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class UserCredentialsImpl implements UserCredentials {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<StudentLoginCredentials> findStudentLoginCredentials(String studentNumber) {
+        List<AggregationOperation> pipeline = List.of(
+                Aggregation.match(Criteria.where("studentNumber").is(studentNumber)),
+                Aggregation.limit(1),
+                context -> new Document("$addFields", new Document("userRefId", new Document("$ifNull", List.of(
+                        AttendeeLookups.refId("$user"),
+                        new Document("$convert", new Document("input", "$userId")
+                                .append("to", "objectId")
+                                .append("onError", null)
+                                .append("onNull", null)))))),
+                context -> new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(User.class))
+                        .append("localField", "userRefId")
+                        .append("foreignField", "_id")
+                        .append("pipeline", List.of(new Document("$project", new Document("password", 1)
+                                .append("userType", 1))))
+                        .append("as", "user")),
+                Aggregation.unwind("user"),
+                context -> new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(BiometricData.class))
+                        .append("localField", "studentNumber")
+                        .append("foreignField", "studentNumber")
+                        .append("pipeline", List.of(new Document("$limit", 1), new Document("$project", new Document("_id", 1))))
+                        .append("as", "biometrics")),
+                context -> new Document("$project", new Document("_id", 0)
+                        .append("userId", new Document("$toString", "$user._id"))
+                        .append("studentNumber", 1)
+                        .append("password", "$user.password")
+                        .append("userType", "$user.userType")
+                        .append("biometricsRegistered", new Document("$gt", List.of(new Document("$size", "$biometrics"), 0)))));
+
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(pipeline),
+                mongoTemplate.getCollectionName(Students.class), Document.class).getUniqueMappedResult();
+        return Optional.ofNullable(result).map(this::toCredentials);
+    }
+
+    @Override
+    public boolean replacePasswordHash(String userId, String currentHash, String newHash) {
+        Query query = Query.query(Criteria.where("userId").is(userId).and("password").is(currentHash));
+        return mongoTemplate.updateFirst(query, Update.update("password", newHash), User.class).getModifiedCount() > 0;
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private StudentLoginCredentials toCredentials(Document document) {
+        String userType = document.getString("userType");
+        return StudentLoginCredentials.builder()
+                .userId(document.getString("userId"))
+                .studentNumber(document.getString("studentNumber"))
+                .passwordHash(document.getString("password"))
+                .userType(userType != null ? UserType.valueOf(userType) : null)
+                .biometricsRegistered(document.getBoolean("biometricsRegistered", false))
+                .build();
+    }
+}
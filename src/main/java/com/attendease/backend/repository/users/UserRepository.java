@@ -4,9 +4,11 @@ import com.attendease.backend.domain.enums.AccountStatus;
 import com.attendease.backend.domain.enums.UserType;
 import com.attendease.backend.domain.user.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +17,7 @@ public interface UserRepository extends MongoRepository<User, String> {
 
     List<User> findByUserTypeAndAccountStatus(UserType userType, AccountStatus accountStatus);
 
+    @Query(value = "{ 'email': { $in: ?0 } }", fields = "{ 'email': 1 }")
+    List<User> findEmailsByEmailIn(Collection<String> emails);
+
 }
@@ -14,6 +14,7 @@ import com.attendease.backend.repository.academic.AcademicRepository;
 import com.attendease.backend.repository.section.SectionRepository;
 import com.attendease.backend.repository.students.StudentRepository;
 import com.attendease.backend.repository.users.UserRepository;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -49,6 +50,7 @@ public class AcademicYearActivationScheduler {
 	private final SectionRepository sectionRepository;
 	private final StudentRepository studentRepository;
 	private final UserRepository userRepository;
+	private final StudentIdentityCache studentIdentityCache;
 
 	@Scheduled(cron = "0 0 0 * * ?")
 	@Transactional
@@ -194,6 +196,7 @@ public class AcademicYearActivationScheduler {
 					user.setAccountStatus(AccountStatus.INACTIVE);
 					user.setUpdatedBy(String.valueOf(UserType.SYSTEM));
 					userRepository.save(user);
+					studentIdentityCache.invalidate(user.getUserId());
 					totalDeactivated++;
 					log.debug("Deactivated student: {} ({})", student.getStudentNumber(), student.getUser().getEmail());
 				}
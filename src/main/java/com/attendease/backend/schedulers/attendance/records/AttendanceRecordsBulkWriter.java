@@ -0,0 +1,68 @@
+package com.attendease.backend.schedulers.attendance.records;
+
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import lombok.Getter;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Accumulates {@link AttendanceRecords} updates and inserts into unordered {@link BulkOperations}
+ * and executes them every {@code batchSize} operations, so a finalization run never holds more than
+ * one batch in memory. Not thread-safe; create one writer per finalization run.
+ */
+final class AttendanceRecordsBulkWriter {
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    private BulkOperations operations;
+    private int pending;
+
+    @Getter
+    private int updated;
+
+    @Getter
+    private int inserted;
+
+    AttendanceRecordsBulkWriter(MongoTemplate mongoTemplate, int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    void update(String recordId, Update update) {
+        operations().updateOne(Query.query(Criteria.where("recordId").is(recordId)), update);
+        updated++;
+        flushIfFull();
+    }
+
+    void insert(AttendanceRecords record) {
+        operations().insert(record);
+        inserted++;
+        flushIfFull();
+    }
+
+    void flush() {
+        if (pending > 0) {
+            operations.execute();
+            operations = null;
+            pending = 0;
+        }
+    }
+
+    private BulkOperations operations() {
+        if (operations == null) {
+            operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AttendanceRecords.class);
+        }
+        pending++;
+        return operations;
+    }
+
+    private void flushIfFull() {
+        if (pending >= batchSize) {
+            flush();
+        }
+    }
+}
@@ -2,41 +2,62 @@ package com.attendease.backend.schedulers.attendance.records;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
 import com.attendease.backend.domain.attendance.Tracking.Response.AttendanceTrackingResponse;
-import com.attendease.backend.domain.course.Course;
-import com.attendease.backend.domain.enums.AccountStatus;
+import com.attendease.backend.domain.attendance.ping.AttendancePing;
+import com.attendease.backend.domain.attendance.ping.AttendancePingAccumulator;
 import com.attendease.backend.domain.enums.AttendanceStatus;
-import com.attendease.backend.domain.event.eligibility.EventEligibility;
 import com.attendease.backend.domain.event.Event;
-import com.attendease.backend.domain.section.Section;
 import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.repository.attendancePings.AttendancePingRepository;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
-import com.attendease.backend.repository.course.CourseRepository;
-import com.attendease.backend.repository.section.SectionRepository;
-import com.attendease.backend.repository.students.StudentRepository;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.EventAttendanceCounters;
+import com.attendease.backend.repository.biometrics.PendingFaceVerificationRepository;
+import com.attendease.backend.repository.reference.ReferenceIds;
+import com.attendease.backend.student.service.location.tracking.accumulator.AttendancePingAccumulatorStore;
+import com.attendease.backend.student.service.utils.event.EventEligibleStudents;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
+/**
+ * Finalizes the attendance of concluded events.
+ * <p>
+ * Finalization is a streaming pipeline: attendance records, pings and expected students are read through
+ * MongoDB cursors, inside time is read from the {@link AttendancePingAccumulator} maintained while pings arrived,
+ * and status changes and ABSENT inserts are written in {@link AttendanceRecordsBulkWriter} batches. Only the
+ * accumulators of the event and the IDs of students that already have a record are kept in memory for the whole run.
+ * The net status changes are applied to the event's attendance counters in a single update once all batches are written.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AttendanceRecordsFinalizer {
 
     private final AttendanceRecordsRepository attendanceRecordsRepository;
-    private final StudentRepository studentRepository;
-    private final SectionRepository sectionRepository;
-    private final CourseRepository courseRepository;
+    private final AttendancePingRepository attendancePingRepository;
+    private final EventEligibleStudents eventEligibleStudents;
+    private final AttendancePingAccumulatorStore attendancePingAccumulatorStore;
+    private final EventAttendanceCounters eventAttendanceCounters;
+    private final PendingFaceVerificationRepository pendingFaceVerificationRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${attendance.finalization.batch-size:500}")
+    private int batchSize;
 
     /**
      * Re-evaluates and finalizes attendance based on ping logs.
      * If attendance location monitoring is disabled, students who registered are marked as PRESENT.
      * If enabled, a student is marked PRESENT if they were inside for at least 70% of the event duration.
-     * PARTIALLY_REGISTERED students who never reached the venue are marked as ABSENT.
+     * PARTIALLY_REGISTERED students who never reached the venue are marked as ABSENT, as are PENDING_VERIFICATION
+     * students whose deferred facial verification was not completed; their queued face images are dropped.
      */
     public void finalizeAttendanceForEvent(Event event) {
         String eventId = event.getEventId();
@@ -44,74 +65,102 @@ public class AttendanceRecordsFinalizer {
         boolean locationMonitoringEnabled = event.getAttendanceLocationMonitoringEnabled() != null
                 && event.getAttendanceLocationMonitoringEnabled();
 
-        List<AttendanceRecords> attendanceRecords = attendanceRecordsRepository.findByEventEventId(eventId);
-        List<Students> expectedStudents = getExpectedStudentsForEvent(event);
-        Set<String> studentsWithRecords = attendanceRecords.stream()
-                .map(r -> r.getStudent().getId())
-                .collect(Collectors.toSet());
+        AttendanceRecordsBulkWriter writer = new AttendanceRecordsBulkWriter(mongoTemplate, batchSize);
+        Set<String> studentsWithRecords = new HashSet<>();
+        Map<AttendanceStatus, Integer> statusDeltas = new EnumMap<>(AttendanceStatus.class);
+        Map<String, AttendancePingAccumulator> accumulators = locationMonitoringEnabled
+                ? attendancePingAccumulatorStore.findByEvent(eventId)
+                : Map.of();
 
         LocalDateTime now = LocalDateTime.now();
 
-        for (AttendanceRecords record : attendanceRecords) {
-            AttendanceStatus oldStatus = record.getAttendanceStatus();
-            AttendanceStatus finalStatus;
-
-            if (oldStatus == AttendanceStatus.PARTIALLY_REGISTERED) {
-                finalStatus = AttendanceStatus.ABSENT;
-                record.setReason("Checked in at registration area but never entered the event venue.");
-                log.info("Student {} marked as ABSENT (was PARTIALLY_REGISTERED) for event {}",
-                        record.getStudent().getStudentNumber(), eventName);
-            } else if (!locationMonitoringEnabled) {
-                finalStatus = evaluateAttendanceWithoutMonitoring(event, record);
-                log.info("Location monitoring disabled for event {}. Student {} marked as {}",
-                        eventName, record.getStudent().getStudentNumber(), finalStatus);
-            } else {
-                finalStatus = evaluateAttendanceFromLogs(event, record);
-
-                if (finalStatus == AttendanceStatus.PRESENT) {
-                    AttendanceStatus lateStatus = evaluateLateAttendees(event, record);
-                    if (lateStatus == AttendanceStatus.LATE) {
-                        finalStatus = AttendanceStatus.LATE;
-                        log.info("Adjusted attendance to LATE for student {} (arrived after event started) in event {}",
-                                record.getStudent().getStudentNumber(), eventName);
+        try (Stream<AttendanceRecords> records = attendanceRecordsRepository.streamByEventEventId(eventId)) {
+            records.forEach(record -> {
+                String studentId = studentIdOf(record);
+                studentsWithRecords.add(studentId);
+
+                AttendanceStatus oldStatus = record.getAttendanceStatus();
+                AttendanceStatus finalStatus = evaluateFinalStatus(event, record, locationMonitoringEnabled,
+                        accumulators.get(studentId));
+
+                if (finalStatus != oldStatus) {
+                    writer.update(record.getRecordId(), new Update()
+                            .set("attendanceStatus", finalStatus)
+                            .set("reason", record.getReason())
+                            .set("timeOut", now)
+                            .set("updatedAt", now));
+                    if (oldStatus != null) {
+                        statusDeltas.merge(oldStatus, -1, Integer::sum);
                     }
+                    statusDeltas.merge(finalStatus, 1, Integer::sum);
+                    log.debug("Finalized attendance for student {} as {} in event {}",
+                            studentId, finalStatus, eventName);
                 }
-            }
-
-            if (finalStatus != oldStatus) {
-                record.setAttendanceStatus(finalStatus);
-                record.setTimeOut(now);
-                attendanceRecordsRepository.save(record);
-                log.info("Finalized attendance for student {} as {} in event {}",
-                        record.getStudent().getStudentNumber(), finalStatus, eventName);
-            }
+            });
         }
 
         // mark missing students as ABSENT
-        for (Students student : expectedStudents) {
-            if (!studentsWithRecords.contains(student.getId())) {
-                AttendanceRecords absentRecord = AttendanceRecords.builder()
-                        .student(student)
-                        .event(event)
-                        .location(null)
-                        .eventLocationId(null)
-                        .academicYear(event.getAcademicYear())
-                        .academicYearId(event.getAcademicYearId())
-                        .academicYearName(event.getAcademicYearName())
-                        .semester(event.getSemester())
-                        .semesterName(event.getSemesterName())
-                        .attendanceStatus(AttendanceStatus.ABSENT)
-                        .reason("No attendance recorded – may have missed the event or not registered in time.")
-                        .timeIn(null)
-                        .timeOut(null)
-                        .build();
-                attendanceRecordsRepository.save(absentRecord);
-                log.info("Recorded as absent for student {} in event {}, {} (Academic Year: {}, Semester: {})",
-                        student.getStudentNumber(), eventId, eventName,
-                        event.getAcademicYearName(), event.getSemesterName());
-            }
+        try (Stream<Students> expectedStudents = eventEligibleStudents.streamActive(event)) {
+            expectedStudents
+                    .filter(student -> !studentsWithRecords.contains(student.getId()))
+                    .forEach(student -> {
+                        writer.insert(AttendanceRecords.builder()
+                                .student(student)
+                                .event(event)
+                                .location(null)
+                                .eventLocationId(null)
+                                .academicYear(event.getAcademicYear())
+                                .academicYearId(event.getAcademicYearId())
+                                .academicYearName(event.getAcademicYearName())
+                                .semester(event.getSemester())
+                                .semesterName(event.getSemesterName())
+                                .attendanceStatus(AttendanceStatus.ABSENT)
+                                .reason("No attendance recorded – may have missed the event or not registered in time.")
+                                .timeIn(null)
+                                .timeOut(null)
+                                .createdAt(now)
+                                .updatedAt(now)
+                                .build());
+                        statusDeltas.merge(AttendanceStatus.ABSENT, 1, Integer::sum);
+                        log.debug("Recorded as absent for student {} in event {}, {} (Academic Year: {}, Semester: {})",
+                                student.getStudentNumber(), eventId, eventName,
+                                event.getAcademicYearName(), event.getSemesterName());
+                    });
+        }
+
+        writer.flush();
+        eventAttendanceCounters.apply(eventId, statusDeltas);
+        attendancePingAccumulatorStore.evictEvent(eventId);
+        pendingFaceVerificationRepository.deleteByEventId(eventId);
+        log.info("Attendance finalization completed for event {}, {}: {} records evaluated, {} updated, {} marked absent",
+                eventId, eventName, studentsWithRecords.size(), writer.getUpdated(), writer.getInserted());
+    }
+
+
+    private String studentIdOf(AttendanceRecords record) {
+        return ReferenceIds.idOf(record.getStudent(), Students::getId);
+    }
+
+
+    private AttendanceStatus evaluateFinalStatus(Event event, AttendanceRecords record, boolean locationMonitoringEnabled,
+                                                 AttendancePingAccumulator accumulator) {
+        if (record.getAttendanceStatus() == AttendanceStatus.PARTIALLY_REGISTERED) {
+            record.setReason("Checked in at registration area but never entered the event venue.");
+            return AttendanceStatus.ABSENT;
+        }
+        if (record.getAttendanceStatus() == AttendanceStatus.PENDING_VERIFICATION) {
+            record.setReason("Facial verification could not be completed before the event was finalized.");
+            return AttendanceStatus.ABSENT;
+        }
+        if (!locationMonitoringEnabled) {
+            return evaluateAttendanceWithoutMonitoring(event, record);
         }
-        log.info("Attendance finalization completed for event {}, {}", eventId, eventName);
+
+        AttendanceStatus finalStatus = evaluateAttendanceFromLogs(event, record, accumulator);
+        if (finalStatus == AttendanceStatus.PRESENT && evaluateLateAttendees(event, record) == AttendanceStatus.LATE) {
+            return AttendanceStatus.LATE;
+        }
+        return finalStatus;
     }
 
 
@@ -125,17 +174,21 @@ public class AttendanceRecordsFinalizer {
     }
 
 
-    private AttendanceStatus evaluateAttendanceFromLogs(Event event, AttendanceRecords record) {
-        List<AttendanceTrackingResponse> pings = record.getAttendancePingLogs();
-        if (pings == null || pings.isEmpty()) {
+    private AttendanceStatus evaluateAttendanceFromLogs(Event event, AttendanceRecords record, AttendancePingAccumulator accumulator) {
+        long eventStart = event.getStartingDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long eventEnd = event.getEndingDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long eventDuration = eventEnd - eventStart;
+
+        if (accumulator == null || accumulator.isReplayRequired()) {
+            accumulator = replayPings(event, record, eventStart, eventEnd);
+        }
+
+        if (accumulator.getPingCount() == 0) {
             record.setReason("No location updates were detected during the event.");
             return AttendanceStatus.ABSENT;
         }
 
-        long eventStart = event.getStartingDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
-        long eventEnd = event.getEndingDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
-        long eventDuration = eventEnd - eventStart;
-        long insideTime = computeInsideDuration(pings, eventStart, eventEnd);
+        long insideTime = accumulator.getInsideMillis();
 
         double insideRatio = (double) insideTime / eventDuration;
         double percentage = insideRatio * 100;
@@ -153,94 +206,34 @@ public class AttendanceRecordsFinalizer {
     }
 
 
-    private AttendanceStatus evaluateLateAttendees(Event event, AttendanceRecords record) {
-        if (record.getTimeIn() == null || !record.getTimeIn().isAfter(event.getStartingDateTime())) {
-            return null;
+    /**
+     * Rebuilds the accumulator of a student that has none, e.g. for pings recorded before accumulators existed,
+     * or whose accumulator received out-of-order pings.
+     * Falls back to the legacy ping logs embedded in the record when the ping store has nothing either.
+     */
+    private AttendancePingAccumulator replayPings(Event event, AttendanceRecords record, long eventStart, long eventEnd) {
+        String studentId = studentIdOf(record);
+        AttendancePingAccumulator accumulator = AttendancePingAccumulator.start(
+                event.getEventId(), studentId, eventStart, eventEnd);
+        try (Stream<AttendancePing> pings = attendancePingRepository
+                .streamByMetaEventIdAndMetaStudentIdOrderByTimestampAsc(event.getEventId(), studentId)) {
+            pings.forEach(ping -> accumulator.accept(ping.getTimestamp().toEpochMilli(), ping.isInside()));
         }
-        record.setReason("Arrived late to the event after it started at " + record.getTimeIn());
-        return AttendanceStatus.LATE;
-    }
-
-
-    private long computeInsideDuration(List<AttendanceTrackingResponse> pings, long eventStart, long eventEnd) {
-        if (pings.size() < 2) return 0;
-
-        pings.sort(Comparator.comparingLong(AttendanceTrackingResponse::getTimestamp));
-
-        long totalInside = 0;
-
-        for (int i = 0; i < pings.size() - 1; i++) {
-            AttendanceTrackingResponse current = pings.get(i);
-            AttendanceTrackingResponse next = pings.get(i + 1);
-
-            long t1 = Math.max(current.getTimestamp(), eventStart);
-            long t2 = Math.min(next.getTimestamp(), eventEnd);
 
-            if (current.isInside()) {
-                totalInside += (t2 - t1);
-            }
+        if (accumulator.getPingCount() == 0 && !CollectionUtils.isEmpty(record.getAttendancePingLogs())) {
+            record.getAttendancePingLogs().stream()
+                    .sorted(Comparator.comparingLong(AttendanceTrackingResponse::getTimestamp))
+                    .forEach(ping -> accumulator.accept(ping.getTimestamp(), ping.isInside()));
         }
-
-        return totalInside;
+        return accumulator;
     }
 
 
-    private List<Students> getExpectedStudentsForEvent(Event event) {
-        EventEligibility criteria = event.getEligibleStudents();
-        List<Students> expectedStudents;
-
-        if (criteria == null || criteria.isAllStudents()) {
-            expectedStudents = studentRepository.findAll();
-        } else {
-            List<String> sectionsToCheck = criteria.getSelectedSections() != null && !criteria.getSelectedSections().isEmpty()
-                    ? criteria.getSelectedSections()
-                    : criteria.getSections();
-
-            List<String> coursesToCheck = criteria.getSelectedCourses() != null && !criteria.getSelectedCourses().isEmpty()
-                    ? criteria.getSelectedCourses()
-                    : criteria.getCourses();
-
-            List<String> clustersToCheck = criteria.getSelectedClusters() != null && !criteria.getSelectedClusters().isEmpty()
-                    ? criteria.getSelectedClusters()
-                    : criteria.getClusters();
-
-            Set<Students> uniqueStudents = new HashSet<>();
-
-            if (!CollectionUtils.isEmpty(sectionsToCheck)) {
-                uniqueStudents.addAll(studentRepository.findBySectionIdIn(sectionsToCheck));
-            }
-            else if (!CollectionUtils.isEmpty(coursesToCheck)) {
-                List<Section> courseSections = sectionRepository.findByCourseIdIn(coursesToCheck);
-                List<String> sectionIds = courseSections.stream().map(Section::getId).toList();
-                if (!sectionIds.isEmpty()) {
-                    uniqueStudents.addAll(studentRepository.findBySectionIdIn(sectionIds));
-                }
-            }
-            else if (!CollectionUtils.isEmpty(clustersToCheck)) {
-                List<Course> clusterCourses = courseRepository.findByClusterClusterIdIn(clustersToCheck);
-                List<String> courseIds = clusterCourses.stream().map(Course::getId).toList();
-                if (!courseIds.isEmpty()) {
-                    List<Section> clusterSections = sectionRepository.findByCourseIdIn(courseIds);
-                    List<String> sectionIds = clusterSections.stream().map(Section::getId).toList();
-                    if (!sectionIds.isEmpty()) {
-                        uniqueStudents.addAll(studentRepository.findBySectionIdIn(sectionIds));
-                    }
-                }
-            }
-
-            if (criteria.getTargetYearLevels() != null && !criteria.getTargetYearLevels().isEmpty()) {
-                uniqueStudents = uniqueStudents.stream()
-                        .filter(student -> student.getSection() != null
-                                && criteria.getTargetYearLevels().contains(student.getSection().getYearLevel()))
-                        .collect(Collectors.toSet());
-                log.info("Filtered expected students by year levels {} for event {}",
-                        criteria.getTargetYearLevels(), event.getEventId());
-            }
-            expectedStudents = new ArrayList<>(uniqueStudents);
+    private AttendanceStatus evaluateLateAttendees(Event event, AttendanceRecords record) {
+        if (record.getTimeIn() == null || !record.getTimeIn().isAfter(event.getStartingDateTime())) {
+            return null;
         }
-
-        expectedStudents = expectedStudents.stream().filter(s -> s.getUser() != null && s.getUser().getAccountStatus() == AccountStatus.ACTIVE).toList();
-        log.info("Total expected ACTIVE students for event {}: {}", event.getEventId(), expectedStudents.size());
-        return expectedStudents;
+        record.setReason("Arrived late to the event after it started at " + record.getTimeIn());
+        return AttendanceStatus.LATE;
     }
 }
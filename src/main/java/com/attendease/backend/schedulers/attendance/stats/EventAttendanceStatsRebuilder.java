@@ -0,0 +1,47 @@
+package com.attendease.backend.schedulers.attendance.stats;
+
+import com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.EventAttendanceCounters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the materialized event attendance counters from the attendance records.
+ * <p>
+ * Runs once on startup, so counters exist for records written before they were maintained, and then nightly
+ * to correct any drift, e.g. from records deleted in bulk or an increment that failed. Increments landing while
+ * a rebuild runs may be overwritten, which is why it is scheduled outside event hours.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventAttendanceStatsRebuilder {
+
+    private final EventAttendanceCounters eventAttendanceCounters;
+
+    @Value("${attendance.stats.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAfterStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${attendance.stats.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            int events = eventAttendanceCounters.rebuildAll();
+            log.info("Rebuilt attendance counters of {} events in {} ms", events, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Failed to rebuild event attendance counters: {}", e.getMessage(), e);
+        }
+    }
+}
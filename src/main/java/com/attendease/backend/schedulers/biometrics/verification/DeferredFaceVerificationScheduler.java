@@ -0,0 +1,141 @@
+package com.attendease.backend.schedulers.biometrics.verification;
+
+import com.attendease.backend.client.biometrics.breaker.FacialServiceCircuitBreaker;
+import com.attendease.backend.domain.attendance.AttendanceRecords;
+import com.attendease.backend.domain.biometrics.Verification.Pending.PendingFaceVerification;
+import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.attendease.backend.exceptions.domain.Biometrics.FacialRecognitionServiceException;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.EventAttendanceCounters;
+import com.attendease.backend.repository.biometrics.PendingFaceVerificationRepository;
+import com.attendease.backend.student.service.utils.biometrics.StudentFaceVerifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Verifies the check-in face images queued while the facial recognition service was unavailable.
+ * <p>
+ * Every {@code retry-interval-ms}, while the {@link FacialServiceCircuitBreaker} lets calls through, the oldest
+ * {@code batch-size} queued images are verified. A matching face moves its attendance record from
+ * {@link AttendanceStatus#PENDING_VERIFICATION} to the status it was checked in with; a face that does not match
+ * marks it {@link AttendanceStatus#ABSENT}. An entry that fails for another reason is retried on later runs while
+ * the batch moves on to the next one; after {@code max-attempts} failed attempts its record is marked
+ * {@link AttendanceStatus#ABSENT} and the entry dropped. The batch only stops when the breaker stops letting calls
+ * through. Records are only updated while still pending, so a record finalized in the meantime keeps its final status.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeferredFaceVerificationScheduler {
+
+    private final PendingFaceVerificationRepository pendingFaceVerificationRepository;
+    private final StudentFaceVerifier studentFaceVerifier;
+    private final FacialServiceCircuitBreaker circuitBreaker;
+    private final EventAttendanceCounters eventAttendanceCounters;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${facial.verification.deferred.batch-size:50}")
+    private int batchSize;
+
+    @Value("${facial.verification.deferred.max-attempts:10}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${facial.verification.deferred.retry-interval-ms:15000}")
+    public void verifyPending() {
+        if (!circuitBreaker.isCallPermitted()) {
+            log.debug("Facial service circuit breaker is {}, postponing deferred face verifications", circuitBreaker.getState());
+            return;
+        }
+
+        List<PendingFaceVerification> batch = pendingFaceVerificationRepository.findAllByOrderByCreatedAtAsc(PageRequest.of(0, batchSize));
+        int verified = 0;
+        for (PendingFaceVerification pending : batch) {
+            if (!circuitBreaker.isCallPermitted()) {
+                break;
+            }
+            if (verify(pending)) {
+                verified++;
+            }
+        }
+        if (verified > 0) {
+            log.info("Completed {} deferred face verifications", verified);
+        }
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    /**
+     * @return whether the verification was decided, {@code false} if it has to be retried later
+     */
+    private boolean verify(PendingFaceVerification pending) {
+        try {
+            studentFaceVerifier.verify(pending.getStudentNumber(), pending.getImage(), pending.getFileName());
+            resolve(pending, pending.getResolvedStatus(), pending.getResolvedReason());
+            return true;
+        } catch (IllegalStateException e) {
+            log.warn("Deferred face verification failed for student {} in event {}: {}",
+                    pending.getStudentNumber(), pending.getEventId(), e.getMessage());
+            resolve(pending, AttendanceStatus.ABSENT, "Facial verification failed after check-in: " + e.getMessage());
+            return true;
+        } catch (FacialRecognitionServiceException e) {
+            log.warn("Deferred face verification of student {} failed: {}", pending.getStudentNumber(), e.getMessage());
+            recordFailedAttempt(pending, e);
+            return false;
+        } catch (Exception e) {
+            log.error("Failed to complete deferred face verification {}: {}", pending.getVerificationId(), e.getMessage(), e);
+            recordFailedAttempt(pending, e);
+            return false;
+        }
+    }
+
+    /**
+     * Counts a failed attempt, giving up on the entry once {@code max-attempts} is reached.
+     */
+    private void recordFailedAttempt(PendingFaceVerification pending, Exception error) {
+        try {
+            pending.setAttempts(pending.getAttempts() + 1);
+            pending.setLastError(error.getMessage());
+            pending.setLastAttemptAt(Instant.now());
+            if (pending.getAttempts() >= maxAttempts) {
+                log.error("Giving up deferred face verification of student {} in event {} after {} attempts",
+                        pending.getStudentNumber(), pending.getEventId(), pending.getAttempts());
+                resolve(pending, AttendanceStatus.ABSENT,
+                        "Facial verification could not be completed after check-in: " + error.getMessage());
+            } else {
+                pendingFaceVerificationRepository.save(pending);
+            }
+        } catch (Exception e) {
+            log.error("Failed to record attempt of deferred face verification {}: {}", pending.getVerificationId(), e.getMessage(), e);
+        }
+    }
+
+    private void resolve(PendingFaceVerification pending, AttendanceStatus status, String reason) {
+        Query query = Query.query(Criteria.where("recordId").is(pending.getRecordId())
+                .and("attendanceStatus").is(AttendanceStatus.PENDING_VERIFICATION));
+        Update update = new Update()
+                .set("attendanceStatus", status)
+                .set("reason", reason)
+                .set("updatedAt", LocalDateTime.now());
+
+        if (mongoTemplate.updateFirst(query, update, AttendanceRecords.class).getModifiedCount() > 0) {
+            eventAttendanceCounters.recordTransition(pending.getEventId(), AttendanceStatus.PENDING_VERIFICATION, status);
+            log.info("Deferred face verification of student {} resolved attendance in event {} as {}",
+                    pending.getStudentNumber(), pending.getEventId(), status);
+        }
+        pendingFaceVerificationRepository.delete(pending);
+    }
+}
@@ -7,11 +7,13 @@ import com.attendease.backend.schedulers.attendance.records.AttendanceRecordsFin
 import com.attendease.backend.student.service.event.broadcast.EventBroadcastService;
 import com.attendease.backend.student.service.event.retrieval.impl.EventRetrievalServiceImpl;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import com.attendease.backend.student.service.event.state.EventStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -26,17 +28,25 @@ public class EventScheduleFinalizer {
     private final EventRetrievalServiceImpl eventRetrievalService;
     private final EventStateService eventStateService;
 
+    @Value("${attendance.ping.batch.late-upload-grace-minutes:10}")
+    private long lateUploadGraceMinutes;
+
     @Scheduled(fixedRate = 15000)
     public void runScheduledFinalization() throws Exception {
         try {
             List<Event> concludedEvents = eventRepository.findByEventStatus(EventStatus.CONCLUDED);
             boolean anyFinalized = false;
             List<String> finalizedEventIds = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
             for (Event event : concludedEvents) {
                 if (event.getEventStatus() == EventStatus.CANCELLED) {
                     log.info("Skipping finalization for cancelled event: {} {}", event.getEventId(), event.getEventName());
                     continue;
                 }
+                // late ping batches are accepted for a grace period after the end, finalize once it has passed
+                if (event.getEndingDateTime() != null && now.isBefore(event.getEndingDateTime().plusMinutes(lateUploadGraceMinutes))) {
+                    continue;
+                }
                 log.info("Finalizing attendance records and status for event: {} {}", event.getEventId(), event.getEventName());
                 attendanceRecordsFinalizer.finalizeAttendanceForEvent(event);
                 event.setEventStatus(EventStatus.FINALIZED);
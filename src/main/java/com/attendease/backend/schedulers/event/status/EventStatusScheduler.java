@@ -11,6 +11,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import com.attendease.backend.student.service.event.state.EventStateService;
+import com.attendease.backend.student.service.utils.biometrics.FaceEncodingIndexStore;
+import com.attendease.backend.student.service.utils.event.EventSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -25,6 +27,8 @@ public class EventStatusScheduler {
     private final EventBroadcastService eventBroadcastService;
     private final EventRetrievalServiceImpl eventRetrievalService;
     private final EventStateService eventStateService;
+    private final EventSnapshotCache eventSnapshotCache;
+    private final FaceEncodingIndexStore faceEncodingIndexStore;
 
     @Scheduled(fixedRate = 15000)
     public void updateEventStatuses() {
@@ -78,6 +82,8 @@ public class EventStatusScheduler {
                 log.info("Broadcasted state changes for {} events", updatedEventIds.size());
             }
 
+            eventSnapshotCache.sync(events);
+            faceEncodingIndexStore.sync(events);
             log.debug("Checked {} events for status updates", events.size());
         } catch (Exception e) {
             log.error("Error updating event statuses: {}", e.getMessage(), e);
@@ -1,44 +1,72 @@
 package com.attendease.backend.security;
 
 import com.attendease.backend.domain.enums.UserType;
+import com.attendease.backend.security.jwt.claims.JwtClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
-import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.function.Function;
 
 import static com.attendease.backend.security.constants.SecurityConstants.EXPIRATION_TIME;
 
+/**
+ * Issues and verifies the application's HS512 JWTs.
+ * <p>
+ * The signing key and the parser are built once at startup. Verified tokens are cached as {@link JwtClaims}
+ * by the SHA-256 hash of the token, until the token expires or {@code jwt.claims-cache.max-ttl-minutes}
+ * elapse, so a client reusing its token is verified once instead of on every request.
+ * </p>
+ */
 @Component
 public class JwtTokenProvider {
 
     @Value("${jwt.secret}")
     private String secretBase64;
 
-    private SecretKey getSigningKey() {
-        try {
-            byte[] keyBytes = Base64.getDecoder().decode(secretBase64);
-            if (keyBytes.length < 64) {
-                throw new IllegalArgumentException("JWT key too short: " + keyBytes.length + " bytes (needs >=64)");
-            }
-            return Keys.hmacShaKeyFor(keyBytes);
-        } catch (Exception e) {
-            throw new RuntimeException("Invalid JWT secret", e);
-        }
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize;
+
+    @Value("${jwt.claims-cache.max-ttl-minutes:30}")
+    private long claimsCacheMaxTtlMinutes;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, JwtClaims> verifiedClaims;
+
+    @PostConstruct
+    public void init() {
+        signingKey = buildSigningKey();
+        parser = Jwts.parser().verifyWith(signingKey).build();
+
+        Duration maxTtl = Duration.ofMinutes(claimsCacheMaxTtlMinutes);
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(Expiry.<String, JwtClaims>creating((tokenHash, claims) -> timeToLive(claims, maxTtl)))
+                .build();
     }
 
     public String generateToken(String userId, String email, UserType userType) {
@@ -48,7 +76,7 @@ public class JwtTokenProvider {
                 .claim("role", userType.name())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -60,25 +88,34 @@ public class JwtTokenProvider {
                 .claim("role", userType.name())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verifies and parses the token, or returns its cached claims if it was verified before.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public JwtClaims parse(String token) {
+        String tokenHash = hash(token);
+        JwtClaims cached = verifiedClaims.getIfPresent(tokenHash);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        JwtClaims claims = JwtClaims.of(parser.parseSignedClaims(token).getPayload());
+        verifiedClaims.put(tokenHash, claims);
+        return claims;
     }
 
     public Boolean validateToken(String token, String userId) {
-        final String subject = extractUserId(token);
-        return (subject.equals(userId) && !isTokenExpired(token));
+        JwtClaims claims = parse(token);
+        return (claims.getSubject().equals(userId) && !claims.isExpired());
     }
 
     public String extractUserId(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parse(token).getSubject();
     }
 
     public String extractEmail(String token) {
@@ -86,22 +123,19 @@ public class JwtTokenProvider {
     }
 
     public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+        return parse(token).getRole();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parse(token).getClaims());
     }
 
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = extractClaim(token, Claims::getExpiration);
-        return expiration.before(new Date());
+    public boolean isTokenValid(String userId, String token) {
+        return isTokenValid(userId, parse(token));
     }
 
-    public boolean isTokenValid(String userId, String token) {
-        final String subject = getSubject(token);
-        return (userId != null && userId.equals(subject) && !isTokenExpired(token));
+    public boolean isTokenValid(String userId, JwtClaims claims) {
+        return (userId != null && userId.equals(claims.getSubject()) && !claims.isExpired());
     }
 
     public String getSubject(String token) {
@@ -109,11 +143,14 @@ public class JwtTokenProvider {
     }
 
     public List<GrantedAuthority> getAuthorities(String token) {
-        String role = extractRole(token);
-        if (role == null || role.isEmpty()) {
+        return getAuthorities(parse(token));
+    }
+
+    public List<GrantedAuthority> getAuthorities(JwtClaims claims) {
+        if (claims.getAuthorities().isEmpty()) {
             throw new IllegalStateException("No role found in token");
         }
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+        return claims.getAuthorities();
     }
 
     public Authentication getAuthentication(String username, List<GrantedAuthority> authorities, HttpServletRequest request) {
@@ -121,4 +158,40 @@ public class JwtTokenProvider {
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         return authentication;
     }
-}
\ No newline at end of file
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private SecretKey buildSigningKey() {
+        try {
+            byte[] keyBytes = Base64.getDecoder().decode(secretBase64);
+            if (keyBytes.length < 64) {
+                throw new IllegalArgumentException("JWT key too short: " + keyBytes.length + " bytes (needs >=64)");
+            }
+            return Keys.hmacShaKeyFor(keyBytes);
+        } catch (Exception e) {
+            throw new RuntimeException("Invalid JWT secret", e);
+        }
+    }
+
+    private Duration timeToLive(JwtClaims claims, Duration maxTtl) {
+        if (claims.getExpiresAt() == null) {
+            return maxTtl;
+        }
+        Duration untilExpiry = Duration.between(Instant.now(), claims.getExpiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
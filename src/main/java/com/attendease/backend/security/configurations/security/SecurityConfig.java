@@ -3,7 +3,9 @@ package com.attendease.backend.security.configurations.security;
 import com.attendease.backend.security.jwt.filter.authentication.access.denied.JwtAccessDeniedHandler;
 import com.attendease.backend.security.jwt.filter.authentication.forbidden.AuthenticationEntryPoint;
 import com.attendease.backend.security.jwt.filter.authorization.JwtAuthorizationFilter;
+import com.attendease.backend.security.jwt.filter.authorization.MonitoringSessionAuthorizationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,9 +27,13 @@ public class SecurityConfig {
 
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final JwtAuthorizationFilter jwtAuthorizationFilter;
+    private final MonitoringSessionAuthorizationFilter monitoringSessionAuthorizationFilter;
     private final AuthenticationEntryPoint authenticationEntryPoint;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public SecurityFilterChain configure(HttpSecurity httpSecurity) throws Exception {
         httpSecurity
@@ -38,7 +44,8 @@ public class SecurityConfig {
                 .exceptionHandling(e -> {
                     e.authenticationEntryPoint(authenticationEntryPoint);
                     e.accessDeniedHandler(jwtAccessDeniedHandler);
-                }).addFilterBefore(jwtAuthorizationFilter, BasicAuthenticationFilter.class);
+                }).addFilterBefore(jwtAuthorizationFilter, BasicAuthenticationFilter.class)
+                .addFilterBefore(monitoringSessionAuthorizationFilter, JwtAuthorizationFilter.class);
         return httpSecurity.build();
     }
 
@@ -49,6 +56,6 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
\ No newline at end of file
@@ -13,6 +13,14 @@ public class SecurityConstants {
      * Header for Jwt token in Http request
      * */
     public static final String JWT_TOKEN_HEADER = "Jwt-Token";
+    /**
+     * Header for the monitoring session token of location pings
+     * */
+    public static final String MONITORING_SESSION_HEADER = "X-Monitoring-Session";
+    /**
+     * URL prefix of the location ping endpoints that accept a monitoring session token
+     * */
+    public static final String MONITORING_PING_URL_PREFIX = "/api/registration/ping";
     /**
      * an error message indicates that the token cannot be verified
      * */
@@ -0,0 +1,48 @@
+package com.attendease.backend.security.jwt.claims;
+
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, verified claims of one JWT.
+ * <p>
+ * A token is verified and parsed once into this holder, which is then cached by token hash and shared
+ * between request threads, so callers read the subject, role and authorities without parsing again.
+ * </p>
+ */
+@Value
+@Builder
+public class JwtClaims {
+
+    String subject;
+    String role;
+    Instant expiresAt;
+    List<GrantedAuthority> authorities;
+    Claims claims;
+
+    public static JwtClaims of(Claims claims) {
+        String role = claims.get("role", String.class);
+        List<GrantedAuthority> authorities = role == null || role.isEmpty()
+                ? Collections.emptyList()
+                : List.of(new SimpleGrantedAuthority("ROLE_" + role));
+
+        return JwtClaims.builder()
+                .subject(claims.getSubject())
+                .role(role)
+                .expiresAt(claims.getExpiration() != null ? claims.getExpiration().toInstant() : null)
+                .authorities(authorities)
+                .claims(claims)
+                .build();
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(Instant.now());
+    }
+}
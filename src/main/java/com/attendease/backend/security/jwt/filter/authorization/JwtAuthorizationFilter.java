@@ -1,6 +1,8 @@
 package com.attendease.backend.security.jwt.filter.authorization;
 
 import com.attendease.backend.security.JwtTokenProvider;
+import com.attendease.backend.security.jwt.claims.JwtClaims;
+import com.attendease.backend.security.jwt.monitoring.MonitoringSessionAuthentication;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -33,14 +35,16 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             response.setStatus(HttpStatus.OK.value());
         } else {
             String authorizationHeader = request.getHeader(AUTHORIZATION);
-            if (authorizationHeader == null || !authorizationHeader.startsWith(TOKEN_PREFIX)){
+            if (authorizationHeader == null || !authorizationHeader.startsWith(TOKEN_PREFIX)
+                    || SecurityContextHolder.getContext().getAuthentication() instanceof MonitoringSessionAuthentication){
                 filterChain.doFilter(request,response);
                 return;
             }
             String token = authorizationHeader.substring(TOKEN_PREFIX.length());
-            String username = jwtTokenProvider.getSubject(token);
-            if (jwtTokenProvider.isTokenValid(username,token) && SecurityContextHolder.getContext().getAuthentication()==null){
-                List<GrantedAuthority> authorities = jwtTokenProvider.getAuthorities(token);
+            JwtClaims claims = jwtTokenProvider.parse(token);
+            String username = claims.getSubject();
+            if (jwtTokenProvider.isTokenValid(username,claims) && SecurityContextHolder.getContext().getAuthentication()==null){
+                List<GrantedAuthority> authorities = jwtTokenProvider.getAuthorities(claims);
                 Authentication authentication = jwtTokenProvider.getAuthentication(username,authorities,request);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
@@ -0,0 +1,46 @@
+package com.attendease.backend.security.jwt.filter.authorization;
+
+import com.attendease.backend.security.jwt.monitoring.MonitoringSessionAuthentication;
+import com.attendease.backend.security.jwt.monitoring.MonitoringSessionTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import static com.attendease.backend.security.constants.SecurityConstants.MONITORING_PING_URL_PREFIX;
+import static com.attendease.backend.security.constants.SecurityConstants.MONITORING_SESSION_HEADER;
+
+/**
+ * Authenticates location pings that carry a monitoring session token, ahead of {@link JwtAuthorizationFilter}.
+ * <p>
+ * A valid token is enough to authenticate a ping, so the JWT is not parsed for it. Requests with a missing
+ * or invalid token fall through to JWT authentication.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MonitoringSessionAuthorizationFilter extends OncePerRequestFilter {
+
+    private final MonitoringSessionTokenService monitoringSessionTokenService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(MONITORING_PING_URL_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String token = request.getHeader(MONITORING_SESSION_HEADER);
+        if (token != null && !token.isBlank() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            monitoringSessionTokenService.verify(token.trim())
+                    .ifPresent(session -> SecurityContextHolder.getContext().setAuthentication(new MonitoringSessionAuthentication(session)));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,38 @@
+package com.attendease.backend.security.jwt.monitoring;
+
+import com.attendease.backend.domain.attendance.Tracking.Session.MonitoringSession;
+import lombok.Getter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Lightweight authentication of a ping request carrying a valid monitoring session token.
+ */
+@Getter
+public class MonitoringSessionAuthentication extends AbstractAuthenticationToken {
+
+    private final MonitoringSession session;
+
+    public MonitoringSessionAuthentication(MonitoringSession session) {
+        super(List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+        this.session = session;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return session.getUserId();
+    }
+
+    @Override
+    public String getName() {
+        return session.getUserId();
+    }
+}
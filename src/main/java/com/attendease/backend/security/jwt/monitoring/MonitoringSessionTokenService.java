@@ -0,0 +1,155 @@
+package com.attendease.backend.security.jwt.monitoring;
+
+import com.attendease.backend.domain.attendance.Tracking.Session.MonitoringSession;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies monitoring session tokens.
+ * <p>
+ * A token is {@code base64url(payload).base64url(HMAC-SHA256(payload))}, where the payload holds the fields of a
+ * {@link MonitoringSession} separated by {@code |}. Verifying one costs a single HMAC and never touches MongoDB.
+ * The key is {@code attendance.ping.session-token.secret} when set. Otherwise it is derived from the JWT secret with
+ * HKDF-SHA256 under its own label, so the JWT signing key is never used directly for a second HMAC scheme. Startup
+ * fails if the configured key is shorter than 256 bits or equal to the JWT secret.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MonitoringSessionTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int MIN_KEY_LENGTH = 32;
+    private static final byte[] KEY_DERIVATION_LABEL = "attendease/monitoring-session-token/v1".getBytes(StandardCharsets.US_ASCII);
+
+    @Value("${attendance.ping.session-token.secret:}")
+    private String secretBase64;
+
+    @Value("${jwt.secret}")
+    private String jwtSecretBase64;
+
+    private SecretKeySpec key;
+    private ThreadLocal<Mac> macs;
+
+    @PostConstruct
+    public void init() {
+        key = new SecretKeySpec(resolveKey(), ALGORITHM);
+        macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issue(MonitoringSession session) {
+        String payload = String.join(SEPARATOR,
+                session.getUserId(),
+                session.getStudentId(),
+                session.getStudentNumber(),
+                session.getEventId(),
+                session.getVenueLocationId(),
+                Long.toString(session.getExpiresAtEpochMilli()));
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    /**
+     * Verifies the signature and expiry of a token.
+     *
+     * @return the session, or empty if the token is malformed, tampered with or expired
+     */
+    public Optional<MonitoringSession> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, dot);
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                log.debug("Rejected monitoring session token with invalid signature");
+                return Optional.empty();
+            }
+
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|", -1);
+            if (fields.length != 6) {
+                return Optional.empty();
+            }
+            MonitoringSession session = MonitoringSession.builder()
+                    .userId(fields[0])
+                    .studentId(fields[1])
+                    .studentNumber(fields[2])
+                    .eventId(fields[3])
+                    .venueLocationId(fields[4])
+                    .expiresAtEpochMilli(Long.parseLong(fields[5]))
+                    .build();
+            return session.isExpired() ? Optional.empty() : Optional.of(session);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected malformed monitoring session token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private byte[] resolveKey() {
+        byte[] jwtSecret = Base64.getDecoder().decode(jwtSecretBase64);
+        if (secretBase64 == null || secretBase64.isBlank()) {
+            log.info("No monitoring session token secret configured, deriving it from the JWT secret");
+            return deriveKey(jwtSecret);
+        }
+
+        byte[] secret = Base64.getDecoder().decode(secretBase64);
+        if (secret.length < MIN_KEY_LENGTH) {
+            throw new IllegalStateException("Monitoring session token secret too short: " + secret.length + " bytes (needs >=" + MIN_KEY_LENGTH + ")");
+        }
+        if (MessageDigest.isEqual(secret, jwtSecret)) {
+            throw new IllegalStateException("Monitoring session token secret must differ from the JWT secret");
+        }
+        return secret;
+    }
+
+    /**
+     * HKDF-SHA256 (RFC 5869) with an empty salt, expanded to a single 32-byte block.
+     */
+    private byte[] deriveKey(byte[] inputKey) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(new byte[MIN_KEY_LENGTH], ALGORITHM));
+            byte[] pseudoRandomKey = mac.doFinal(inputKey);
+
+            mac.init(new SecretKeySpec(pseudoRandomKey, ALGORITHM));
+            mac.update(KEY_DERIVATION_LABEL);
+            mac.update((byte) 1);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive monitoring session token key", e);
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        return macs.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize monitoring session token signer", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.attendease.backend.security.jwt.websocket;
 
 import com.attendease.backend.security.JwtTokenProvider;
+import com.attendease.backend.security.jwt.claims.JwtClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -26,17 +27,18 @@ public class WebSocketAuthenticatorService {
         }
 
         try {
-            final String username = this.jwtService.extractUserId(jwt);
+            final JwtClaims claims = this.jwtService.parse(jwt);
+            final String username = claims.getSubject();
             if (username == null || username.trim().isEmpty()) {
                 log.warn("WebSocket authentication failed: No username found in JWT token");
                 throw new BadCredentialsException("Invalid JWT token: no username found");
             }
             log.debug("Extracted username from JWT: {}", username);
-            if (!this.jwtService.isTokenValid(username, jwt)) {
+            if (!this.jwtService.isTokenValid(username, claims)) {
                 log.warn("WebSocket authentication failed: Invalid or expired token for user: {}", username);
                 throw new BadCredentialsException("Invalid or expired JWT token");
             }
-            final List<GrantedAuthority> authorities = this.jwtService.getAuthorities(jwt);
+            final List<GrantedAuthority> authorities = this.jwtService.getAuthorities(claims);
             log.info("WebSocket authentication successful for user: {} with authorities: {}", username, authorities);
             return new UsernamePasswordAuthenticationToken(username, null, authorities);
         } catch (AuthenticationException e) {
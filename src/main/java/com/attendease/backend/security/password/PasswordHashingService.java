@@ -0,0 +1,130 @@
+package com.attendease.backend.security.password;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hashes passwords on a dedicated, bounded {@link ForkJoinPool}.
+ * <p>
+ * BCrypt is deliberately CPU-bound, so account-creation paths hand their passwords to this pool
+ * instead of hashing on the request thread or the common pool. At most {@code parallelism} hashes run
+ * at once across all callers; {@code 0} sizes the pool to the available processors.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[abxy]?\\$(\\d{2})\\$[./A-Za-z0-9]{53}");
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.hashing.parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void start() {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(size, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("password-hashing-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        log.info("Password hashing pool started (parallelism: {})", size);
+    }
+
+    /**
+     * Hashes a single password on the hashing pool.
+     */
+    public String hash(String rawPassword) {
+        return hashAll(List.of(rawPassword)).getFirst();
+    }
+
+    /**
+     * Starts hashing a single password on the hashing pool without waiting.
+     */
+    public CompletableFuture<String> hashAsync(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), pool);
+    }
+
+    /**
+     * Hashes the passwords in parallel and returns their hashes in the same order.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        if (rawPasswords.isEmpty()) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        List<Callable<String>> tasks = rawPasswords.stream()
+                .<Callable<String>>map(rawPassword -> () -> passwordEncoder.encode(rawPassword))
+                .toList();
+        List<String> hashes = pool.invokeAll(tasks).stream()
+                .map(this::await)
+                .toList();
+        log.debug("Hashed {} passwords in {} ms", hashes.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return hashes;
+    }
+
+    /**
+     * Starts hashing the passwords on the hashing pool without waiting; the hashes complete in the same order.
+     */
+    public CompletableFuture<List<String>> hashAllAsync(List<String> rawPasswords) {
+        List<CompletableFuture<String>> hashes = rawPasswords.stream()
+                .map(rawPassword -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), pool))
+                .toList();
+        return CompletableFuture.allOf(hashes.toArray(CompletableFuture[]::new))
+                .thenApply(done -> hashes.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Tells whether a BCrypt hash was made with a different cost than the configured {@code bcrypt-strength}.
+     * Hashes that are not BCrypt hashes are left alone.
+     */
+    public boolean needsRehash(String hash) {
+        Matcher matcher = BCRYPT_HASH.matcher(hash != null ? hash : "");
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private String await(Future<String> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to hash password", e.getCause());
+        }
+    }
+}
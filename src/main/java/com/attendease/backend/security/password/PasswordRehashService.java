@@ -0,0 +1,47 @@
+package com.attendease.backend.security.password;
+
+import com.attendease.backend.repository.users.UserCredentials.UserCredentials;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upgrades password hashes to the configured BCrypt cost as users log in.
+ * <p>
+ * Changing {@code security.password.bcrypt-strength} does not lock anyone out: hashes of any cost still verify,
+ * and after a successful login a hash of another cost is rehashed on the hashing pool, off the request thread,
+ * and replaced only if the stored hash did not change in the meantime.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordRehashService {
+
+    private final PasswordHashingService passwordHashingService;
+    private final UserCredentials userCredentials;
+
+    @Value("${security.password.rehash-on-login:true}")
+    private boolean rehashOnLogin;
+
+    /**
+     * Rehashes a password that was just verified against {@code currentHash}, if that hash has another cost.
+     */
+    public void rehashIfNeeded(String userId, String rawPassword, String currentHash) {
+        if (!rehashOnLogin || !passwordHashingService.needsRehash(currentHash)) {
+            return;
+        }
+
+        passwordHashingService.hashAsync(rawPassword)
+                .thenAccept(upgradedHash -> {
+                    if (userCredentials.replacePasswordHash(userId, currentHash, upgradedHash)) {
+                        log.debug("Upgraded password hash cost of user {}", userId);
+                    }
+                })
+                .exceptionally(e -> {
+                    log.warn("Failed to upgrade password hash of user {}: {}", userId, e.getMessage());
+                    return null;
+                });
+    }
+}
@@ -1,8 +1,11 @@
 package com.attendease.backend.student.controller.event.registration;
 
+import com.attendease.backend.domain.attendance.Tracking.Request.AttendancePingBatchRequest;
+import com.attendease.backend.domain.attendance.Tracking.Response.AttendancePingBatchResponse;
 import com.attendease.backend.domain.attendance.Tracking.Response.AttendanceTrackingResponse;
 import com.attendease.backend.domain.event.registration.EventRegistrationRequest;
 import com.attendease.backend.domain.exception.error.ErrorResponse;
+import com.attendease.backend.security.jwt.monitoring.MonitoringSessionAuthentication;
 import com.attendease.backend.student.service.location.tracking.LocationTrackingService;
 import com.attendease.backend.student.service.event.registration.EventRegistrationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -57,14 +60,28 @@ public class EventRegistrationController {
 
     /**
      * Endpoint for sending periodic location pings from the client.
-     * The authenticated user ID is automatically resolved from the security context.
+     * The authenticated user ID is automatically resolved from the security context, or taken from the
+     * monitoring session token in the {@code X-Monitoring-Session} header when one is sent.
      */
     @PostMapping("/ping")
     public ResponseEntity<?> venueLocationMonitoring(Authentication authentication, @RequestBody AttendanceTrackingResponse attendancePingLogs) {
-        String authenticatedUserId = authentication.getName();
-        boolean isInside = locationTrackingService.venueLocationMonitoring(authenticatedUserId, attendancePingLogs);
+        boolean isInside = authentication instanceof MonitoringSessionAuthentication monitoring
+                ? locationTrackingService.venueLocationMonitoring(monitoring.getSession(), attendancePingLogs)
+                : locationTrackingService.venueLocationMonitoring(authentication.getName(), attendancePingLogs);
         return ResponseEntity.ok().body("Ping recorded successfully. Inside area: " + isInside);
     }
 
+    /**
+     * Endpoint for sending several buffered location pings at once.
+     * Pings are written asynchronously; responds with 429 when the server-side ping buffer is full.
+     */
+    @PostMapping("/ping/batch")
+    public ResponseEntity<AttendancePingBatchResponse> venueLocationMonitoringBatch(Authentication authentication, @RequestBody AttendancePingBatchRequest request) {
+        AttendancePingBatchResponse response = authentication instanceof MonitoringSessionAuthentication monitoring
+                ? locationTrackingService.venueLocationMonitoringBatch(monitoring.getSession(), request)
+                : locationTrackingService.venueLocationMonitoringBatch(authentication.getName(), request);
+        return ResponseEntity.accepted().body(response);
+    }
+
 
 }
@@ -2,14 +2,12 @@ package com.attendease.backend.student.service.attendance.history.impl;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
 import com.attendease.backend.domain.attendance.History.Response.AttendanceHistoryResponse;
-import com.attendease.backend.domain.student.Students;
-import com.attendease.backend.domain.user.User;
+import com.attendease.backend.domain.student.identity.StudentIdentity;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
-import com.attendease.backend.repository.students.StudentRepository;
-import com.attendease.backend.repository.users.UserRepository;
 import java.util.List;
 
 import com.attendease.backend.student.service.attendance.history.AttendanceHistoryService;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,15 +16,13 @@ import org.springframework.stereotype.Service;
 public class AttendanceHistoryServiceImpl implements AttendanceHistoryService {
 
     private final AttendanceRecordsRepository attendanceRecordsRepository;
-    private final UserRepository userRepository;
-    private final StudentRepository studentRepository;
+    private final StudentIdentityCache studentIdentityCache;
 
     @Override
     public List<AttendanceHistoryResponse> getAttendanceHistoryForStudent(String authenticatedUserId) {
-        User user = userRepository.findById(authenticatedUserId).orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-        Students student = studentRepository.findByUser(user).orElseThrow(() -> new IllegalStateException("Student record not found for authenticated user"));
+        StudentIdentity student = studentIdentityCache.resolve(authenticatedUserId);
 
-        List<AttendanceRecords> records = attendanceRecordsRepository.findByStudentIdOrderByCreatedAtDesc(student.getId());
+        List<AttendanceRecords> records = attendanceRecordsRepository.findByStudentIdOrderByCreatedAtDesc(student.getStudentId());
 
         return records
             .stream()
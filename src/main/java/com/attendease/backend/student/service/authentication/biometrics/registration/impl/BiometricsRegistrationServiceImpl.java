@@ -1,6 +1,7 @@
 package com.attendease.backend.student.service.authentication.biometrics.registration.impl;
 
 import com.attendease.backend.domain.biometrics.BiometricData;
+import com.attendease.backend.domain.biometrics.encoding.FacialEncodings;
 import com.attendease.backend.domain.biometrics.Registration.Response.BiometricsRegistrationResponse;
 import com.attendease.backend.domain.enums.BiometricStatus;
 import com.attendease.backend.domain.student.Students;
@@ -60,19 +61,19 @@ public class BiometricsRegistrationServiceImpl implements BiometricsRegistration
             throw new BiometricProcessingException("Face processing failed: " + StringEscapeUtils.escapeHtml4(errorMsg));
         }
 
-        if (biometricsRegistrationResponse.getFacialEncoding() == null || biometricsRegistrationResponse.getFacialEncoding().isEmpty()) {
+        if (biometricsRegistrationResponse.getFacialEncoding() == null || biometricsRegistrationResponse.getFacialEncoding().length == 0) {
             throw new BiometricProcessingException("Face processing failed: No encoding data received");
         }
 
-        List<Float> encodings = biometricsRegistrationResponse.getFacialEncoding();
+        float[] encodings = biometricsRegistrationResponse.getFacialEncoding();
         saveBiometricsDataToDatabase(student, encodings);
         log.info("Facial biometric data saved successfully for student {}", studentNumber);
     }
 
-    private void saveBiometricsDataToDatabase(Students student, List<Float> facialEncoding) {
+    private void saveBiometricsDataToDatabase(Students student, float[] facialEncoding) {
         String studentNumber = student.getStudentNumber();
 
-        if (facialEncoding == null || facialEncoding.size() != 128) {
+        if (facialEncoding == null || facialEncoding.length != FacialEncodings.DIMENSIONS) {
             throw new InvalidFacialEncodingException("Facial encoding must contain exactly 128 elements");
         }
 
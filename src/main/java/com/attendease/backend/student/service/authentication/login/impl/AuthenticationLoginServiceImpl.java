@@ -1,12 +1,9 @@
 package com.attendease.backend.student.service.authentication.login.impl;
 
-import com.attendease.backend.domain.biometrics.BiometricData;
-import com.attendease.backend.domain.student.Students;
-import com.attendease.backend.domain.user.User;
-import com.attendease.backend.repository.biometrics.BiometricsRepository;
-import com.attendease.backend.repository.students.StudentRepository;
+import com.attendease.backend.domain.student.login.StudentLoginCredentials;
+import com.attendease.backend.repository.users.UserCredentials.UserCredentials;
 import com.attendease.backend.security.JwtTokenProvider;
-import java.util.Optional;
+import com.attendease.backend.security.password.PasswordRehashService;
 
 import com.attendease.backend.student.service.authentication.login.AuthenticationLoginService;
 import lombok.RequiredArgsConstructor;
@@ -18,29 +15,28 @@ import org.springframework.stereotype.Service;
 public class AuthenticationLoginServiceImpl implements AuthenticationLoginService {
 
     private final PasswordEncoder passwordEncoder;
-    private final StudentRepository studentRepository;
+    private final UserCredentials userCredentials;
     private final JwtTokenProvider jwtTokenProvider;
-    private final BiometricsRepository biometricsRepository;
+    private final PasswordRehashService passwordRehashService;
 
     @Override
     public LoginResult loginStudent(String studentNumber, String password) {
         try {
-            Students student = studentRepository.findByStudentNumber(studentNumber)
+            StudentLoginCredentials credentials = userCredentials.findStudentLoginCredentials(studentNumber)
                     .orElseThrow(() -> new IllegalArgumentException("Invalid student number. Please try again."));
 
-            User user = student.getUser();
-
-            if (!passwordEncoder.matches(password, user.getPassword())) {
+            if (!passwordEncoder.matches(password, credentials.getPasswordHash())) {
                 return new LoginResult("Invalid password, try again with different one.", null);
             }
 
-            Optional<BiometricData> biometricData = biometricsRepository.findByStudentNumber(studentNumber);
-            boolean requiresFacialRegistration = biometricData.isEmpty();
+            passwordRehashService.rehashIfNeeded(credentials.getUserId(), password, credentials.getPasswordHash());
+
+            boolean requiresFacialRegistration = !credentials.isBiometricsRegistered();
 
             String token = jwtTokenProvider.generateStudentToken(
-                    user.getUserId(),
-                    student.getStudentNumber(),
-                    user.getUserType(),
+                    credentials.getUserId(),
+                    credentials.getStudentNumber(),
+                    credentials.getUserType(),
                     requiresFacialRegistration
             );
 
@@ -1,32 +1,37 @@
 package com.attendease.backend.student.service.event.registration.impl;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
-import com.attendease.backend.domain.biometrics.BiometricData;
-import com.attendease.backend.domain.biometrics.Verification.Response.BiometricsVerificationResponse;
-import com.attendease.backend.domain.biometrics.Verification.Response.EventRegistrationBiometricsVerificationResponse;
-import com.attendease.backend.domain.cluster.Cluster;
-import com.attendease.backend.domain.course.Course;
+import com.attendease.backend.domain.attendance.Tracking.Session.MonitoringSession;
+import com.attendease.backend.domain.biometrics.Verification.Pending.PendingFaceVerification;
 import com.attendease.backend.domain.enums.AttendanceStatus;
 import com.attendease.backend.domain.enums.EventStatus;
-import com.attendease.backend.domain.event.eligibility.EventEligibility;
-import com.attendease.backend.domain.event.Event;
 import com.attendease.backend.domain.event.registration.EventRegistrationRequest;
-import com.attendease.backend.domain.location.Location;
-import com.attendease.backend.domain.student.Students;
-import com.attendease.backend.domain.user.User;
+import com.attendease.backend.domain.student.identity.StudentIdentity;
+import com.attendease.backend.exceptions.domain.Biometrics.FacialRecognitionServiceException;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
-import com.attendease.backend.repository.biometrics.BiometricsRepository;
-import com.attendease.backend.repository.event.EventRepository;
-import com.attendease.backend.repository.students.StudentRepository;
-import com.attendease.backend.repository.users.UserRepository;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.EventAttendanceCounters;
+import com.attendease.backend.repository.biometrics.PendingFaceVerificationRepository;
+import com.attendease.backend.security.jwt.monitoring.MonitoringSessionTokenService;
 import com.attendease.backend.student.service.event.registration.EventRegistrationService;
-import com.attendease.backend.client.biometrics.verification.BiometricsVerificationClient;
-import com.attendease.backend.student.service.utils.LocationValidator;
+import com.attendease.backend.student.service.utils.biometrics.StudentFaceVerifier;
+import com.attendease.backend.student.service.utils.event.EventLocationSnapshot;
+import com.attendease.backend.student.service.utils.event.EventSnapshot;
+import com.attendease.backend.student.service.utils.event.EventSnapshotCache;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
+import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -35,34 +40,40 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class EventRegistrationServiceImpl implements EventRegistrationService {
 
-    private final EventRepository eventRepository;
+    private static final String PENDING_VERIFICATION_REASON =
+            "Checked in while facial verification was unavailable. Your face will be verified shortly.";
+
     private final AttendanceRecordsRepository attendanceRecordsRepository;
-    private final BiometricsVerificationClient biometricsVerificationService;
-    private final BiometricsRepository biometricsRepository;
-    private final StudentRepository studentsRepository;
-    private final UserRepository userRepository;
-    private final LocationValidator locationValidator;
+    private final PendingFaceVerificationRepository pendingFaceVerificationRepository;
+    private final StudentIdentityCache studentIdentityCache;
+    private final EventSnapshotCache eventSnapshotCache;
+    private final EventAttendanceCounters eventAttendanceCounters;
+    private final MonitoringSessionTokenService monitoringSessionTokenService;
+    private final StudentFaceVerifier studentFaceVerifier;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${attendance.ping.session-token.grace-minutes:15}")
+    private long sessionTokenGraceMinutes;
+
+    @Value("${facial.verification.deferred.enabled:false}")
+    private boolean deferredVerificationEnabled;
 
     @Override
     public EventRegistrationRequest eventRegistration(String authenticatedUserId, EventRegistrationRequest registrationRequest, MultipartFile faceImage) {
 
-        User user = userRepository.findById(authenticatedUserId)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-        Students student = studentsRepository.findByUser(user)
-                .orElseThrow(() -> new IllegalStateException("Student record not found for authenticated user"));
-        Event event = eventRepository.findById(registrationRequest.getEventId())
-                .orElseThrow(() -> new IllegalStateException("Event not found"));
+        StudentIdentity student = studentIdentityCache.resolve(authenticatedUserId);
+        EventSnapshot event = eventSnapshotCache.resolve(registrationRequest.getEventId());
 
         LocalDateTime now = LocalDateTime.now();
 
         validateEventStatus(event);
 
-        if (!isStudentEligibleForEvent(event, student)) {
+        if (!event.isEligible(student)) {
             throw new IllegalStateException("Student is not eligible to check in for this event.");
         }
 
-        Location registrationLocation = event.getRegistrationLocation();
-        Location venueLocation = event.getVenueLocation();
+        EventLocationSnapshot registrationLocation = event.getRegistrationLocation();
+        EventLocationSnapshot venueLocation = event.getVenueLocation();
 
         if (registrationLocation == null) {
             log.error("Event {} has no registration location configured", event.getEventId());
@@ -74,20 +85,18 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
             throw new IllegalStateException("Event venue location is not configured");
         }
 
-        boolean withinRegistrationLocation = locationValidator.isWithinLocationBoundary(
-                registrationLocation,
+        boolean withinRegistrationLocation = registrationLocation.contains(
                 registrationRequest.getLatitude(),
                 registrationRequest.getLongitude());
 
-        boolean withinVenueLocation = locationValidator.isWithinLocationBoundary(
-                venueLocation,
+        boolean withinVenueLocation = venueLocation.contains(
                 registrationRequest.getLatitude(),
                 registrationRequest.getLongitude());
 
-        boolean strictValidation = event.getStrictLocationValidation() != null && event.getStrictLocationValidation();
+        boolean strictValidation = event.isStrictLocationValidation();
 
         if (strictValidation) {
-            Optional<AttendanceRecords> existingRecord = attendanceRecordsRepository.findByStudentAndEvent(student, event);
+            Optional<AttendanceRecords> existingRecord = attendanceRecordsRepository.findByStudentIdAndEventEventId(student.getStudentId(), event.getEventId());
             if (existingRecord.isEmpty()) {
                 if (!withinRegistrationLocation) {
                     log.warn("Student {} attempted strict validation registration outside registration location for event {}",
@@ -103,6 +112,14 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
                     upgradeToFullRegistration(record, venueLocation, now, event);
                     log.info("Student {} upgraded from PARTIALLY_REGISTERED to REGISTERED at venue for event {}",
                             student.getStudentNumber(), event.getEventId());
+                    registrationRequest.setMonitoringSessionToken(issueMonitoringSessionToken(authenticatedUserId, student, event));
+                    return registrationRequest;
+                }
+                if (record.getAttendanceStatus() == AttendanceStatus.PENDING_VERIFICATION && withinVenueLocation
+                        && upgradePendingToFullRegistration(record, venueLocation, now, event)) {
+                    log.info("Student {} completed registration at venue for event {} while face verification is pending",
+                            student.getStudentNumber(), event.getEventId());
+                    registrationRequest.setMonitoringSessionToken(issueMonitoringSessionToken(authenticatedUserId, student, event));
                     return registrationRequest;
                 }
 
@@ -119,7 +136,7 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
                                 registrationLocation.getLocationName(),
                                 venueLocation.getLocationName()));
             }
-            Optional<AttendanceRecords> existingRecord = attendanceRecordsRepository.findByStudentAndEvent(student, event);
+            Optional<AttendanceRecords> existingRecord = attendanceRecordsRepository.findByStudentIdAndEventEventId(student.getStudentId(), event.getEventId());
             if (existingRecord.isPresent()) {
                 AttendanceRecords record = existingRecord.get();
                 throw new IllegalStateException(
@@ -128,12 +145,14 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
             }
         }
 
-        if (event.getFacialVerificationEnabled() && !event.getAttendanceLocationMonitoringEnabled()) {
+        byte[] deferredFaceImage = null;
+        if (event.isFacialVerificationEnabled() && !event.isAttendanceLocationMonitoringEnabled()) {
             if (faceImage == null || faceImage.isEmpty()) {
                 throw new IllegalStateException("Face image is required for check-in when facial verification is enabled");
             }
-            verifyStudentFace(student.getStudentNumber(), faceImage);
+            deferredFaceImage = verifyOrDeferStudentFace(student.getStudentNumber(), faceImage);
         }
+        boolean verificationDeferred = deferredFaceImage != null;
 
         AttendanceStatus initialStatus = determineInitialStatus(
                 strictValidation,
@@ -141,25 +160,34 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
                 now,
                 event.getStartingDateTime());
 
-        Location checkedInLocation = withinVenueLocation ? venueLocation : registrationLocation;
+        AttendanceStatus recordStatus = verificationDeferred ? AttendanceStatus.PENDING_VERIFICATION : initialStatus;
+
+        EventLocationSnapshot checkedInLocation = withinVenueLocation ? venueLocation : registrationLocation;
 
         AttendanceRecords record = AttendanceRecords.builder()
-                .student(student)
-                .event(event)
-                .location(checkedInLocation)
+                .student(student.toStudentReference())
+                .event(event.toEventReference())
+                .location(checkedInLocation.toLocationReference())
                 .eventLocationId(checkedInLocation.getLocationId())
-                .academicYear(event.getAcademicYear())
+                .academicYear(event.toAcademicYearReference())
                 .academicYearId(event.getAcademicYearId())
                 .academicYearName(event.getAcademicYearName())
                 .semester(event.getSemester())
                 .semesterName(event.getSemesterName())
                 .timeIn(now)
-                .attendanceStatus(initialStatus)
-                .reason(getInitialReason(initialStatus))
+                .attendanceStatus(recordStatus)
+                .reason(verificationDeferred ? PENDING_VERIFICATION_REASON : getInitialReason(initialStatus))
                 .build();
 
         attendanceRecordsRepository.save(record);
-        log.info("Student {} registered for event {} with status {} at location {}", student.getStudentNumber(), event.getEventId(), initialStatus, checkedInLocation.getLocationName());
+        eventAttendanceCounters.recordCreated(event.getEventId(), recordStatus);
+        if (verificationDeferred) {
+            queueDeferredVerification(record, student, event, faceImage.getOriginalFilename(), deferredFaceImage, initialStatus);
+        }
+        log.info("Student {} registered for event {} with status {} at location {}", student.getStudentNumber(), event.getEventId(), recordStatus, checkedInLocation.getLocationName());
+        if (initialStatus != AttendanceStatus.PARTIALLY_REGISTERED) {
+            registrationRequest.setMonitoringSessionToken(issueMonitoringSessionToken(authenticatedUserId, student, event));
+        }
         return registrationRequest;
     }
 
@@ -167,6 +195,25 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
      * PRIVATE HELPERS
      */
 
+    /**
+     * Issues the token that lets the student's location pings skip identity lookups, valid until shortly after the event ends.
+     *
+     * @return the token, or {@code null} if the event has no location monitoring
+     */
+    private String issueMonitoringSessionToken(String authenticatedUserId, StudentIdentity student, EventSnapshot event) {
+        if (!event.isAttendanceLocationMonitoringEnabled() || event.getVenueLocation() == null) {
+            return null;
+        }
+        return monitoringSessionTokenService.issue(MonitoringSession.builder()
+                .userId(authenticatedUserId)
+                .studentId(student.getStudentId())
+                .studentNumber(student.getStudentNumber())
+                .eventId(event.getEventId())
+                .venueLocationId(event.getVenueLocation().getLocationId())
+                .expiresAtEpochMilli(event.getEndingEpochMilli() + TimeUnit.MINUTES.toMillis(sessionTokenGraceMinutes))
+                .build());
+    }
+
     private AttendanceStatus determineInitialStatus(boolean strictValidation, boolean withinVenueLocation, LocalDateTime now, LocalDateTime eventStart) {
         boolean isLate = now.isAfter(eventStart);
         if (!strictValidation) {
@@ -191,17 +238,59 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
         return null;
     }
 
-    private void upgradeToFullRegistration(AttendanceRecords record, Location venueLocation, LocalDateTime now, Event event) {
+    private void upgradeToFullRegistration(AttendanceRecords record, EventLocationSnapshot venueLocation, LocalDateTime now, EventSnapshot event) {
         boolean isLate = now.isAfter(event.getStartingDateTime());
+        AttendanceStatus previousStatus = record.getAttendanceStatus();
         record.setAttendanceStatus(isLate ? AttendanceStatus.LATE : AttendanceStatus.REGISTERED);
-        record.setLocation(venueLocation);
+        record.setLocation(venueLocation.toLocationReference());
         record.setEventLocationId(venueLocation.getLocationId());
         record.setReason(isLate ? "Late arrival at venue" : "Completed registration at venue");
         record.setTimeIn(now);
         attendanceRecordsRepository.save(record);
+        eventAttendanceCounters.recordTransition(event.getEventId(), previousStatus, record.getAttendanceStatus());
     }
 
-    private void validateEventStatus(Event event) {
+    /**
+     * Completes the venue step of a strict-mode check-in whose face verification was deferred at the registration
+     * area. The record stays {@link AttendanceStatus#PENDING_VERIFICATION}; the queued entry is changed to resolve it
+     * as {@code REGISTERED} or {@code LATE} instead of {@code PARTIALLY_REGISTERED}.
+     *
+     * @return {@code false} if the record was not waiting to be resolved as partially registered
+     */
+    private boolean upgradePendingToFullRegistration(AttendanceRecords record, EventLocationSnapshot venueLocation, LocalDateTime now, EventSnapshot event) {
+        boolean isLate = now.isAfter(event.getStartingDateTime());
+        AttendanceStatus resolvedStatus = isLate ? AttendanceStatus.LATE : AttendanceStatus.REGISTERED;
+
+        Query pendingQuery = Query.query(Criteria.where("recordId").is(record.getRecordId())
+                .and("resolvedStatus").is(AttendanceStatus.PARTIALLY_REGISTERED));
+        Update pendingUpdate = new Update()
+                .set("resolvedStatus", resolvedStatus)
+                .set("resolvedReason", isLate ? "Late arrival at venue" : "Completed registration at venue");
+        if (mongoTemplate.updateFirst(pendingQuery, pendingUpdate, PendingFaceVerification.class).getModifiedCount() == 0) {
+            return false;
+        }
+
+        Query recordQuery = Query.query(Criteria.where("recordId").is(record.getRecordId())
+                .and("attendanceStatus").is(AttendanceStatus.PENDING_VERIFICATION));
+        Update recordUpdate = new Update()
+                .set("location", venueLocation.toLocationReference())
+                .set("eventLocationId", venueLocation.getLocationId())
+                .set("timeIn", now)
+                .set("updatedAt", now);
+        if (mongoTemplate.updateFirst(recordQuery, recordUpdate, AttendanceRecords.class).getModifiedCount() > 0) {
+            return true;
+        }
+
+        // the verification was resolved with the previous status in the meantime
+        AttendanceRecords resolved = attendanceRecordsRepository.findById(record.getRecordId()).orElse(null);
+        if (resolved == null || resolved.getAttendanceStatus() != AttendanceStatus.PARTIALLY_REGISTERED) {
+            return false;
+        }
+        upgradeToFullRegistration(resolved, venueLocation, now, event);
+        return true;
+    }
+
+    private void validateEventStatus(EventSnapshot event) {
         EventStatus status = event.getEventStatus();
 
         if (status == EventStatus.UPCOMING) {
@@ -220,104 +309,41 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
         }
     }
 
-    private void verifyStudentFace(String studentNumber, MultipartFile faceImage) {
+    /**
+     * Verifies the uploaded face. When {@code facial.verification.deferred.enabled} is set and the facial service is
+     * unavailable, busy or behind an open circuit breaker, the check-in is accepted and the image is returned to be
+     * queued for verification once the service recovers.
+     *
+     * @return the image bytes if verification was deferred, otherwise {@code null}
+     */
+    private byte[] verifyOrDeferStudentFace(String studentNumber, MultipartFile faceImage) {
         try {
-            BiometricData biometricData = biometricsRepository.findByStudentNumber(studentNumber)
-                    .orElseThrow(() -> new IllegalStateException(
-                            "No biometric data found for student. Please register your face first."));
-
-            if (biometricData.getFacialEncoding() == null || biometricData.getFacialEncoding().isEmpty()) {
-                throw new IllegalStateException("Student's facial encoding is not registered");
-            }
-
-            log.info("Extracting facial encoding from uploaded image for student: {}", studentNumber);
-            EventRegistrationBiometricsVerificationResponse encodingResponse = biometricsVerificationService.extractFaceEncoding(faceImage);
-
-            if (!encodingResponse.getSuccess() || encodingResponse.getFacialEncoding() == null) {
-                throw new IllegalStateException("Failed to detect face in uploaded image");
+            studentFaceVerifier.verify(studentNumber, faceImage);
+            return null;
+        } catch (FacialRecognitionServiceException e) {
+            if (!deferredVerificationEnabled) {
+                throw e;
             }
-
-            Double quality = encodingResponse.getQuality();
-            if (quality != null) {
-                log.info("Face detection quality score for student {}: {}", studentNumber, quality);
-                if (quality < 50) {
-                    log.warn("Low quality face detection ({}) for student {}", quality, studentNumber);
-                }
+            log.warn("Facial service unavailable, deferring face verification of student {}: {}", studentNumber, e.getMessage());
+            try {
+                return faceImage.getBytes();
+            } catch (IOException ioe) {
+                throw new IllegalStateException("Failed to read uploaded image file");
             }
-
-            log.info("Comparing facial encodings for student: {}", studentNumber);
-            BiometricsVerificationResponse verificationResponse =
-                    biometricsVerificationService.verifyFace(
-                            encodingResponse.getFacialEncoding(),
-                            biometricData.getFacialEncoding());
-
-            if (!verificationResponse.getIs_face_matched()) {
-                log.warn("Face verification failed for student {}. Distance: {}, Confidence: {}",
-                        studentNumber,
-                        verificationResponse.getFace_distance(),
-                        verificationResponse.getConfidence());
-                throw new IllegalStateException(
-                        String.format("Facial verification failed (confidence: %.2f%%). Please try again with better lighting.",
-                                (verificationResponse.getConfidence() != null ? verificationResponse.getConfidence() * 100 : 0)));
-            }
-
-            log.info("Face verification successful for student {}. Confidence: {}", studentNumber, verificationResponse.getConfidence());
-
-        } catch (IllegalStateException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Facial verification error for student {}: {}", studentNumber, e.getMessage(), e);
-            throw new IllegalStateException("Facial verification error: " + e.getMessage());
         }
     }
 
-    private boolean isStudentEligibleForEvent(Event event, Students student) {
-        EventEligibility criteria = event.getEligibleStudents();
-
-        if (criteria == null || criteria.isAllStudents()) {
-            return true;
-        }
-        if (student.getSection() == null) {
-            return false;
-        }
-
-        Course course = student.getSection().getCourse();
-        Cluster cluster = (course != null) ? course.getCluster() : null;
-        Integer studentYearLevel = student.getSection().getYearLevel();
-
-        if (criteria.getSelectedSections() != null
-                && !criteria.getSelectedSections().isEmpty()
-                && criteria.getSelectedSections().contains(student.getSection().getId())) {
-            return matchesYearLevelIfSpecified(criteria, studentYearLevel);
-        }
-
-        if (criteria.getSelectedCourses() != null
-                && !criteria.getSelectedCourses().isEmpty()
-                && course != null
-                && criteria.getSelectedCourses().contains(course.getId())) {
-            return matchesYearLevelIfSpecified(criteria, studentYearLevel);
-        }
-
-        if (criteria.getSelectedClusters() != null
-                && !criteria.getSelectedClusters().isEmpty()
-                && cluster != null
-                && criteria.getSelectedClusters().contains(cluster.getClusterId())) {
-            return matchesYearLevelIfSpecified(criteria, studentYearLevel);
-        }
-
-	    return (criteria.getSelectedSections() == null || criteria.getSelectedSections().isEmpty())
-			    && (criteria.getSelectedCourses() == null || criteria.getSelectedCourses().isEmpty())
-			    && (criteria.getSelectedClusters() == null || criteria.getSelectedClusters().isEmpty())
-			    && criteria.getTargetYearLevels() != null
-			    && !criteria.getTargetYearLevels().isEmpty()
-			    && studentYearLevel != null
-			    && criteria.getTargetYearLevels().contains(studentYearLevel);
-    }
-
-    private boolean matchesYearLevelIfSpecified(EventEligibility criteria, Integer studentYearLevel) {
-        if (criteria.getTargetYearLevels() == null || criteria.getTargetYearLevels().isEmpty()) {
-            return true;
-        }
-        return studentYearLevel != null && criteria.getTargetYearLevels().contains(studentYearLevel);
+    private void queueDeferredVerification(AttendanceRecords record, StudentIdentity student, EventSnapshot event, String fileName,
+                                           byte[] faceImage, AttendanceStatus initialStatus) {
+        pendingFaceVerificationRepository.save(PendingFaceVerification.builder()
+                .recordId(record.getRecordId())
+                .eventId(event.getEventId())
+                .studentNumber(student.getStudentNumber())
+                .image(faceImage)
+                .fileName(fileName)
+                .resolvedStatus(initialStatus)
+                .resolvedReason(getInitialReason(initialStatus))
+                .createdAt(Instant.now())
+                .build());
     }
-}
\ No newline at end of file
+}
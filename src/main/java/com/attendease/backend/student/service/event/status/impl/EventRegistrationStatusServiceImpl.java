@@ -2,15 +2,12 @@ package com.attendease.backend.student.service.event.status.impl;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
 import com.attendease.backend.domain.enums.AttendanceStatus;
-import com.attendease.backend.domain.event.Event;
 import com.attendease.backend.domain.event.registration.EventRegistrationStatusResponse;
-import com.attendease.backend.domain.student.Students;
-import com.attendease.backend.domain.user.User;
+import com.attendease.backend.domain.student.identity.StudentIdentity;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
-import com.attendease.backend.repository.event.EventRepository;
-import com.attendease.backend.repository.students.StudentRepository;
-import com.attendease.backend.repository.users.UserRepository;
 import com.attendease.backend.student.service.event.status.EventRegistrationStatusService;
+import com.attendease.backend.student.service.utils.event.EventSnapshotCache;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,23 +25,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class EventRegistrationStatusServiceImpl implements EventRegistrationStatusService {
 
-	private final UserRepository userRepository;
-	private final StudentRepository studentRepository;
-	private final EventRepository eventRepository;
+	private final StudentIdentityCache studentIdentityCache;
+	private final EventSnapshotCache eventSnapshotCache;
 	private final AttendanceRecordsRepository attendanceRecordsRepository;
 
 	@Override
 	public EventRegistrationStatusResponse checkRegistrationStatus(String authenticatedUserId, String eventId) {
 
-		User user = userRepository.findById(authenticatedUserId)
-				.orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-		Students student = studentRepository.findByUser(user)
-				.orElseThrow(() -> new IllegalStateException("Student record not found for authenticated user"));
-		Event event = eventRepository.findById(eventId)
-				.orElseThrow(() -> new IllegalStateException("Event not found"));
+		StudentIdentity student = studentIdentityCache.resolve(authenticatedUserId);
+		eventSnapshotCache.resolve(eventId);
 
 		Optional<AttendanceRecords> attendanceRecord = attendanceRecordsRepository
-				.findByStudentAndEvent(student, event);
+				.findByStudentIdAndEventEventId(student.getStudentId(), eventId);
 
 		if (attendanceRecord.isPresent()) {
 			AttendanceRecords record = attendanceRecord.get();
@@ -86,6 +78,7 @@ public class EventRegistrationStatusServiceImpl implements EventRegistrationStat
 			case PARTIALLY_REGISTERED -> "You are currently marked as partially registered for this event.";
 			case IDLE -> "Your attendance is being tracked.";
 			case EXCUSED -> "You have an excused absence for this event.";
+			case PENDING_VERIFICATION -> "You are checked in. Your facial verification is still being processed.";
 		};
 	}
 }
@@ -1,6 +1,9 @@
 package com.attendease.backend.student.service.location.tracking;
 
+import com.attendease.backend.domain.attendance.Tracking.Request.AttendancePingBatchRequest;
+import com.attendease.backend.domain.attendance.Tracking.Response.AttendancePingBatchResponse;
 import com.attendease.backend.domain.attendance.Tracking.Response.AttendanceTrackingResponse;
+import com.attendease.backend.domain.attendance.Tracking.Session.MonitoringSession;
 import com.attendease.backend.domain.location.Location;
 
 /**
@@ -9,7 +12,7 @@ import com.attendease.backend.domain.location.Location;
  * This service processes periodic geolocation "pings" sent by the student app to:
  * <ul>
  *     <li>Determine if the student is within the event's allowed geolocation boundary</li>
- *     <li>Append ping logs to the student's attendance record</li>
+ *     <li>Append ping logs to the attendance ping store</li>
  *     <li>Ensure the event is ongoing before accepting location updates</li>
  * </ul>
  * It is typically used to monitor presence throughout the duration of an event.
@@ -25,7 +28,7 @@ public interface LocationTrackingService {
      *     <li>Validates the user and student identity</li>
      *     <li>Ensures the event is currently ongoing</li>
      *     <li>Checks if the student’s coordinates fall within the geofenced event location</li>
-     *     <li>Appends the ping to the student's existing attendance record</li>
+     *     <li>Appends the ping to the attendance ping store</li>
      * </ul>
      * </p>
      *
@@ -35,6 +38,44 @@ public interface LocationTrackingService {
      */
     boolean venueLocationMonitoring(String authenticatedUserId, AttendanceTrackingResponse attendancePingLogs);
 
+    /**
+     * Processes a location ping authenticated by a monitoring session token.
+     * <p>
+     * The session already identifies the student, event and venue location, so no identity or attendance record is read
+     * unless the student gets flagged for leaving the venue. The ping may omit its event and location IDs.
+     * </p>
+     *
+     * @param session the verified monitoring session
+     * @param attendancePingLogs the ping information containing GPS coordinates
+     * @return {@code true} if the student is inside the event boundary; {@code false} otherwise
+     */
+    boolean venueLocationMonitoring(MonitoringSession session, AttendanceTrackingResponse attendancePingLogs);
+
+    /**
+     * Processes a batch of location pings, e.g. pings buffered by a phone while it was offline.
+     * <p>
+     * Identity, event and attendance record are resolved once per batch. Pings keep their client
+     * timestamp; pings captured outside the event window are rejected. Accepted pings are handed to
+     * the write-behind buffer and written asynchronously.
+     * </p>
+     *
+     * @param authenticatedUserId the ID of the authenticated user sending the pings
+     * @param request the event ID, venue location ID and the pings to record
+     * @return how many pings were accepted and rejected, and whether the latest accepted ping was inside
+     * @throws com.attendease.backend.exceptions.domain.Attendance.PingBufferFullException if the buffer is full
+     */
+    AttendancePingBatchResponse venueLocationMonitoringBatch(String authenticatedUserId, AttendancePingBatchRequest request);
+
+    /**
+     * Processes a batch of location pings authenticated by a monitoring session token.
+     *
+     * @param session the verified monitoring session
+     * @param request the pings to record; the event and venue location IDs may be omitted
+     * @return how many pings were accepted and rejected, and whether the latest accepted ping was inside
+     * @throws com.attendease.backend.exceptions.domain.Attendance.PingBufferFullException if the buffer is full
+     */
+    AttendancePingBatchResponse venueLocationMonitoringBatch(MonitoringSession session, AttendancePingBatchRequest request);
+
 	/**
 	 * Retrieves the current venue location for an ongoing event.
 	 * Useful for client apps to display which location is being monitored.
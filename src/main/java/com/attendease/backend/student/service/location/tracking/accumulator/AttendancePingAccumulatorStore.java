@@ -0,0 +1,192 @@
+package com.attendease.backend.student.service.location.tracking.accumulator;
+
+import com.attendease.backend.domain.attendance.ping.AttendancePingAccumulator;
+import com.attendease.backend.repository.attendancePings.AttendancePingAccumulatorRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory home of the {@link AttendancePingAccumulator} of every student pinging during an ongoing event.
+ * <p>
+ * Each ping updates its accumulator under the accumulator's own lock, inside an atomic {@code compute} on the map
+ * so that eviction cannot interleave with it; changed accumulators are marked dirty and upserted to MongoDB in
+ * bulk every {@code checkpoint-interval-ms}, on finalization and on shutdown. After a restart, an accumulator is reloaded from its last checkpoint on its next ping.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendancePingAccumulatorStore {
+
+    private final AttendancePingAccumulatorRepository accumulatorRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${attendance.ping.accumulator.checkpoint-batch-size:1000}")
+    private int checkpointBatchSize;
+
+    private final Map<String, AttendancePingAccumulator> accumulators = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Folds a ping into the accumulator of a student for an event.
+     *
+     * @return the number of consecutive outside pings after this ping
+     */
+    public int record(String eventId, String studentId, long eventStart, long eventEnd, long timestamp, boolean inside) {
+        String id = AttendancePingAccumulator.idOf(eventId, studentId);
+        int[] consecutiveOutsideCount = new int[1];
+        accumulators.compute(id, (key, accumulator) -> {
+            if (accumulator == null) {
+                accumulator = accumulatorRepository.findById(key)
+                        .orElseGet(() -> AttendancePingAccumulator.start(eventId, studentId, eventStart, eventEnd));
+            }
+            synchronized (accumulator) {
+                if (!accumulator.accept(timestamp, inside)) {
+                    log.debug("Out-of-order ping at {} for student {} in event {}, accumulator will be replayed", timestamp, studentId, eventId);
+                }
+                consecutiveOutsideCount[0] = accumulator.getConsecutiveOutsideCount();
+            }
+            dirty.add(key);
+            return accumulator;
+        });
+        return consecutiveOutsideCount[0];
+    }
+
+    /**
+     * Checkpoints the event and returns the accumulators of every student that pinged during it, keyed by student ID.
+     */
+    public Map<String, AttendancePingAccumulator> findByEvent(String eventId) {
+        checkpoint(id -> id.startsWith(eventId + ":"));
+        return accumulatorRepository.findByEventId(eventId).stream()
+                .collect(Collectors.toMap(AttendancePingAccumulator::getStudentId, Function.identity()));
+    }
+
+    /**
+     * Drops the in-memory accumulators of an event that no longer receives pings and checkpoints the dropped ones.
+     * <p>
+     * Each accumulator is removed atomically with respect to {@link #record}, so no ping can update it once its
+     * final state is taken. Accumulators that fail to be written are put back to be retried by the next checkpoint.
+     * </p>
+     */
+    public void evictEvent(String eventId) {
+        String prefix = eventId + ":";
+        Instant now = Instant.now();
+        List<AttendancePingAccumulator> evicted = new ArrayList<>();
+        for (String id : new ArrayList<>(accumulators.keySet())) {
+            if (!id.startsWith(prefix)) {
+                continue;
+            }
+            accumulators.computeIfPresent(id, (key, accumulator) -> {
+                if (dirty.remove(key)) {
+                    synchronized (accumulator) {
+                        accumulator.setCheckpointedAt(now);
+                        evicted.add(accumulator.toBuilder().build());
+                    }
+                }
+                return null;
+            });
+        }
+        dirty.removeIf(id -> id.startsWith(prefix) && !accumulators.containsKey(id));
+
+        for (List<AttendancePingAccumulator> failed : write(evicted)) {
+            failed.forEach(snapshot -> {
+                accumulators.putIfAbsent(snapshot.getAccumulatorId(), snapshot);
+                dirty.add(snapshot.getAccumulatorId());
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.ping.accumulator.checkpoint-interval-ms:10000}")
+    public void checkpointAll() {
+        checkpoint(id -> true);
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpointAll();
+        log.info("Checkpointed attendance ping accumulators on shutdown");
+    }
+
+    private void checkpoint(Predicate<String> selector) {
+        List<String> ids = dirty.stream().filter(selector).toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        List<AttendancePingAccumulator> snapshots = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            dirty.remove(id);
+            AttendancePingAccumulator accumulator = accumulators.get(id);
+            if (accumulator == null) {
+                continue;
+            }
+            synchronized (accumulator) {
+                accumulator.setCheckpointedAt(now);
+                snapshots.add(accumulator.toBuilder().build());
+            }
+        }
+
+        for (List<AttendancePingAccumulator> failed : write(snapshots)) {
+            failed.forEach(snapshot -> dirty.add(snapshot.getAccumulatorId()));
+        }
+        log.debug("Checkpointed {} ping accumulators", snapshots.size());
+    }
+
+    /**
+     * Upserts the snapshots in chunks of {@code checkpoint-batch-size}.
+     *
+     * @return the chunks that failed to be written
+     */
+    private List<List<AttendancePingAccumulator>> write(List<AttendancePingAccumulator> snapshots) {
+        List<List<AttendancePingAccumulator>> failed = new ArrayList<>();
+        for (int from = 0; from < snapshots.size(); from += checkpointBatchSize) {
+            List<AttendancePingAccumulator> chunk = snapshots.subList(from, Math.min(from + checkpointBatchSize, snapshots.size()));
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AttendancePingAccumulator.class);
+            chunk.forEach(snapshot -> operations.upsert(
+                    Query.query(Criteria.where("accumulatorId").is(snapshot.getAccumulatorId())),
+                    toUpdate(snapshot)));
+            try {
+                operations.execute();
+            } catch (Exception e) {
+                failed.add(chunk);
+                log.error("Failed to checkpoint {} ping accumulators, will retry: {}", chunk.size(), e.getMessage(), e);
+            }
+        }
+        return failed;
+    }
+
+    private Update toUpdate(AttendancePingAccumulator snapshot) {
+        return new Update()
+                .set("eventId", snapshot.getEventId())
+                .set("studentId", snapshot.getStudentId())
+                .set("eventStart", snapshot.getEventStart())
+                .set("eventEnd", snapshot.getEventEnd())
+                .set("pingCount", snapshot.getPingCount())
+                .set("lastPingTimestamp", snapshot.getLastPingTimestamp())
+                .set("lastInside", snapshot.isLastInside())
+                .set("insideMillis", snapshot.getInsideMillis())
+                .set("consecutiveOutsideCount", snapshot.getConsecutiveOutsideCount())
+                .set("replayRequired", snapshot.isReplayRequired())
+                .set("checkpointedAt", snapshot.getCheckpointedAt());
+    }
+}
@@ -0,0 +1,276 @@
+package com.attendease.backend.student.service.location.tracking.buffer;
+
+import com.attendease.backend.domain.attendance.ping.AttendancePing;
+import com.attendease.backend.exceptions.domain.Attendance.PingBufferFullException;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded write-behind buffer for {@link AttendancePing} inserts.
+ * <p>
+ * Request threads only enqueue pings; a single background flusher drains the queue and writes the
+ * pings with one unordered {@code bulkWrite} per event, either once {@code batch-size} pings are
+ * waiting or after {@code flush-interval-ms}, whichever comes first.
+ * </p>
+ * <p>
+ * The buffer holds at most {@code capacity} pings. A batch that does not fit is rejected as a whole
+ * with {@link PingBufferFullException} (HTTP 429) so the client keeps it and retries. On shutdown the
+ * buffer stops accepting pings and drains everything still queued before the Mongo client closes; a batch is
+ * either rejected or queued before the buffer stops, never queued after the flusher exited.
+ * </p>
+ * <p>
+ * A failed write is retried up to {@code max-flush-attempts} times, {@code retry-backoff-ms} apart; after a partial
+ * bulk failure only the rejected pings are retried. Pings that still cannot be written are counted in
+ * {@link #getDroppedCount()}, exposed on the {@code attendance-ping-buffer} actuator endpoint.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendancePingWriteBehindBuffer {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${attendance.ping.buffer.capacity:50000}")
+    private int capacity;
+
+    @Value("${attendance.ping.buffer.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${attendance.ping.buffer.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${attendance.ping.buffer.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${attendance.ping.buffer.max-flush-attempts:3}")
+    private int maxFlushAttempts;
+
+    @Value("${attendance.ping.buffer.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ReadWriteLock acceptingLock = new ReentrantReadWriteLock();
+    private LinkedBlockingQueue<AttendancePing> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(capacity);
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "attendance-ping-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Attendance ping write-behind buffer started (capacity: {}, batch size: {}, flush interval: {} ms)",
+                capacity, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * Enqueues a batch of pings for asynchronous insertion.
+     *
+     * @param pings the pings to write
+     * @throws PingBufferFullException if the buffer cannot take the whole batch or is shutting down
+     */
+    public void enqueue(List<AttendancePing> pings) {
+        if (pings.isEmpty()) {
+            return;
+        }
+        acceptingLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new PingBufferFullException("Ping recording is shutting down. Please retry shortly.");
+            }
+            if (reserved.addAndGet(pings.size()) > capacity) {
+                reserved.addAndGet(-pings.size());
+                log.warn("Attendance ping buffer full, rejected batch of {} pings", pings.size());
+                throw new PingBufferFullException("Too many location pings are being processed. Please retry shortly.");
+            }
+            queue.addAll(pings);
+        } finally {
+            acceptingLock.readLock().unlock();
+        }
+    }
+
+    public int getQueuedCount() {
+        return reserved.get();
+    }
+
+    /**
+     * Number of pings written only after at least one failed attempt.
+     */
+    public long getRetriedCount() {
+        return retried.get();
+    }
+
+    /**
+     * Number of accepted pings that could not be written after {@code max-flush-attempts} attempts.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopAccepting();
+        flusher.join(shutdownTimeoutMs);
+        if (flusher.isAlive()) {
+            int left = queue.size();
+            dropped.addAndGet(left);
+            log.error("Attendance ping buffer did not drain within {} ms, {} pings not written", shutdownTimeoutMs, left);
+            return;
+        }
+        List<AttendancePing> left = new ArrayList<>();
+        queue.drainTo(left);
+        if (!left.isEmpty()) {
+            log.warn("Attendance ping flusher stopped with {} pings queued, writing them on shutdown", left.size());
+            flush(left);
+            reserved.addAndGet(-left.size());
+        }
+        log.info("Attendance ping write-behind buffer drained and stopped");
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    /**
+     * Stops accepting pings once no {@link #enqueue(List)} is between its check and its insert.
+     */
+    private void stopAccepting() {
+        acceptingLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptingLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes until the buffer stopped and the queue is empty. An interrupted flusher stops accepting pings and exits;
+     * the pings it leaves queued are written by {@link #shutdown()}.
+     */
+    private void runFlushLoop() {
+        List<AttendancePing> batch = new ArrayList<>(batchSize);
+        boolean interrupted = false;
+        while (!interrupted && (running || !queue.isEmpty())) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                reserved.addAndGet(-batch.size());
+                batch.clear();
+            }
+            interrupted |= Thread.interrupted();
+        }
+        if (interrupted) {
+            stopAccepting();
+            log.error("Attendance ping flusher interrupted, {} pings left queued", queue.size());
+        }
+    }
+
+    /**
+     * Waits until {@code batchSize} pings are queued or the flush interval elapsed.
+     */
+    private void collectBatch(List<AttendancePing> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            AttendancePing ping = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (ping == null) {
+                return;
+            }
+            batch.add(ping);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void flush(List<AttendancePing> batch) {
+        Map<String, List<AttendancePing>> pingsByEvent = batch.stream()
+                .collect(Collectors.groupingBy(ping -> ping.getMeta().getEventId()));
+
+        pingsByEvent.forEach(this::flushEvent);
+    }
+
+    /**
+     * Writes the pings of one event, retrying the pings of a failed attempt until {@code max-flush-attempts} is reached.
+     */
+    private void flushEvent(String eventId, List<AttendancePing> pings) {
+        List<AttendancePing> pending = pings;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AttendancePing.class)
+                        .insert(pending)
+                        .execute();
+                if (attempt > 1) {
+                    retried.addAndGet(pending.size());
+                }
+                log.debug("Flushed {} pings for event {}", pending.size(), eventId);
+                return;
+            } catch (Exception e) {
+                pending = failedPings(pending, e);
+                if (attempt >= maxFlushAttempts || !backOff()) {
+                    dropped.addAndGet(pending.size());
+                    log.error("Dropped {} pings for event {} after {} failed flush attempts: {}",
+                            pending.size(), eventId, attempt, e.getMessage(), e);
+                    return;
+                }
+                log.warn("Failed to flush {} pings for event {} (attempt {} of {}), retrying: {}",
+                        pending.size(), eventId, attempt, maxFlushAttempts, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The pings of an attempt that were not written: the rejected ones after a partial bulk failure, otherwise all of them.
+     */
+    private List<AttendancePing> failedPings(List<AttendancePing> attempted, Exception e) {
+        if (!(e instanceof BulkOperationException bulkFailure) || bulkFailure.getErrors().isEmpty()) {
+            return attempted;
+        }
+        return bulkFailure.getErrors().stream()
+                .map(BulkWriteError::getIndex)
+                .map(attempted::get)
+                .toList();
+    }
+
+    /**
+     * @return {@code false} if the flusher was interrupted while waiting, with its interrupt flag set again
+     */
+    private boolean backOff() {
+        try {
+            Thread.sleep(retryBackoffMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,22 +1,41 @@
 package com.attendease.backend.student.service.location.tracking.impl;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
+import com.attendease.backend.domain.attendance.Tracking.Request.AttendancePingBatchRequest;
+import com.attendease.backend.domain.attendance.Tracking.Response.AttendancePingBatchResponse;
 import com.attendease.backend.domain.attendance.Tracking.Response.AttendanceTrackingResponse;
+import com.attendease.backend.domain.attendance.Tracking.Session.MonitoringSession;
+import com.attendease.backend.domain.attendance.ping.AttendancePing;
+import com.attendease.backend.domain.attendance.ping.AttendancePingMetadata;
+import com.attendease.backend.domain.enums.AccountStatus;
 import com.attendease.backend.domain.enums.AttendanceStatus;
+import com.attendease.backend.domain.enums.EventStatus;
 import com.attendease.backend.domain.event.Event;
 import com.attendease.backend.domain.location.Location;
-import com.attendease.backend.domain.student.Students;
-import com.attendease.backend.domain.user.User;
+import com.attendease.backend.domain.student.identity.StudentIdentity;
+import com.attendease.backend.repository.attendancePings.AttendancePingRepository;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
 import com.attendease.backend.repository.event.EventRepository;
-import com.attendease.backend.repository.students.StudentRepository;
-import com.attendease.backend.repository.users.UserRepository;
 import com.attendease.backend.student.service.location.tracking.LocationTrackingService;
-import com.attendease.backend.student.service.utils.LocationValidator;
+import com.attendease.backend.student.service.location.tracking.accumulator.AttendancePingAccumulatorStore;
+import com.attendease.backend.student.service.location.tracking.buffer.AttendancePingWriteBehindBuffer;
+import com.attendease.backend.student.service.utils.event.EventLocationSnapshot;
+import com.attendease.backend.student.service.utils.event.EventSnapshot;
+import com.attendease.backend.student.service.utils.event.EventSnapshotCache;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -35,60 +54,331 @@ import org.springframework.stereotype.Service;
  *   <li>Attendance status may be updated based on venue boundary compliance</li>
  * </ol>
  * </p>
+ * <p>
+ * Pings are appended to the {@link AttendancePing} time-series collection; the attendance
+ * record itself is only written when the student gets flagged for leaving the venue.
+ * Batched pings go through the {@link AttendancePingWriteBehindBuffer} instead of being inserted inline.
+ * Every ping is also folded into the student's running accumulator in {@link AttendancePingAccumulatorStore},
+ * which tracks inside time and consecutive outside pings for finalization.
+ * </p>
+ * <p>
+ * Batches may be uploaded up to {@code attendance.ping.batch.late-upload-grace-minutes} after the event ended, so
+ * pings buffered offline near its end still count; each ping is checked against the event window by its own timestamp.
+ * Finalization waits for the same grace period.
+ * </p>
+ * <p>
+ * Event metadata and the venue boundary come from the {@link EventSnapshotCache}, so a ping of a live
+ * event does not read the event from MongoDB.
+ * </p>
+ * <p>
+ * Pings authenticated by a {@link MonitoringSession} also skip the student identity and attendance record
+ * lookups on most requests: a session is re-validated against its attendance record and account status at most
+ * every {@code attendance.ping.session-token.revalidate-after-seconds}, before its ping is stored. A session whose
+ * record was deleted or left the monitored statuses, or whose account was locked or deleted, stops being accepted
+ * within that interval.
+ * </p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LocationTrackingServiceImpl implements LocationTrackingService {
 
+    private static final int CONSECUTIVE_OUTSIDE_PING_LIMIT = 3;
+
     private final EventRepository eventRepository;
     private final AttendanceRecordsRepository attendanceRecordsRepository;
-    private final StudentRepository studentsRepository;
-    private final UserRepository userRepository;
-    private final LocationValidator locationValidator;
+    private final AttendancePingRepository attendancePingRepository;
+    private final StudentIdentityCache studentIdentityCache;
+    private final EventSnapshotCache eventSnapshotCache;
+    private final AttendancePingWriteBehindBuffer attendancePingWriteBehindBuffer;
+    private final AttendancePingAccumulatorStore attendancePingAccumulatorStore;
+
+    @Value("${attendance.ping.batch.max-size:500}")
+    private int maxBatchSize;
+
+    @Value("${attendance.ping.batch.late-upload-grace-minutes:10}")
+    private long lateUploadGraceMinutes;
+
+    @Value("${attendance.ping.session-token.revalidate-after-seconds:60}")
+    private long sessionRevalidateAfterSeconds;
+
+    @Value("${attendance.ping.session-token.validated-cache-size:20000}")
+    private long validatedSessionsCacheSize;
+
+    private Cache<String, Boolean> validatedSessions;
+
+    @PostConstruct
+    public void init() {
+        validatedSessions = Caffeine.newBuilder()
+                .maximumSize(validatedSessionsCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(sessionRevalidateAfterSeconds))
+                .build();
+    }
 
     @Override
     public boolean venueLocationMonitoring(String authenticatedUserId, AttendanceTrackingResponse attendancePingLogs) {
 
-        User user = userRepository.findById(authenticatedUserId)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-        Students student = studentsRepository.findByUser(user)
-                .orElseThrow(() -> new IllegalStateException("Student record not found for authenticated user"));
-        Event event = eventRepository.findById(attendancePingLogs.getEventId())
+        StudentIdentity student = studentIdentityCache.resolve(authenticatedUserId);
+        EventSnapshot event = eventSnapshotCache.resolve(attendancePingLogs.getEventId());
+
+        EventLocationSnapshot venueLocation = validateMonitoredVenue(event, attendancePingLogs.getLocationId());
+        AttendanceRecords attendanceRecord = findMonitoredRecord(student.getStudentId(), event);
+
+        return recordPing(event, venueLocation, authenticatedUserId, student.getStudentId(), student.getStudentNumber(),
+                attendancePingLogs, () -> attendanceRecord);
+    }
+
+    @Override
+    public boolean venueLocationMonitoring(MonitoringSession session, AttendanceTrackingResponse attendancePingLogs) {
+        validateSessionTarget(session, attendancePingLogs.getEventId(), attendancePingLogs.getLocationId());
+        EventSnapshot event = eventSnapshotCache.resolve(session.getEventId());
+        EventLocationSnapshot venueLocation = validateMonitoredVenue(event, session.getVenueLocationId());
+        validateSession(session, event);
+
+        attendancePingLogs.setEventId(event.getEventId());
+        attendancePingLogs.setLocationId(venueLocation.getLocationId());
+        return recordPing(event, venueLocation, session.getUserId(), session.getStudentId(), session.getStudentNumber(),
+                attendancePingLogs, () -> findSessionRecord(session, event));
+    }
+
+    @Override
+    public AttendancePingBatchResponse venueLocationMonitoringBatch(String authenticatedUserId, AttendancePingBatchRequest request) {
+        validateBatchSize(request);
+
+        StudentIdentity student = studentIdentityCache.resolve(authenticatedUserId);
+        EventSnapshot event = eventSnapshotCache.resolve(request.getEventId());
+
+        EventLocationSnapshot venueLocation = validateMonitoredVenue(event, request.getLocationId(), lateUploadGraceMinutes);
+        AttendanceRecords attendanceRecord = findMonitoredRecord(student.getStudentId(), event);
+
+        return recordPingBatch(event, venueLocation, authenticatedUserId, student.getStudentId(), student.getStudentNumber(),
+                request.getPings(), () -> attendanceRecord);
+    }
+
+    @Override
+    public AttendancePingBatchResponse venueLocationMonitoringBatch(MonitoringSession session, AttendancePingBatchRequest request) {
+        validateBatchSize(request);
+        validateSessionTarget(session, request.getEventId(), request.getLocationId());
+
+        EventSnapshot event = eventSnapshotCache.resolve(session.getEventId());
+        EventLocationSnapshot venueLocation = validateMonitoredVenue(event, session.getVenueLocationId(), lateUploadGraceMinutes);
+        validateSession(session, event);
+
+        return recordPingBatch(event, venueLocation, session.getUserId(), session.getStudentId(), session.getStudentNumber(),
+                request.getPings(), () -> findSessionRecord(session, event));
+    }
+
+    @Override
+    public Location getEventVenueForMonitoring(String eventId) {
+
+        Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalStateException("Event not found"));
 
+        if (!event.getAttendanceLocationMonitoringEnabled()) {
+            throw new IllegalStateException("Location monitoring is not enabled for this event");
+        }
+        Location venueLocation = event.getVenueLocation();
+        if (venueLocation == null) {
+            throw new IllegalStateException("Event venue location is not configured");
+        }
+        return venueLocation;
+    }
+
+    /*
+     * PRIVATE HELPERS
+     */
+
+    /**
+     * Records one ping. The attendance record is only needed, and for monitoring sessions only loaded, when the student gets flagged.
+     */
+    private boolean recordPing(EventSnapshot event, EventLocationSnapshot venueLocation, String userId, String studentId, String studentNumber,
+                               AttendanceTrackingResponse attendancePingLogs, Supplier<AttendanceRecords> attendanceRecord) {
+        boolean isInside = venueLocation.contains(
+                attendancePingLogs.getLatitude(),
+                attendancePingLogs.getLongitude());
+
+        attendancePingLogs.setInside(isInside);
+        attendancePingLogs.setTimestamp(System.currentTimeMillis());
+
+        attendancePingRepository.insert(toPing(event, studentId, attendancePingLogs));
+
+        int consecutiveOutsidePings = attendancePingAccumulatorStore.record(
+                event.getEventId(),
+                studentId,
+                event.getStartingEpochMilli(),
+                event.getEndingEpochMilli(),
+                attendancePingLogs.getTimestamp(),
+                isInside);
+
+        if (!isInside) {
+            log.warn("Student {} is outside venue {} during event {}",
+                    studentNumber,
+                    venueLocation.getLocationName(),
+                    event.getEventId());
+
+            if (consecutiveOutsidePings == CONSECUTIVE_OUTSIDE_PING_LIMIT) {
+                flagOutsideVenue(attendanceRecord.get(), userId, studentNumber, consecutiveOutsidePings);
+            }
+        } else {
+            log.info("Student {} location verified inside venue {} for event {}",
+                    studentNumber,
+                    venueLocation.getLocationName(),
+                    event.getEventId());
+        }
+
+        return isInside;
+    }
+
+    private AttendancePingBatchResponse recordPingBatch(EventSnapshot event, EventLocationSnapshot venueLocation, String userId, String studentId, String studentNumber,
+                                                        List<AttendanceTrackingResponse> pings, Supplier<AttendanceRecords> attendanceRecord) {
+        long eventStart = event.getStartingEpochMilli();
+        long eventEnd = event.getEndingEpochMilli();
+        long now = System.currentTimeMillis();
+        long latestAccepted = Math.min(eventEnd, now);
+
+        List<AttendanceTrackingResponse> sortedPings = new ArrayList<>(pings);
+        sortedPings.sort(Comparator.comparingLong(AttendanceTrackingResponse::getTimestamp));
+
+        List<AttendancePing> accepted = new ArrayList<>(sortedPings.size());
+        int rejected = 0;
+
+        for (AttendanceTrackingResponse ping : sortedPings) {
+            long timestamp = ping.getTimestamp() > 0 ? ping.getTimestamp() : now;
+            if (timestamp < eventStart || timestamp > latestAccepted) {
+                rejected++;
+                continue;
+            }
+
+            boolean isInside = venueLocation.contains(ping.getLatitude(), ping.getLongitude());
+            ping.setEventId(event.getEventId());
+            ping.setLocationId(venueLocation.getLocationId());
+            ping.setInside(isInside);
+            ping.setTimestamp(timestamp);
+            accepted.add(toPing(event, studentId, ping));
+        }
+
+        // a batch rejected by the buffer is retried by the client, so it must not be accumulated before it is queued
+        attendancePingWriteBehindBuffer.enqueue(accepted);
+
+        boolean reachedOutsideLimit = false;
+        int consecutiveOutsidePings = 0;
+        Boolean lastInside = null;
+        for (AttendancePing ping : accepted) {
+            consecutiveOutsidePings = attendancePingAccumulatorStore.record(
+                    event.getEventId(), studentId, eventStart, eventEnd, ping.getTimestamp().toEpochMilli(), ping.isInside());
+            reachedOutsideLimit |= consecutiveOutsidePings == CONSECUTIVE_OUTSIDE_PING_LIMIT;
+            lastInside = ping.isInside();
+        }
+
+        if (reachedOutsideLimit) {
+            flagOutsideVenue(attendanceRecord.get(), userId, studentNumber, consecutiveOutsidePings);
+        }
+
+        log.debug("Accepted {} and rejected {} batched pings from student {} for event {}",
+                accepted.size(), rejected, studentNumber, event.getEventId());
+
+        return AttendancePingBatchResponse.builder()
+                .accepted(accepted.size())
+                .rejected(rejected)
+                .inside(lastInside)
+                .build();
+    }
+
+    private void validateBatchSize(AttendancePingBatchRequest request) {
+        if (request.getPings() == null || request.getPings().isEmpty()) {
+            throw new IllegalArgumentException("At least one ping is required.");
+        }
+        if (request.getPings().size() > maxBatchSize) {
+            throw new IllegalArgumentException(
+                    String.format("A ping batch may contain at most %d pings.", maxBatchSize));
+        }
+    }
+
+    /**
+     * Rejects pings that name another event or location than the one their monitoring session was issued for.
+     */
+    private void validateSessionTarget(MonitoringSession session, String eventId, String locationId) {
+        if (eventId != null && !eventId.equals(session.getEventId())) {
+            throw new IllegalStateException("Monitoring session was issued for another event.");
+        }
+        if (locationId != null && !locationId.equals(session.getVenueLocationId())) {
+            throw new IllegalStateException("Monitoring session was issued for another venue location.");
+        }
+    }
+
+    private EventLocationSnapshot validateMonitoredVenue(EventSnapshot event, String locationId) {
+        return validateMonitoredVenue(event, locationId, 0);
+    }
+
+    /**
+     * Validates the venue of a ping, accepting uploads up to {@code graceMinutes} after the event ended.
+     */
+    private EventLocationSnapshot validateMonitoredVenue(EventSnapshot event, String locationId, long graceMinutes) {
         LocalDateTime now = LocalDateTime.now();
 
-        if (now.isBefore(event.getStartingDateTime()) || now.isAfter(event.getEndingDateTime())) {
+        if (now.isBefore(event.getStartingDateTime()) || now.isAfter(event.getEndingDateTime().plusMinutes(graceMinutes))) {
             throw new IllegalStateException("Event is not ongoing. Cannot record attendance ping.");
         }
-        if (!event.getAttendanceLocationMonitoringEnabled()) {
+        if (event.getEventStatus() == EventStatus.FINALIZED || event.getEventStatus() == EventStatus.CANCELLED) {
+            throw new IllegalStateException("Attendance for this event is closed. Cannot record attendance ping.");
+        }
+        if (!event.isAttendanceLocationMonitoringEnabled()) {
             log.warn("Location monitoring is not enabled for event {}. Ping rejected.", event.getEventId());
             throw new IllegalStateException("Location monitoring is not enabled for this event.");
         }
-        Location venueLocation = event.getVenueLocation();
+        EventLocationSnapshot venueLocation = event.getVenueLocation();
         if (venueLocation == null) {
             log.error("Event {} has no venue location configured for monitoring", event.getEventId());
             throw new IllegalStateException("Event venue location is not configured for monitoring");
         }
-        if (!venueLocation.getLocationId().equals(attendancePingLogs.getLocationId())) {
+        if (!venueLocation.getLocationId().equals(locationId)) {
             log.error("Location ID mismatch. Expected venue location {}, but received {}",
-                    venueLocation.getLocationId(), attendancePingLogs.getLocationId());
+                    venueLocation.getLocationId(), locationId);
             throw new IllegalStateException(
                     String.format("Invalid location ID. You should be tracking at venue location: %s",
                             venueLocation.getLocationName()));
         }
+        return venueLocation;
+    }
 
-        boolean isInside = locationValidator.isWithinLocationBoundary(
-                venueLocation,
-                attendancePingLogs.getLatitude(),
-                attendancePingLogs.getLongitude());
+    /**
+     * Checks that a session's account and attendance record still allow monitoring, unless it was checked within
+     * {@code revalidate-after-seconds}.
+     */
+    private void validateSession(MonitoringSession session, EventSnapshot event) {
+        String sessionKey = sessionKey(session);
+        if (validatedSessions.getIfPresent(sessionKey) != null) {
+            return;
+        }
+        StudentIdentity student = studentIdentityCache.resolve(session.getUserId());
+        if (student.getAccountStatus() == AccountStatus.LOCKED || !session.getStudentId().equals(student.getStudentId())) {
+            throw new IllegalStateException("Monitoring session is no longer valid for this account.");
+        }
+        findMonitoredRecord(session.getStudentId(), event);
+        validatedSessions.put(sessionKey, Boolean.TRUE);
+    }
 
-        attendancePingLogs.setInside(isInside);
-        attendancePingLogs.setTimestamp(System.currentTimeMillis());
+    /**
+     * Loads the record of a session to flag it. A record that stopped being monitored since the session was last
+     * validated is not flagged; the ping is already stored and the session is re-validated on its next ping.
+     */
+    private AttendanceRecords findSessionRecord(MonitoringSession session, EventSnapshot event) {
+        try {
+            return findMonitoredRecord(session.getStudentId(), event);
+        } catch (IllegalStateException e) {
+            validatedSessions.invalidate(sessionKey(session));
+            log.warn("Not flagging student {} in event {}: {}", session.getStudentNumber(), event.getEventId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String sessionKey(MonitoringSession session) {
+        return session.getEventId() + ":" + session.getStudentId();
+    }
 
+    private AttendanceRecords findMonitoredRecord(String studentId, EventSnapshot event) {
         AttendanceRecords attendanceRecord = attendanceRecordsRepository
-                .findByStudentAndEvent(student, event)
+                .findByStudentIdAndEventEventId(studentId, event.getEventId())
                 .orElseThrow(() -> new IllegalStateException(
                         "No attendance record found. Student must register at the registration location before sending location pings."));
 
@@ -98,64 +388,38 @@ public class LocationTrackingServiceImpl implements LocationTrackingService {
             throw new IllegalStateException(
                     "Student must be in REGISTERED, LATE, or PRESENT status to send location pings.");
         }
-        if (attendanceRecord.getAttendancePingLogs() == null) {
-            attendanceRecord.setAttendancePingLogs(new ArrayList<>());
-        }
-
-        attendanceRecord.getAttendancePingLogs().add(attendancePingLogs);
-
-        attendanceRecord.setUpdatedByUserId(authenticatedUserId);
-        attendanceRecord.setUpdatedAt(LocalDateTime.now());
-
-        if (!isInside) {
-            log.warn("Student {} is outside venue {} during event {}",
-                    student.getStudentNumber(),
-                    venueLocation.getLocationName(),
-                    event.getEventId());
-
-            long consecutiveOutsidePings = attendanceRecord.getAttendancePingLogs().stream()
-                    .skip(Math.max(0, attendanceRecord.getAttendancePingLogs().size() - 3))
-                    .filter(ping -> !ping.isInside())
-                    .count();
+        return attendanceRecord;
+    }
 
-            if (consecutiveOutsidePings >= 3) {
-                String existingReason = attendanceRecord.getReason();
-                String newReason = "Student detected outside venue boundaries during event";
+    private AttendancePing toPing(EventSnapshot event, String studentId, AttendanceTrackingResponse ping) {
+        return AttendancePing.builder()
+                .meta(new AttendancePingMetadata(event.getEventId(), studentId))
+                .timestamp(Instant.ofEpochMilli(ping.getTimestamp()))
+                .locationId(ping.getLocationId())
+                .latitude(ping.getLatitude())
+                .longitude(ping.getLongitude())
+                .inside(ping.isInside())
+                .build();
+    }
 
-                if (existingReason != null && !existingReason.isEmpty()) {
-                    attendanceRecord.setReason(existingReason + "; " + newReason);
-                } else {
-                    attendanceRecord.setReason(newReason);
-                }
+    private void flagOutsideVenue(AttendanceRecords attendanceRecord, String authenticatedUserId, String studentNumber, long consecutiveOutsidePings) {
+        if (attendanceRecord == null) {
+            return;
+        }
+        String existingReason = attendanceRecord.getReason();
+        String newReason = "Student detected outside venue boundaries during event";
 
-                log.warn("Student {} has {} consecutive pings outside venue - flagged for review",
-                        student.getStudentNumber(),
-                        consecutiveOutsidePings);
-            }
+        if (existingReason != null && !existingReason.isEmpty()) {
+            attendanceRecord.setReason(existingReason + "; " + newReason);
         } else {
-            log.info("Student {} location verified inside venue {} for event {}",
-                    student.getStudentNumber(),
-                    venueLocation.getLocationName(),
-                    event.getEventId());
+            attendanceRecord.setReason(newReason);
         }
-
+        attendanceRecord.setUpdatedByUserId(authenticatedUserId);
+        attendanceRecord.setUpdatedAt(LocalDateTime.now());
         attendanceRecordsRepository.save(attendanceRecord);
-        return isInside;
-    }
-
-    @Override
-    public Location getEventVenueForMonitoring(String eventId) {
-
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalStateException("Event not found"));
 
-        if (!event.getAttendanceLocationMonitoringEnabled()) {
-            throw new IllegalStateException("Location monitoring is not enabled for this event");
-        }
-        Location venueLocation = event.getVenueLocation();
-        if (venueLocation == null) {
-            throw new IllegalStateException("Event venue location is not configured");
-        }
-        return venueLocation;
+        log.warn("Student {} has {} consecutive pings outside venue - flagged for review",
+                studentNumber,
+                consecutiveOutsidePings);
     }
-}
\ No newline at end of file
+}
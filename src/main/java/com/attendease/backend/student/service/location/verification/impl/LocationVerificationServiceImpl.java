@@ -2,19 +2,17 @@ package com.attendease.backend.student.service.location.verification.impl;
 
 import com.attendease.backend.domain.attendance.AttendanceRecords;
 import com.attendease.backend.domain.enums.AttendanceStatus;
-import com.attendease.backend.domain.event.Event;
-import com.attendease.backend.domain.location.Location;
 import com.attendease.backend.domain.location.tracking.LocationTrackingRequest;
 import com.attendease.backend.domain.location.tracking.LocationTrackingResponse;
-import com.attendease.backend.domain.student.Students;
-import com.attendease.backend.domain.user.User;
+import com.attendease.backend.domain.student.identity.StudentIdentity;
 import com.attendease.backend.repository.attendanceRecords.AttendanceRecordsRepository;
-import com.attendease.backend.repository.event.EventRepository;
+import com.attendease.backend.repository.attendanceStats.EventAttendanceCounters.EventAttendanceCounters;
 import com.attendease.backend.repository.location.LocationRepository;
-import com.attendease.backend.repository.students.StudentRepository;
-import com.attendease.backend.repository.users.UserRepository;
 import com.attendease.backend.student.service.location.verification.LocationVerificationService;
-import com.attendease.backend.student.service.utils.LocationValidator;
+import com.attendease.backend.student.service.utils.event.EventLocationSnapshot;
+import com.attendease.backend.student.service.utils.event.EventSnapshot;
+import com.attendease.backend.student.service.utils.event.EventSnapshotCache;
+import com.attendease.backend.student.service.utils.identity.StudentIdentityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -35,27 +33,22 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class LocationVerificationServiceImpl implements LocationVerificationService {
 
-    private final EventRepository eventRepository;
-    private final UserRepository userRepository;
+    private final EventSnapshotCache eventSnapshotCache;
     private final AttendanceRecordsRepository attendanceRecordsRepository;
-    private final StudentRepository studentRepository;
-    private final LocationValidator locationValidator;
+    private final StudentIdentityCache studentIdentityCache;
+    private final EventAttendanceCounters eventAttendanceCounters;
 
     @Override
     public LocationTrackingResponse verifyEventVenueLocation(String eventId, double latitude, double longitude) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalStateException("Event not found"));
+        EventSnapshot event = eventSnapshotCache.resolve(eventId);
 
-        Location venueLocation = event.getVenueLocation();
+        EventLocationSnapshot venueLocation = event.getVenueLocation();
         if (venueLocation == null) {
             log.error("Event {} has no venue location configured", eventId);
             throw new IllegalStateException("Event venue location is not configured");
         }
 
-        boolean isInside = locationValidator.isWithinLocationBoundary(
-                venueLocation,
-                latitude,
-                longitude);
+        boolean isInside = venueLocation.contains(latitude, longitude);
 
         LocationTrackingResponse response = new LocationTrackingResponse();
         response.setInside(isInside);
@@ -75,19 +68,15 @@ public class LocationVerificationServiceImpl implements LocationVerificationServ
     @Override
     public LocationTrackingResponse verifyEventRegistrationLocation(String eventId, double latitude, double longitude) {
 
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalStateException("Event not found"));
+        EventSnapshot event = eventSnapshotCache.resolve(eventId);
 
-        Location registrationLocation = event.getRegistrationLocation();
+        EventLocationSnapshot registrationLocation = event.getRegistrationLocation();
         if (registrationLocation == null) {
             log.error("Event {} has no registration location configured", eventId);
             throw new IllegalStateException("Event registration location is not configured");
         }
 
-        boolean isInside = locationValidator.isWithinLocationBoundary(
-                registrationLocation,
-                latitude,
-                longitude);
+        boolean isInside = registrationLocation.contains(latitude, longitude);
 
         LocationTrackingResponse response = new LocationTrackingResponse();
         response.setInside(isInside);
@@ -108,16 +97,16 @@ public class LocationVerificationServiceImpl implements LocationVerificationServ
     @Override
     public LocationTrackingResponse verifyEventVenueLocationWithAutoUpgrade(String authenticatedUserId,String eventId,double latitude,double longitude) {
 
-        Event event = eventRepository.findById(eventId).orElseThrow(() -> new IllegalStateException("Event not found"));
-        Location venueLocation = event.getVenueLocation();
+        EventSnapshot event = eventSnapshotCache.resolve(eventId);
+        EventLocationSnapshot venueLocation = event.getVenueLocation();
         if (venueLocation == null) {
             throw new IllegalStateException("Event venue location is not configured");
         }
 
-        boolean isInside = locationValidator.isWithinLocationBoundary(venueLocation,latitude,longitude);
+        boolean isInside = venueLocation.contains(latitude, longitude);
         LocationTrackingResponse response = new LocationTrackingResponse();
         response.setInside(isInside);
-        boolean strictValidation = event.getStrictLocationValidation() != null && event.getStrictLocationValidation();
+        boolean strictValidation = event.isStrictLocationValidation();
 
         if (isInside && strictValidation) {
             boolean upgraded = tryAutoUpgradeToVenue(authenticatedUserId,event,venueLocation);
@@ -140,11 +129,10 @@ public class LocationVerificationServiceImpl implements LocationVerificationServ
         return response;
     }
 
-    private boolean tryAutoUpgradeToVenue(String authenticatedUserId, Event event, Location venueLocation) {
+    private boolean tryAutoUpgradeToVenue(String authenticatedUserId, EventSnapshot event, EventLocationSnapshot venueLocation) {
         try {
-            User user = userRepository.findById(authenticatedUserId).orElseThrow(() -> new IllegalStateException("User not found"));
-            Students student = studentRepository.findByUser(user).orElseThrow(() -> new IllegalStateException("Student not found"));
-            Optional<AttendanceRecords> recordOpt = attendanceRecordsRepository.findByStudentAndEvent(student, event);
+            StudentIdentity student = studentIdentityCache.resolve(authenticatedUserId);
+            Optional<AttendanceRecords> recordOpt = attendanceRecordsRepository.findByStudentIdAndEventEventId(student.getStudentId(), event.getEventId());
 
             if (recordOpt.isEmpty()) {
                 return false;
@@ -160,12 +148,13 @@ public class LocationVerificationServiceImpl implements LocationVerificationServ
             boolean isLate = now.isAfter(event.getStartingDateTime());
 
             record.setAttendanceStatus(isLate ? AttendanceStatus.LATE : AttendanceStatus.REGISTERED);
-            record.setLocation(venueLocation);
+            record.setLocation(venueLocation.toLocationReference());
             record.setEventLocationId(venueLocation.getLocationId());
             record.setReason(isLate ? "Late arrival at venue (auto-upgraded)" : "Completed registration at venue (auto-upgraded)");
             record.setTimeIn(now);
 
             attendanceRecordsRepository.save(record);
+            eventAttendanceCounters.recordTransition(event.getEventId(), AttendanceStatus.PARTIALLY_REGISTERED, record.getAttendanceStatus());
 
             log.info("Successfully auto-upgraded student {} from PARTIALLY_REGISTERED to {} for event {}",
                     student.getStudentNumber(),
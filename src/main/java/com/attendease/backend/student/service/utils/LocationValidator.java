@@ -1,14 +1,13 @@
 package com.attendease.backend.student.service.utils;
 
 import com.attendease.backend.domain.location.Location;
+import com.attendease.backend.student.service.utils.geofence.CompiledPolygon;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.geo.Point;
-import org.springframework.data.mongodb.core.geo.GeoJsonLineString;
 import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 
 /**
  * Utility class for validating geographical locations and checking if a given point
@@ -17,11 +16,19 @@ import java.util.List;
  * This is primarily used to verify if a student's current location is within the
  * allowed event or campus boundaries.
  * </p>
+ * <p>
+ * Polygons are compiled once into a {@link CompiledPolygon} and cached per {@code locationId}.
+ * The cache must be invalidated through {@link #invalidate(String)} whenever a location's geometry changes.
+ * </p>
  */
 @Slf4j
 @Component
 public class LocationValidator {
 
+    private final Cache<String, CompiledPolygon> compiledPolygons = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .build();
+
     /**
      * Checks if a given latitude and longitude lies within the polygon boundary of an event location.
      *
@@ -31,57 +38,60 @@ public class LocationValidator {
      * @return {@code true} if the point lies within the polygon boundary, {@code false} otherwise
      */
     public boolean isWithinLocationBoundary(Location location, double latitude, double longitude) {
-        GeoJsonPolygon polygon = location.getLocationGeometry();
-        if (polygon == null) {
-            log.warn("No polygon geometry found for location: {}, {}", location.getLocationId(), location.getLocationName());
+        CompiledPolygon polygon = getCompiledPolygon(location);
+        if (polygon.isEmpty()) {
             return false;
         }
 
-        List<GeoJsonLineString> lineStrings = polygon.getCoordinates();
-        if (lineStrings.isEmpty()) {
-            log.warn("No coordinates found in polygon for location: {}, {}", location.getLocationId(), location.getLocationName());
-            return false;
-        }
+        boolean isInside = polygon.contains(latitude, longitude);
 
-        GeoJsonLineString outerRing = lineStrings.getFirst();
-        if (outerRing == null) {
-            log.warn("No outer ring found in polygon for location: {}, {}", location.getLocationId(), location.getLocationName());
-            return false;
+        if (log.isDebugEnabled()) {
+            log.debug("Student location check: [{}, {}] is {} the polygon boundary for location: {}, {}", latitude, longitude, isInside ? "INSIDE" : "OUTSIDE", location.getLocationId(), location.getLocationName());
         }
 
-        List<Point> points = outerRing.getCoordinates();
-        boolean isInside = isPointInPolygon(latitude, longitude, points);
-
-        log.info("Student location check: [{}, {}] is {} the polygon boundary for location: {}, {}", latitude, longitude, isInside ? "INSIDE" : "OUTSIDE", location.getLocationId(), location.getLocationName());
-
         return isInside;
     }
 
     /**
-     * Implements the ray-casting algorithm to determine if a point is inside a polygon.
+     * Returns the compiled polygon of a location, compiling and caching it on first use.
      *
-     * @param latitude the latitude of the point to check
-     * @param longitude the longitude of the point to check
-     * @param polygonPoints the list of {@link Point} objects defining the polygon vertices
-     * @return {@code true} if the point is inside the polygon, {@code false} otherwise
+     * @param location the {@link Location} object containing the polygon geometry
+     * @return the compiled polygon, {@link CompiledPolygon#EMPTY} if the location has no usable geometry
      */
-    private boolean isPointInPolygon(double latitude, double longitude, List<Point> polygonPoints) {
-        int n = polygonPoints.size();
-        boolean inside = false;
+    public CompiledPolygon getCompiledPolygon(Location location) {
+        if (location.getLocationId() == null) {
+            return compile(location);
+        }
+        CompiledPolygon cached = compiledPolygons.getIfPresent(location.getLocationId());
+        if (cached != null) {
+            return cached;
+        }
+        return compiledPolygons.get(location.getLocationId(), id -> compile(location));
+    }
 
-        for (int i = 0, j = n - 1; i < n; j = i++) {
-            Point pi = polygonPoints.get(i);
-            Point pj = polygonPoints.get(j);
+    /**
+     * Drops the compiled polygon of a location so the next check recompiles it from the stored geometry.
+     *
+     * @param locationId the ID of the location whose geometry changed or was deleted
+     */
+    public void invalidate(String locationId) {
+        compiledPolygons.invalidate(locationId);
+        log.debug("Invalidated compiled polygon for location {}", locationId);
+    }
 
-            double xi = pi.getX(); //longitude
-            double yi = pi.getY(); //latitude
-            double xj = pj.getX(); //longitude
-            double yj = pj.getY(); //latitude
+    private CompiledPolygon compile(Location location) {
+        GeoJsonPolygon polygon = location.getLocationGeometry();
+        if (polygon == null) {
+            log.warn("No polygon geometry found for location: {}, {}", location.getLocationId(), location.getLocationName());
+            return CompiledPolygon.EMPTY;
+        }
 
-            if (((yi > latitude) != (yj > latitude)) && (longitude < (xj - xi) * (latitude - yi) / (yj - yi) + xi)) {
-                inside = !inside;
-            }
+        CompiledPolygon compiled = CompiledPolygon.compile(polygon);
+        if (compiled.isEmpty()) {
+            log.warn("No coordinates found in polygon for location: {}, {}", location.getLocationId(), location.getLocationName());
+        } else {
+            log.info("Compiled polygon with {} vertices for location: {}, {}", compiled.getVertexCount(), location.getLocationId(), location.getLocationName());
         }
-        return inside;
+        return compiled;
     }
 }
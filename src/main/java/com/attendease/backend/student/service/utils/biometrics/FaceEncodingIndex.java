@@ -0,0 +1,123 @@
+package com.attendease.backend.student.service.utils.biometrics;
+
+import com.attendease.backend.domain.biometrics.encoding.FacialEncodings;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable brute-force index over the facial encodings of an event's eligible students, for 1:N identification.
+ * <p>
+ * All encodings are copied once into a single row-major {@code float[]} of {@code size * 128} values, so a search
+ * streams through contiguous memory without touching any object per candidate. Each row is compared with four
+ * independent accumulators and abandoned as soon as its partial squared distance exceeds the best one found,
+ * which keeps a search over a few thousand candidates well below a millisecond.
+ * </p>
+ */
+public final class FaceEncodingIndex {
+
+    private static final int DIMENSIONS = FacialEncodings.DIMENSIONS;
+
+    /**
+     * Dimensions compared between two early-abandon checks.
+     */
+    private static final int BLOCK = 32;
+
+    private final String eventId;
+    private final String[] studentNumbers;
+    private final float[] encodings;
+    private final Instant builtAt;
+
+    private FaceEncodingIndex(String eventId, String[] studentNumbers, float[] encodings, Instant builtAt) {
+        this.eventId = eventId;
+        this.studentNumbers = studentNumbers;
+        this.encodings = encodings;
+        this.builtAt = builtAt;
+    }
+
+    /**
+     * Builds an index; {@code encodings.get(i)} is the 128-dimension encoding of {@code studentNumbers.get(i)}.
+     */
+    public static FaceEncodingIndex of(String eventId, List<String> studentNumbers, List<float[]> encodings) {
+        float[] matrix = new float[encodings.size() * DIMENSIONS];
+        for (int row = 0; row < encodings.size(); row++) {
+            System.arraycopy(encodings.get(row), 0, matrix, row * DIMENSIONS, DIMENSIONS);
+        }
+        return new FaceEncodingIndex(eventId, studentNumbers.toArray(String[]::new), matrix, Instant.now());
+    }
+
+    /**
+     * Finds the student whose encoding is closest to the probe.
+     *
+     * @return the closest candidate, or {@code null} if the index is empty
+     */
+    public Match nearest(float[] probe) {
+        if (probe.length != DIMENSIONS) {
+            throw new IllegalArgumentException("Probe encoding must have " + DIMENSIONS + " dimensions, got " + probe.length);
+        }
+
+        int bestRow = -1;
+        float best = Float.POSITIVE_INFINITY;
+        float secondBest = Float.POSITIVE_INFINITY;
+
+        for (int row = 0, offset = 0; row < studentNumbers.length; row++, offset += DIMENSIONS) {
+            float distance = squaredDistance(probe, offset, secondBest);
+            if (distance < best) {
+                secondBest = best;
+                best = distance;
+                bestRow = row;
+            } else if (distance < secondBest) {
+                secondBest = distance;
+            }
+        }
+
+        if (bestRow < 0) {
+            return null;
+        }
+        double runnerUp = secondBest == Float.POSITIVE_INFINITY ? Double.POSITIVE_INFINITY : Math.sqrt(secondBest);
+        return new Match(studentNumbers[bestRow], Math.sqrt(best), runnerUp);
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public int size() {
+        return studentNumbers.length;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    /**
+     * Squared distance between the probe and a row, or any value of at least {@code limit} once the row cannot beat it.
+     */
+    private float squaredDistance(float[] probe, int offset, float limit) {
+        float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        for (int block = 0; block < DIMENSIONS; block += BLOCK) {
+            for (int i = block, end = block + BLOCK; i < end; i += 4) {
+                float d0 = probe[i] - encodings[offset + i];
+                float d1 = probe[i + 1] - encodings[offset + i + 1];
+                float d2 = probe[i + 2] - encodings[offset + i + 2];
+                float d3 = probe[i + 3] - encodings[offset + i + 3];
+                sum0 += d0 * d0;
+                sum1 += d1 * d1;
+                sum2 += d2 * d2;
+                sum3 += d3 * d3;
+            }
+            if ((sum0 + sum1) + (sum2 + sum3) >= limit) {
+                return limit;
+            }
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Closest candidate of a search, with the distance of the runner-up to judge how distinct the match is.
+     */
+    public record Match(String studentNumber, double distance, double runnerUpDistance) {}
+}
@@ -0,0 +1,184 @@
+package com.attendease.backend.student.service.utils.biometrics;
+
+import com.attendease.backend.domain.biometrics.BiometricData;
+import com.attendease.backend.domain.biometrics.encoding.FacialEncodings;
+import com.attendease.backend.domain.enums.EventStatus;
+import com.attendease.backend.domain.event.Event;
+import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.student.service.utils.event.EventEligibleStudents;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds a {@link FaceEncodingIndex} for every live event with facial verification enabled.
+ * <p>
+ * The {@code EventStatusScheduler} syncs the store on each run: an index is loaded in the background as soon
+ * as its event enters {@link EventStatus#REGISTRATION}, rebuilt every {@code refresh-minutes} so faces
+ * registered in the meantime become identifiable, and dropped once the event is no longer live. While an index
+ * is rebuilt, the previous one keeps serving searches. Only eligible students with an active account are indexed,
+ * the same students finalization expects to attend; an account deactivated or locked meanwhile drops out on the next rebuild.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FaceEncodingIndexStore {
+
+    private static final Set<EventStatus> INDEXED_STATUSES = Set.of(EventStatus.REGISTRATION, EventStatus.ONGOING);
+
+    private final EventEligibleStudents eventEligibleStudents;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${facial.identification.index.refresh-minutes:10}")
+    private long refreshMinutes;
+
+    @Value("${facial.identification.index.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    private final Map<String, CompletableFuture<FaceEncodingIndex>> indexes = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private ExecutorService loader;
+
+    @PostConstruct
+    public void start() {
+        loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "face-index-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads, refreshes or drops indexes to match the given events.
+     *
+     * @param events the events checked by the status scheduler, with their current status
+     */
+    public void sync(Collection<Event> events) {
+        Set<String> indexedEventIds = new HashSet<>();
+        for (Event event : events) {
+            if (isIndexed(event)) {
+                indexedEventIds.add(event.getEventId());
+                refreshIfStale(event);
+            }
+        }
+        indexes.keySet().retainAll(indexedEventIds);
+    }
+
+    /**
+     * Returns the index of an event, waiting for it to load if it is not ready yet.
+     *
+     * @throws IllegalStateException if the index could not be loaded
+     */
+    public FaceEncodingIndex get(Event event) {
+        try {
+            return indexes.computeIfAbsent(event.getEventId(), eventId -> load(event)).join();
+        } catch (CompletionException e) {
+            indexes.remove(event.getEventId());
+            throw new IllegalStateException("Failed to load the face index of event " + event.getEventId(), e.getCause());
+        }
+    }
+
+    public boolean isIndexed(Event event) {
+        return INDEXED_STATUSES.contains(event.getEventStatus()) && Boolean.TRUE.equals(event.getFacialVerificationEnabled());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private void refreshIfStale(Event event) {
+        String eventId = event.getEventId();
+        CompletableFuture<FaceEncodingIndex> current = indexes.get(eventId);
+        if (current == null || current.isCompletedExceptionally()) {
+            indexes.put(eventId, load(event));
+            return;
+        }
+        if (!current.isDone() || !isStale(current.join()) || !refreshing.add(eventId)) {
+            return;
+        }
+
+        load(event).whenComplete((index, error) -> {
+            refreshing.remove(eventId);
+            if (index != null) {
+                indexes.computeIfPresent(eventId, (id, previous) -> CompletableFuture.completedFuture(index));
+            }
+        });
+    }
+
+    private boolean isStale(FaceEncodingIndex index) {
+        return index.getBuiltAt().isBefore(Instant.now().minus(Duration.ofMinutes(refreshMinutes)));
+    }
+
+    private CompletableFuture<FaceEncodingIndex> load(Event event) {
+        return CompletableFuture.supplyAsync(() -> build(event), loader)
+                .whenComplete((index, error) -> {
+                    if (error != null) {
+                        log.error("Failed to load face index of event {}: {}", event.getEventId(), error.getMessage(), error);
+                    }
+                });
+    }
+
+    private FaceEncodingIndex build(Event event) {
+        long start = System.nanoTime();
+        List<String> studentNumbers = new ArrayList<>();
+        List<float[]> encodings = new ArrayList<>();
+        List<String> batch = new ArrayList<>(loadBatchSize);
+
+        try (Stream<Students> students = eventEligibleStudents.streamActive(event)) {
+            students.forEach(student -> {
+                batch.add(student.getStudentNumber());
+                if (batch.size() == loadBatchSize) {
+                    loadEncodings(batch, studentNumbers, encodings);
+                    batch.clear();
+                }
+            });
+        }
+        if (!batch.isEmpty()) {
+            loadEncodings(batch, studentNumbers, encodings);
+        }
+
+        FaceEncodingIndex index = FaceEncodingIndex.of(event.getEventId(), studentNumbers, encodings);
+        log.info("Loaded face index of event {} with {} encodings in {} ms",
+                event.getEventId(), index.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return index;
+    }
+
+    private void loadEncodings(List<String> batch, List<String> studentNumbers, List<float[]> encodings) {
+        Query query = Query.query(Criteria.where("studentNumber").in(batch));
+        query.fields().include("studentNumber").include("facialEncoding");
+        for (BiometricData biometricData : mongoTemplate.find(query, BiometricData.class)) {
+            float[] encoding = biometricData.getFacialEncoding();
+            if (encoding != null && encoding.length == FacialEncodings.DIMENSIONS) {
+                studentNumbers.add(biometricData.getStudentNumber());
+                encodings.add(encoding);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.attendease.backend.student.service.utils.biometrics;
+
+import com.attendease.backend.client.biometrics.verification.BiometricsVerificationClient;
+import com.attendease.backend.domain.biometrics.BiometricData;
+import com.attendease.backend.domain.biometrics.Verification.Response.BiometricsVerificationResponse;
+import com.attendease.backend.domain.biometrics.Verification.Response.EventRegistrationBiometricsVerificationResponse;
+import com.attendease.backend.exceptions.domain.Biometrics.FacialRecognitionServiceException;
+import com.attendease.backend.repository.biometrics.BiometricsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Verifies a check-in face image against the student's registered facial encoding.
+ * <p>
+ * The encoding of the image is extracted by the facial service and compared with the stored one, in-process when
+ * {@code facial.matching.local.enabled} is set. A face that does not match, or a student without registered
+ * biometrics, fails with {@link IllegalStateException}; facial service outages, a full bulkhead and an open
+ * circuit breaker surface as {@link FacialRecognitionServiceException}.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentFaceVerifier {
+
+    private final BiometricsVerificationClient biometricsVerificationClient;
+    private final BiometricsRepository biometricsRepository;
+    private final FaceEncodingMatcher faceEncodingMatcher;
+
+    @Value("${facial.matching.local.enabled:true}")
+    private boolean localFaceMatchingEnabled;
+
+    /**
+     * Verifies an uploaded face image, extracting its encoding on the facial client's pool while the stored
+     * encoding is loaded.
+     */
+    public void verify(String studentNumber, MultipartFile faceImage) {
+        try {
+            log.info("Extracting facial encoding from uploaded image for student: {}", studentNumber);
+            CompletableFuture<EventRegistrationBiometricsVerificationResponse> extraction =
+                    biometricsVerificationClient.extractFaceEncodingAsync(faceImage);
+
+            BiometricData biometricData = findBiometricData(studentNumber);
+            compare(studentNumber, await(extraction), biometricData);
+        } catch (IllegalStateException | FacialRecognitionServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Facial verification error for student {}: {}", studentNumber, e.getMessage(), e);
+            throw new IllegalStateException("Facial verification error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Verifies a face image that was already read, e.g. one queued for deferred verification.
+     */
+    public void verify(String studentNumber, byte[] image, String fileName) {
+        try {
+            BiometricData biometricData = findBiometricData(studentNumber);
+            log.info("Extracting facial encoding from queued image for student: {}", studentNumber);
+            compare(studentNumber, biometricsVerificationClient.extractFaceEncoding(image, fileName), biometricData);
+        } catch (IllegalStateException | FacialRecognitionServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Facial verification error for student {}: {}", studentNumber, e.getMessage(), e);
+            throw new IllegalStateException("Facial verification error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    private BiometricData findBiometricData(String studentNumber) {
+        BiometricData biometricData = biometricsRepository.findByStudentNumber(studentNumber)
+                .orElseThrow(() -> new IllegalStateException(
+                        "No biometric data found for student. Please register your face first."));
+
+        if (biometricData.getFacialEncoding() == null || biometricData.getFacialEncoding().length == 0) {
+            throw new IllegalStateException("Student's facial encoding is not registered");
+        }
+        return biometricData;
+    }
+
+    private void compare(String studentNumber, EventRegistrationBiometricsVerificationResponse encodingResponse,
+                         BiometricData biometricData) {
+        if (!encodingResponse.getSuccess() || encodingResponse.getFacialEncoding() == null) {
+            throw new IllegalStateException("Failed to detect face in uploaded image");
+        }
+
+        Double quality = encodingResponse.getQuality();
+        if (quality != null) {
+            log.info("Face detection quality score for student {}: {}", studentNumber, quality);
+            if (quality < 50) {
+                log.warn("Low quality face detection ({}) for student {}", quality, studentNumber);
+            }
+        }
+
+        log.info("Comparing facial encodings for student: {}", studentNumber);
+        BiometricsVerificationResponse verificationResponse = localFaceMatchingEnabled
+                ? faceEncodingMatcher.verify(
+                        encodingResponse.getFacialEncoding(),
+                        biometricData.getFacialEncoding())
+                : biometricsVerificationClient.verifyFace(
+                        encodingResponse.getFacialEncoding(),
+                        biometricData.getFacialEncoding());
+
+        if (!verificationResponse.getIs_face_matched()) {
+            log.warn("Face verification failed for student {}. Distance: {}, Confidence: {}",
+                    studentNumber,
+                    verificationResponse.getFace_distance(),
+                    verificationResponse.getConfidence());
+            throw new IllegalStateException(
+                    String.format("Facial verification failed (confidence: %.2f%%). Please try again with better lighting.",
+                            (verificationResponse.getConfidence() != null ? verificationResponse.getConfidence() * 100 : 0)));
+        }
+
+        log.info("Face verification successful for student {}. Confidence: {}", studentNumber, verificationResponse.getConfidence());
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.attendease.backend.student.service.utils.event;
+
+import com.attendease.backend.domain.course.Course;
+import com.attendease.backend.domain.enums.AccountStatus;
+import com.attendease.backend.domain.enums.UserType;
+import com.attendease.backend.domain.event.Event;
+import com.attendease.backend.domain.event.eligibility.EventEligibility;
+import com.attendease.backend.domain.section.Section;
+import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.domain.user.User;
+import com.attendease.backend.repository.course.CourseRepository;
+import com.attendease.backend.repository.reference.ReferenceIds;
+import com.attendease.backend.repository.section.SectionRepository;
+import com.attendease.backend.repository.students.StudentRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Resolves the students targeted by an event's eligibility criteria.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventEligibleStudents {
+
+    private final StudentRepository studentRepository;
+    private final SectionRepository sectionRepository;
+    private final CourseRepository courseRepository;
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Streams the targeted students whose account is an active student account. The returned stream must be closed.
+     */
+    public Stream<Students> streamActive(Event event) {
+        Set<String> activeStudentUserIds = findActiveStudentUserIds();
+        return stream(event).filter(student -> activeStudentUserIds.contains(userIdOf(student)));
+    }
+
+    /**
+     * Streams the students targeted by the event's eligibility criteria. The returned stream must be closed.
+     * Year level filtering is applied to the sections before students are queried.
+     */
+    public Stream<Students> stream(Event event) {
+        EventEligibility criteria = event.getEligibleStudents();
+
+        if (criteria == null || criteria.isAllStudents()) {
+            return studentRepository.streamAllBy();
+        }
+
+        List<String> sectionsToCheck = criteria.getSelectedSections() != null && !criteria.getSelectedSections().isEmpty()
+                ? criteria.getSelectedSections()
+                : criteria.getSections();
+
+        List<String> coursesToCheck = criteria.getSelectedCourses() != null && !criteria.getSelectedCourses().isEmpty()
+                ? criteria.getSelectedCourses()
+                : criteria.getCourses();
+
+        List<String> clustersToCheck = criteria.getSelectedClusters() != null && !criteria.getSelectedClusters().isEmpty()
+                ? criteria.getSelectedClusters()
+                : criteria.getClusters();
+
+        List<Section> sections = new ArrayList<>();
+
+        if (!CollectionUtils.isEmpty(sectionsToCheck)) {
+            sectionRepository.findAllById(sectionsToCheck).forEach(sections::add);
+        }
+        else if (!CollectionUtils.isEmpty(coursesToCheck)) {
+            sections.addAll(sectionRepository.findByCourseIdIn(coursesToCheck));
+        }
+        else if (!CollectionUtils.isEmpty(clustersToCheck)) {
+            List<Course> clusterCourses = courseRepository.findByClusterClusterIdIn(clustersToCheck);
+            List<String> courseIds = clusterCourses.stream().map(Course::getId).toList();
+            if (!courseIds.isEmpty()) {
+                sections.addAll(sectionRepository.findByCourseIdIn(courseIds));
+            }
+        }
+
+        if (criteria.getTargetYearLevels() != null && !criteria.getTargetYearLevels().isEmpty()) {
+            sections.removeIf(section -> !criteria.getTargetYearLevels().contains(section.getYearLevel()));
+            log.info("Filtered expected students by year levels {} for event {}",
+                    criteria.getTargetYearLevels(), event.getEventId());
+        }
+
+        List<String> sectionIds = sections.stream().map(Section::getId).distinct().toList();
+        log.info("Expected students for event {} are drawn from {} sections", event.getEventId(), sectionIds.size());
+        return sectionIds.isEmpty() ? Stream.empty() : studentRepository.streamBySectionIdIn(sectionIds);
+    }
+
+    /**
+     * PRIVATE HELPERS
+     */
+
+    /**
+     * Loads the IDs of all active student accounts in one projected query, instead of resolving the user of every expected student.
+     */
+    private Set<String> findActiveStudentUserIds() {
+        Query query = Query.query(Criteria.where("userType").is(UserType.STUDENT).and("accountStatus").is(AccountStatus.ACTIVE));
+        query.fields().include("_id");
+        Set<String> userIds = new HashSet<>();
+        mongoTemplate.find(query, User.class).forEach(user -> userIds.add(user.getUserId()));
+        return userIds;
+    }
+
+    private String userIdOf(Students student) {
+        return student.getUserId() != null ? student.getUserId() : ReferenceIds.idOf(student.getUser(), User::getUserId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.attendease.backend.student.service.utils.event;
+
+import com.attendease.backend.domain.location.Location;
+import com.attendease.backend.student.service.utils.geofence.CompiledPolygon;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable view of an event's registration or venue location, carrying its precompiled boundary.
+ */
+@Value
+@Builder
+public class EventLocationSnapshot {
+
+    String locationId;
+    String locationName;
+    CompiledPolygon boundary;
+
+    /**
+     * Checks if a point lies within the location boundary. A location without usable geometry contains no point.
+     */
+    public boolean contains(double latitude, double longitude) {
+        return boundary.contains(latitude, longitude);
+    }
+
+    /**
+     * Builds a reference-only {@link Location} carrying the location's ID, for use as a {@code @DBRef} value.
+     */
+    public Location toLocationReference() {
+        return Location.builder()
+                .locationId(locationId)
+                .locationName(locationName)
+                .build();
+    }
+}
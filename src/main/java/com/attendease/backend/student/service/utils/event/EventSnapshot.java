@@ -0,0 +1,98 @@
+package com.attendease.backend.student.service.utils.event;
+
+import com.attendease.backend.domain.academic.Academic;
+import com.attendease.backend.domain.enums.EventStatus;
+import com.attendease.backend.domain.event.Event;
+import com.attendease.backend.domain.student.identity.StudentIdentity;
+import java.time.LocalDateTime;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable, reference-free snapshot of the event metadata read by the student hot paths
+ * (registration, location pings, location verification and registration status).
+ * <p>
+ * Eligibility lists are flattened into sets and both locations carry their precompiled boundary,
+ * so a snapshot answers every check of those paths without touching MongoDB.
+ * </p>
+ *
+ * @see EventSnapshotCache
+ */
+@Value
+@Builder
+public class EventSnapshot {
+
+    String eventId;
+    String eventName;
+    EventStatus eventStatus;
+
+    LocalDateTime registrationDateTime;
+    LocalDateTime startingDateTime;
+    LocalDateTime endingDateTime;
+    long startingEpochMilli;
+    long endingEpochMilli;
+
+    boolean facialVerificationEnabled;
+    boolean attendanceLocationMonitoringEnabled;
+    boolean strictLocationValidation;
+
+    boolean allStudents;
+    Set<String> selectedSections;
+    Set<String> selectedCourses;
+    Set<String> selectedClusters;
+    Set<Integer> targetYearLevels;
+
+    EventLocationSnapshot registrationLocation;
+    EventLocationSnapshot venueLocation;
+
+    String academicYearId;
+    String academicYearName;
+    Integer semester;
+    String semesterName;
+
+    /**
+     * Checks the student against the event's eligibility criteria.
+     * <p>
+     * A student matches through its section, course or cluster, restricted to the target year levels when
+     * any are set. An event that only targets year levels matches every student of those year levels.
+     * </p>
+     */
+    public boolean isEligible(StudentIdentity student) {
+        if (allStudents) {
+            return true;
+        }
+        if (student.getSectionId() == null) {
+            return false;
+        }
+
+        if (selectedSections.contains(student.getSectionId())
+                || (student.getCourseId() != null && selectedCourses.contains(student.getCourseId()))
+                || (student.getClusterId() != null && selectedClusters.contains(student.getClusterId()))) {
+            return targetYearLevels.isEmpty() || targetYearLevels.contains(student.getYearLevel());
+        }
+
+        return selectedSections.isEmpty()
+                && selectedCourses.isEmpty()
+                && selectedClusters.isEmpty()
+                && !targetYearLevels.isEmpty()
+                && targetYearLevels.contains(student.getYearLevel());
+    }
+
+    /**
+     * Builds a reference-only {@link Event} carrying the event's ID, for use as a {@code @DBRef} value.
+     */
+    public Event toEventReference() {
+        return Event.builder()
+                .eventId(eventId)
+                .eventName(eventName)
+                .build();
+    }
+
+    /**
+     * Builds a reference-only {@link Academic} for the event's academic year, or {@code null} if it has none.
+     */
+    public Academic toAcademicYearReference() {
+        return academicYearId != null ? Academic.builder().id(academicYearId).build() : null;
+    }
+}
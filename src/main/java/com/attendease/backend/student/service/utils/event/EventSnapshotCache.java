@@ -0,0 +1,166 @@
+package com.attendease.backend.student.service.utils.event;
+
+import com.attendease.backend.domain.enums.EventStatus;
+import com.attendease.backend.domain.event.Event;
+import com.attendease.backend.domain.event.eligibility.EventEligibility;
+import com.attendease.backend.domain.location.Location;
+import com.attendease.backend.repository.event.EventRepository;
+import com.attendease.backend.student.service.utils.LocationValidator;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cache of {@link EventSnapshot}s for the events that are live, i.e. in
+ * {@link EventStatus#REGISTRATION} or {@link EventStatus#ONGOING} status.
+ * <p>
+ * Live events are served from memory so that registrations, pings and location checks never load the
+ * event with its location and academic year references. Other events are loaded from MongoDB on every
+ * call and never cached. The {@code EventStatusScheduler} re-synchronizes the cache on each run; event
+ * and location management refresh or evict the affected snapshots on every change.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSnapshotCache {
+
+    private static final Set<EventStatus> LIVE_STATUSES = Set.of(EventStatus.REGISTRATION, EventStatus.ONGOING);
+
+    private final EventRepository eventRepository;
+    private final LocationValidator locationValidator;
+
+    private final Map<String, EventSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the snapshot of an event, from memory while the event is live.
+     *
+     * @param eventId the ID of the event
+     * @return the {@link EventSnapshot} of the event
+     * @throws IllegalStateException if the event does not exist
+     */
+    public EventSnapshot resolve(String eventId) {
+        EventSnapshot cached = snapshots.get(eventId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+        EventSnapshot snapshot = toSnapshot(event);
+        if (isLive(event)) {
+            snapshots.putIfAbsent(eventId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replaces the snapshot of a saved event, or drops it if the event is no longer live.
+     */
+    public void refresh(Event event) {
+        if (isLive(event)) {
+            snapshots.put(event.getEventId(), toSnapshot(event));
+        } else {
+            snapshots.remove(event.getEventId());
+        }
+    }
+
+    /**
+     * Rebuilds the cache from the given events, dropping every cached event that is not among the live ones.
+     *
+     * @param events the events checked by the status scheduler, with their current status
+     */
+    public void sync(Collection<Event> events) {
+        Set<String> liveEventIds = new HashSet<>();
+        for (Event event : events) {
+            if (isLive(event)) {
+                snapshots.put(event.getEventId(), toSnapshot(event));
+                liveEventIds.add(event.getEventId());
+            }
+        }
+        snapshots.keySet().retainAll(liveEventIds);
+        log.debug("Synchronized event snapshot cache, {} live events", liveEventIds.size());
+    }
+
+    public void evict(String eventId) {
+        snapshots.remove(eventId);
+    }
+
+    /**
+     * Drops the snapshots of every event using a location, so they are rebuilt with its new name or geometry.
+     */
+    public void evictLocation(String locationId) {
+        snapshots.values().removeIf(snapshot ->
+                usesLocation(snapshot.getRegistrationLocation(), locationId)
+                        || usesLocation(snapshot.getVenueLocation(), locationId));
+    }
+
+    /*
+     * PRIVATE HELPERS
+     */
+
+    private boolean usesLocation(EventLocationSnapshot location, String locationId) {
+        return location != null && locationId.equals(location.getLocationId());
+    }
+
+    private boolean isLive(Event event) {
+        return LIVE_STATUSES.contains(event.getEventStatus());
+    }
+
+    private EventSnapshot toSnapshot(Event event) {
+        EventEligibility criteria = event.getEligibleStudents();
+
+        return EventSnapshot.builder()
+                .eventId(event.getEventId())
+                .eventName(event.getEventName())
+                .eventStatus(event.getEventStatus())
+                .registrationDateTime(event.getRegistrationDateTime())
+                .startingDateTime(event.getStartingDateTime())
+                .endingDateTime(event.getEndingDateTime())
+                .startingEpochMilli(toEpochMilli(event.getStartingDateTime()))
+                .endingEpochMilli(toEpochMilli(event.getEndingDateTime()))
+                .facialVerificationEnabled(Boolean.TRUE.equals(event.getFacialVerificationEnabled()))
+                .attendanceLocationMonitoringEnabled(Boolean.TRUE.equals(event.getAttendanceLocationMonitoringEnabled()))
+                .strictLocationValidation(Boolean.TRUE.equals(event.getStrictLocationValidation()))
+                .allStudents(criteria == null || criteria.isAllStudents())
+                .selectedSections(toSet(criteria != null ? criteria.getSelectedSections() : null))
+                .selectedCourses(toSet(criteria != null ? criteria.getSelectedCourses() : null))
+                .selectedClusters(toSet(criteria != null ? criteria.getSelectedClusters() : null))
+                .targetYearLevels(toSet(criteria != null ? criteria.getTargetYearLevels() : null))
+                .registrationLocation(toLocationSnapshot(event.getRegistrationLocation()))
+                .venueLocation(toLocationSnapshot(event.getVenueLocation()))
+                .academicYearId(event.getAcademicYearId())
+                .academicYearName(event.getAcademicYearName())
+                .semester(event.getSemester())
+                .semesterName(event.getSemesterName())
+                .build();
+    }
+
+    private EventLocationSnapshot toLocationSnapshot(Location location) {
+        if (location == null) {
+            return null;
+        }
+        return EventLocationSnapshot.builder()
+                .locationId(location.getLocationId())
+                .locationName(location.getLocationName())
+                .boundary(locationValidator.getCompiledPolygon(location))
+                .build();
+    }
+
+    private <T> Set<T> toSet(List<T> values) {
+        return values == null || values.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(values));
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+}
@@ -0,0 +1,198 @@
+package com.attendease.backend.student.service.utils.geofence;
+
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.geo.GeoJsonLineString;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
+
+import java.util.List;
+
+/**
+ * Immutable, precompiled form of a {@link GeoJsonPolygon} outer ring used for point-in-polygon checks.
+ * <p>
+ * Vertices are copied once into primitive {@code double[]} arrays together with a bounding box, so a
+ * lookup never touches {@link Point} objects and allocates nothing. Polygons with many vertices also
+ * get a latitude band index: each horizontal band lists only the edges that cross it, so the ray cast
+ * tests a handful of edges instead of the whole ring.
+ * </p>
+ * <p>
+ * The ray-casting rule is identical to the original {@code LocationValidator} implementation, where
+ * {@code x} is the longitude and {@code y} is the latitude.
+ * </p>
+ */
+public final class CompiledPolygon {
+
+    /**
+     * Rings with fewer vertices than this are scanned linearly; the band index would not pay off.
+     */
+    static final int BAND_INDEX_THRESHOLD = 16;
+
+    private static final int MAX_BANDS = 64;
+
+    public static final CompiledPolygon EMPTY = new CompiledPolygon(new double[0], new double[0]);
+
+    private final double[] xs;
+    private final double[] ys;
+    private final int vertexCount;
+
+    private final double minX;
+    private final double maxX;
+    private final double minY;
+    private final double maxY;
+
+    private final int bandCount;
+    private final double bandsPerDegree;
+    private final int[] bandOffsets;
+    private final int[] bandEdges;
+
+    private CompiledPolygon(double[] xs, double[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+        this.vertexCount = xs.length;
+
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < vertexCount; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+
+        if (vertexCount >= BAND_INDEX_THRESHOLD && maxY > minY) {
+            this.bandCount = Math.min(MAX_BANDS, vertexCount / 2);
+            this.bandsPerDegree = bandCount / (maxY - minY);
+            int[][] index = buildBandIndex();
+            this.bandOffsets = index[0];
+            this.bandEdges = index[1];
+        } else {
+            this.bandCount = 0;
+            this.bandsPerDegree = 0;
+            this.bandOffsets = null;
+            this.bandEdges = null;
+        }
+    }
+
+    /**
+     * Compiles the outer ring of the given polygon.
+     *
+     * @param polygon the polygon geometry of a location
+     * @return the compiled polygon, or {@link #EMPTY} if the polygon has no outer ring
+     */
+    public static CompiledPolygon compile(GeoJsonPolygon polygon) {
+        if (polygon == null) {
+            return EMPTY;
+        }
+        List<GeoJsonLineString> lineStrings = polygon.getCoordinates();
+        if (lineStrings.isEmpty() || lineStrings.getFirst() == null) {
+            return EMPTY;
+        }
+
+        List<Point> points = lineStrings.getFirst().getCoordinates();
+        double[] xs = new double[points.size()];
+        double[] ys = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            Point point = points.get(i);
+            xs[i] = point.getX(); //longitude
+            ys[i] = point.getY(); //latitude
+        }
+        return new CompiledPolygon(xs, ys);
+    }
+
+    public boolean isEmpty() {
+        return vertexCount == 0;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Checks whether the given coordinate lies inside the polygon.
+     *
+     * @param latitude the latitude of the point to check
+     * @param longitude the longitude of the point to check
+     * @return {@code true} if the point is inside the polygon, {@code false} otherwise
+     */
+    public boolean contains(double latitude, double longitude) {
+        if (vertexCount == 0
+                || latitude < minY || latitude > maxY
+                || longitude < minX || longitude > maxX) {
+            return false;
+        }
+        if (bandOffsets == null) {
+            return containsLinear(latitude, longitude);
+        }
+
+        int band = bandOf(latitude);
+        boolean inside = false;
+        for (int k = bandOffsets[band], end = bandOffsets[band + 1]; k < end; k++) {
+            if (crosses(bandEdges[k], latitude, longitude)) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private boolean containsLinear(double latitude, double longitude) {
+        boolean inside = false;
+        for (int i = 0; i < vertexCount; i++) {
+            if (crosses(i, latitude, longitude)) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    /**
+     * Ray-casting test for the edge ending at vertex {@code i} (from vertex {@code i - 1}, wrapping around).
+     */
+    private boolean crosses(int i, double latitude, double longitude) {
+        int j = i == 0 ? vertexCount - 1 : i - 1;
+        double xi = xs[i];
+        double yi = ys[i];
+        double xj = xs[j];
+        double yj = ys[j];
+        return ((yi > latitude) != (yj > latitude)) && (longitude < (xj - xi) * (latitude - yi) / (yj - yi) + xi);
+    }
+
+    private int bandOf(double latitude) {
+        int band = (int) ((latitude - minY) * bandsPerDegree);
+        return Math.min(Math.max(band, 0), bandCount - 1);
+    }
+
+    /**
+     * Builds a compressed band index: edges of band {@code b} are {@code bandEdges[bandOffsets[b] .. bandOffsets[b + 1])}.
+     */
+    private int[][] buildBandIndex() {
+        int[] counts = new int[bandCount];
+        for (int i = 0; i < vertexCount; i++) {
+            int j = i == 0 ? vertexCount - 1 : i - 1;
+            int from = bandOf(Math.min(ys[i], ys[j]));
+            int to = bandOf(Math.max(ys[i], ys[j]));
+            for (int b = from; b <= to; b++) {
+                counts[b]++;
+            }
+        }
+
+        int[] offsets = new int[bandCount + 1];
+        for (int b = 0; b < bandCount; b++) {
+            offsets[b + 1] = offsets[b] + counts[b];
+        }
+
+        int[] edges = new int[offsets[bandCount]];
+        int[] cursor = offsets.clone();
+        for (int i = 0; i < vertexCount; i++) {
+            int j = i == 0 ? vertexCount - 1 : i - 1;
+            int from = bandOf(Math.min(ys[i], ys[j]));
+            int to = bandOf(Math.max(ys[i], ys[j]));
+            for (int b = from; b <= to; b++) {
+                edges[cursor[b]++] = i;
+            }
+        }
+        return new int[][]{offsets, edges};
+    }
+}
@@ -0,0 +1,91 @@
+package com.attendease.backend.student.service.utils.identity;
+
+import com.attendease.backend.domain.student.Students;
+import com.attendease.backend.domain.student.identity.StudentIdentity;
+import com.attendease.backend.domain.user.User;
+import com.attendease.backend.repository.students.StudentRepository;
+import com.attendease.backend.repository.users.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the {@link StudentIdentity} of authenticated students by user ID.
+ * <p>
+ * Resolving a student from the JWT subject otherwise costs a user lookup, a student lookup and
+ * the resolution of every {@code @DBRef} along the section, course and cluster chain on each request.
+ * Services that change a student's account status, section or existence, or the year level of a section,
+ * must call {@link #invalidate(String)} (or {@link #invalidateAll()} for bulk changes); entries also expire
+ * after {@code student.identity-cache.expire-after-write-minutes} as a safety net.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentIdentityCache {
+
+    private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+
+    @Value("${student.identity-cache.maximum-size:20000}")
+    private long maximumSize;
+
+    @Value("${student.identity-cache.expire-after-write-minutes:30}")
+    private long expireAfterWriteMinutes;
+
+    private Cache<String, StudentIdentity> identities;
+
+    @PostConstruct
+    public void init() {
+        identities = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Resolves the student identity of an authenticated user, loading it on a cache miss.
+     *
+     * @param userId the authenticated user's ID (JWT subject)
+     * @return the cached {@link StudentIdentity}
+     * @throws IllegalStateException if the user or its student record does not exist
+     */
+    public StudentIdentity resolve(String userId) {
+        StudentIdentity cached = identities.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        return identities.get(userId, this::load);
+    }
+
+    public void invalidate(String userId) {
+        if (userId != null) {
+            identities.invalidate(userId);
+        }
+    }
+
+    public void invalidate(Collection<String> userIds) {
+        identities.invalidateAll(userIds);
+        log.debug("Invalidated {} cached student identities", userIds.size());
+    }
+
+    public void invalidateAll() {
+        identities.invalidateAll();
+        log.debug("Invalidated all cached student identities");
+    }
+
+    private StudentIdentity load(String userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+        Students student = studentRepository.findByUser(user)
+                .orElseThrow(() -> new IllegalStateException("Student record not found for authenticated user"));
+        return StudentIdentity.of(user, student);
+    }
+}